@@ -0,0 +1,93 @@
+package com.cyberspeed.config;
+
+import com.cyberspeed.engine.GameModel;
+import com.cyberspeed.model.ScratchGameConfiguration;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * The {@code ConfigLoadBenchmark} class measures the startup of a service loading many game variants:
+ * copies of the reference configuration are read from files and compiled into {@link GameModel}s,
+ * either bound by an {@code ObjectMapper} or read by the {@link StreamingConfigReader}. Every fork runs
+ * a single shot on a fresh JVM, so the score includes the class loading and the interpreted first
+ * runs of the reading path. Add {@code -wi 5 -i 5} to compare the paths once warmed up.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(5)
+public class ConfigLoadBenchmark {
+
+  private static final String CONFIG_PATH = "json/valid/config.json";
+
+  @Param({"object-mapper", "streaming"})
+  public String reader;
+
+  @Param({"500"})
+  public int configs;
+
+  private Path directory;
+  private File[] files;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    // The files are copied as bytes so that no JSON class is loaded before the measured shot
+    byte[] content;
+    try (InputStream inputStream = ConfigLoadBenchmark.class.getClassLoader().getResourceAsStream(CONFIG_PATH)) {
+      content = inputStream.readAllBytes();
+    }
+    directory = Files.createTempDirectory("config-load-benchmark");
+    files = new File[configs];
+    for (int i = 0; i < configs; i++) {
+      files[i] = Files.write(directory.resolve("variant-" + i + ".json"), content).toFile();
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    try (Stream<Path> paths = Files.walk(directory)) {
+      paths.sorted(Comparator.reverseOrder()).forEach(path -> {
+        try {
+          Files.delete(path);
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      });
+    }
+  }
+
+  @Benchmark
+  public void loadConfigurations(Blackhole blackhole) throws IOException {
+    ObjectMapper objectMapper = reader.equals("object-mapper") ? new ObjectMapper() : null;
+    for (File file : files) {
+      ScratchGameConfiguration config = objectMapper != null
+          ? objectMapper.readValue(file, ScratchGameConfiguration.class)
+          : StreamingConfigReader.read(file);
+      blackhole.consume(GameModel.compile(config));
+    }
+  }
+}
@@ -0,0 +1,128 @@
+package com.cyberspeed.engine;
+
+import com.cyberspeed.model.PlayResult;
+import com.cyberspeed.model.ScratchGameConfiguration;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The {@code AbstractEngineBenchmark} class holds the benchmarks of the engine hot paths: drawing a
+ * symbol, generating a board, calculating the reward of a board, playing a full round, playing rounds
+ * in batches and serialising a {@link PlayResult} to JSON. Subclasses only provide the configuration
+ * under test, so every configuration is measured by exactly the same benchmarks. Rewards and results
+ * are measured over a ring of rounds prepared during setup, so the branch predictor does not learn a
+ * single board. Run with {@code -prof gc} to report the allocation rate next to the throughput.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public abstract class AbstractEngineBenchmark {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+  private static final int BET_AMOUNT = 100;
+  private static final long SEED = 42L;
+
+  // Power of two, so the ring index is a mask
+  private static final int PREPARED_ROUNDS = 1024;
+  private static final int BATCH_SIZE = 1024;
+
+  private SplittableRandom rand;
+  private ScratchGameEngine engine;
+  private WeightedSymbolSampler sampler;
+  private ScratchGameEngine.Round round;
+  private ScratchGameEngine.Round[] preparedRounds;
+  private PlayResult[] preparedResults;
+  private RoundBatch batch;
+  private int next;
+
+  /**
+   * Provides the configuration under test.
+   *
+   * @return the game configuration
+   */
+  protected abstract ScratchGameConfiguration loadConfiguration();
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    ScratchGameConfiguration config = loadConfiguration();
+    rand = new SplittableRandom(SEED);
+    engine = new ScratchGameEngine(config, BET_AMOUNT, rand);
+
+    SymbolTable symbolTable = SymbolTable.compile(config.getSymbols(), config.getProbabilities());
+    sampler = WeightedSymbolSampler.of(
+        config.getProbabilities().getStandardSymbols().get(0).getSymbols(), symbolTable);
+
+    round = engine.newRound(BET_AMOUNT);
+    batch = engine.newBatch(BATCH_SIZE, false);
+    preparedRounds = new ScratchGameEngine.Round[PREPARED_ROUNDS];
+    preparedResults = new PlayResult[PREPARED_ROUNDS];
+    for (int i = 0; i < PREPARED_ROUNDS; i++) {
+      preparedRounds[i] = engine.newRound(BET_AMOUNT);
+      engine.generateMatrix(preparedRounds[i], rand);
+      engine.applyBonusSymbol(preparedRounds[i], rand);
+      preparedResults[i] = engine.play(rand, BET_AMOUNT);
+    }
+  }
+
+  private int nextIndex() {
+    return next++ & (PREPARED_ROUNDS - 1);
+  }
+
+  @Benchmark
+  public int selectSymbol() {
+    return sampler.sample(rand);
+  }
+
+  @Benchmark
+  public int[] generateMatrix() {
+    engine.generateMatrix(round, rand);
+    return round.board;
+  }
+
+  @Benchmark
+  public int calculateReward() {
+    ScratchGameEngine.Round prepared = preparedRounds[nextIndex()];
+    engine.calculateReward(prepared);
+    return prepared.reward;
+  }
+
+  @Benchmark
+  public int startGame() {
+    engine.startGame();
+    return engine.getReward();
+  }
+
+  @Benchmark
+  public PlayResult play() {
+    return engine.play(rand, BET_AMOUNT);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public int[] playBatch() {
+    engine.playBatch(rand, BET_AMOUNT, batch, BATCH_SIZE);
+    return batch.getRewards();
+  }
+
+  @Benchmark
+  public byte[] serializePlayResult() throws JsonProcessingException {
+    return OBJECT_MAPPER.writeValueAsBytes(preparedResults[nextIndex()]);
+  }
+}
@@ -0,0 +1,24 @@
+package com.cyberspeed.engine;
+
+import com.cyberspeed.config.ConfigParser;
+import com.cyberspeed.model.ScratchGameConfiguration;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * The {@code ConfigFileBenchmark} class runs the engine benchmarks against the configurations shipped
+ * with the tests: the reference configuration and a deterministic configuration on which every round
+ * wins, which keeps the whole reward calculation on the measured path.
+ */
+public class ConfigFileBenchmark extends AbstractEngineBenchmark {
+
+  @Param({
+      "json/valid/config.json",
+      "json/deterministic/test-symbol_A_deterministic-win-with-multiply_reward_10x.json"
+  })
+  public String config;
+
+  @Override
+  protected ScratchGameConfiguration loadConfiguration() {
+    return new ConfigParser(config).load();
+  }
+}
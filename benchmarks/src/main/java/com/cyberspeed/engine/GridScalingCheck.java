@@ -0,0 +1,67 @@
+package com.cyberspeed.engine;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * The {@code GridScalingCheck} class checks the scaling guarantee of the engine: evaluating and playing
+ * a round on a 10x10 grid must not be more than {@value #MAX_SLOWDOWN} times slower than on a 3x3 grid,
+ * the ratio of their cell counts, so the cost of a round grows at most linearly with the board. It runs
+ * {@link SyntheticConfigBenchmark} on both grids with the same symbols and win combinations, prints the
+ * slowdown of every benchmark and exits with status 1 if one exceeds the bound. Run it from the
+ * benchmarks directory with {@code java -cp target/benchmarks.jar com.cyberspeed.engine.GridScalingCheck}.
+ */
+public final class GridScalingCheck {
+
+  private static final String[] BENCHMARKS = {"calculateReward", "playBatch", "play"};
+  private static final int SMALL_GRID = 3;
+  private static final int LARGE_GRID = 10;
+  private static final double MAX_SLOWDOWN = (double) (LARGE_GRID * LARGE_GRID) / (SMALL_GRID * SMALL_GRID);
+
+  private GridScalingCheck() {
+    throw new AssertionError("Utility class should not be instantiated");
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    Options options = new OptionsBuilder()
+        .include(SyntheticConfigBenchmark.class.getName() + "\\.(" + String.join("|", BENCHMARKS) + ")$")
+        .param("gridSize", String.valueOf(SMALL_GRID), String.valueOf(LARGE_GRID))
+        .param("symbolCount", "6")
+        .param("winCombinations", "11")
+        .warmupIterations(3)
+        .warmupTime(TimeValue.seconds(1))
+        .measurementIterations(5)
+        .measurementTime(TimeValue.seconds(1))
+        .forks(1)
+        .build();
+    Collection<RunResult> results = new Runner(options).run();
+
+    Map<String, Double> smallGrid = new HashMap<>();
+    Map<String, Double> largeGrid = new HashMap<>();
+    for (RunResult result : results) {
+      String benchmark = result.getParams().getBenchmark();
+      int gridSize = Integer.parseInt(result.getParams().getParam("gridSize"));
+      double throughput = result.getPrimaryResult().getScore();
+      (gridSize == SMALL_GRID ? smallGrid : largeGrid).put(benchmark, throughput);
+    }
+
+    boolean withinBound = true;
+    for (String benchmark : smallGrid.keySet()) {
+      double slowdown = smallGrid.get(benchmark) / largeGrid.get(benchmark);
+      boolean ok = slowdown <= MAX_SLOWDOWN;
+      withinBound &= ok;
+      System.out.printf("%-70s %dx%d is %.1f times slower than %dx%d (bound %.1f) %s%n", benchmark,
+          LARGE_GRID, LARGE_GRID, slowdown, SMALL_GRID, SMALL_GRID, MAX_SLOWDOWN, ok ? "OK" : "EXCEEDED");
+    }
+    if (!withinBound) {
+      System.exit(1);
+    }
+  }
+}
@@ -0,0 +1,79 @@
+package com.cyberspeed.engine;
+
+import com.cyberspeed.config.ConfigParser;
+import com.cyberspeed.metrics.RoundMetrics;
+import com.cyberspeed.model.PlayResult;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The {@code RoundMetricsBenchmark} class measures the overhead of recording {@link RoundMetrics}:
+ * the same rounds are played by an engine without metrics and by an instrumented one. Run it with
+ * {@code -t} above 1 to see the recording scale across threads.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RoundMetricsBenchmark {
+
+  private static final String CONFIG_PATH = "json/valid/config.json";
+  private static final int BET_AMOUNT = 100;
+  private static final long SEED = 42L;
+  private static final int BATCH_SIZE = 1024;
+
+  /**
+   * Engines are shared by the benchmark threads, like the engine of the play server.
+   */
+  @State(Scope.Benchmark)
+  public static class SharedEngine {
+
+    @Param({"false", "true"})
+    public boolean metrics;
+
+    ScratchGameEngine engine;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+      GameModel model = GameModel.compile(new ConfigParser(CONFIG_PATH).load());
+      engine = new ScratchGameEngine(model, BET_AMOUNT, new SplittableRandom(SEED),
+          metrics ? new RoundMetrics() : null);
+    }
+  }
+
+  private SplittableRandom rand;
+  private RoundBatch batch;
+
+  @Setup(Level.Trial)
+  public void setUp(SharedEngine shared) {
+    rand = new SplittableRandom(SEED);
+    batch = shared.engine.newBatch(BATCH_SIZE, false);
+  }
+
+  @Benchmark
+  public PlayResult play(SharedEngine shared) {
+    return shared.engine.play(rand, BET_AMOUNT);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public int[] playBatch(SharedEngine shared) {
+    shared.engine.playBatch(rand, BET_AMOUNT, batch, BATCH_SIZE);
+    return batch.getRewards();
+  }
+}
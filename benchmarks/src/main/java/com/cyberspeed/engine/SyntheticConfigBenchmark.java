@@ -0,0 +1,28 @@
+package com.cyberspeed.engine;
+
+import com.cyberspeed.model.ScratchGameConfiguration;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * The {@code SyntheticConfigBenchmark} class runs the engine benchmarks against generated
+ * configurations, to show how the hot paths scale with the grid size, the number of standard symbols
+ * and the number of win combinations. The 10x10 grid is beyond the single-word bitboard, so it also
+ * measures the evaluation of boards larger than 64 cells. {@link GridScalingCheck} asserts that a
+ * 10x10 round is no more than 11.1 times, its ratio of cells, slower than a 3x3 one.
+ */
+public class SyntheticConfigBenchmark extends AbstractEngineBenchmark {
+
+  @Param({"3", "5", "10"})
+  public int gridSize;
+
+  @Param({"6", "12"})
+  public int symbolCount;
+
+  @Param({"4", "11"})
+  public int winCombinations;
+
+  @Override
+  protected ScratchGameConfiguration loadConfiguration() {
+    return SyntheticConfigurations.create(gridSize, symbolCount, winCombinations);
+  }
+}
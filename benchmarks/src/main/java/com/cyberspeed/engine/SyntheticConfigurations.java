@@ -0,0 +1,148 @@
+package com.cyberspeed.engine;
+
+import com.cyberspeed.model.BonusSymbolProbability;
+import com.cyberspeed.model.Probabilities;
+import com.cyberspeed.model.ScratchGameConfiguration;
+import com.cyberspeed.model.StandardSymbolProbability;
+import com.cyberspeed.model.SymbolDefinition;
+import com.cyberspeed.model.WinCombination;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The {@code SyntheticConfigurations} class generates game configurations of a given shape for the
+ * benchmarks. Standard symbols are weighted unevenly, every cell has its own probability entry like
+ * the reference configuration, and the bonus symbols are those of the reference configuration. Win
+ * combinations are taken in a fixed order (three of a kind, the four line directions, then the larger
+ * same-symbol counts) so that configurations with more combinations extend those with fewer.
+ */
+final class SyntheticConfigurations {
+
+  private SyntheticConfigurations() {
+    throw new AssertionError("Utility class should not be instantiated");
+  }
+
+  /**
+   * Generates a square configuration.
+   *
+   * @param gridSize the number of rows and columns
+   * @param symbolCount the number of standard symbols
+   * @param winCombinations the maximum number of win combinations
+   * @return the generated configuration
+   */
+  static ScratchGameConfiguration create(int gridSize, int symbolCount, int winCombinations) {
+    ScratchGameConfiguration config = new ScratchGameConfiguration();
+    config.setRows(gridSize);
+    config.setColumns(gridSize);
+
+    Map<String, SymbolDefinition> symbols = new LinkedHashMap<>();
+    Map<String, Integer> standardWeights = new LinkedHashMap<>();
+    for (int i = 0; i < symbolCount; i++) {
+      String name = "S" + i;
+      symbols.put(name, symbol("standard", 1 + 0.5 * (symbolCount - i), null, null));
+      standardWeights.put(name, i + 1);
+    }
+    symbols.put("10x", symbol("bonus", 10, "multiply_reward", null));
+    symbols.put("5x", symbol("bonus", 5, "multiply_reward", null));
+    symbols.put("+1000", symbol("bonus", 0, "extra_bonus", 1000));
+    symbols.put("+500", symbol("bonus", 0, "extra_bonus", 500));
+    symbols.put("MISS", symbol("bonus", 0, "miss", null));
+    config.setSymbols(symbols);
+
+    List<StandardSymbolProbability> standardSymbols = new ArrayList<>();
+    for (int row = 0; row < gridSize; row++) {
+      for (int column = 0; column < gridSize; column++) {
+        StandardSymbolProbability prob = new StandardSymbolProbability();
+        prob.setRow(row);
+        prob.setColumn(column);
+        prob.setSymbols(standardWeights);
+        standardSymbols.add(prob);
+      }
+    }
+    Map<String, Integer> bonusWeights = new LinkedHashMap<>();
+    bonusWeights.put("10x", 1);
+    bonusWeights.put("5x", 2);
+    bonusWeights.put("+1000", 3);
+    bonusWeights.put("+500", 4);
+    bonusWeights.put("MISS", 5);
+    Probabilities probabilities = new Probabilities();
+    probabilities.setStandardSymbols(standardSymbols);
+    probabilities.setBonusSymbols(new BonusSymbolProbability(bonusWeights));
+    config.setProbabilities(probabilities);
+
+    config.setWinCombinations(winCombinations(gridSize, winCombinations));
+    return config;
+  }
+
+  private static Map<String, WinCombination> winCombinations(int gridSize, int limit) {
+    Map<String, WinCombination> all = new LinkedHashMap<>();
+    all.put("same_symbol_3_times", sameSymbols(3));
+
+    List<List<String>> rows = new ArrayList<>();
+    List<List<String>> columns = new ArrayList<>();
+    List<String> leftToRight = new ArrayList<>();
+    List<String> rightToLeft = new ArrayList<>();
+    for (int i = 0; i < gridSize; i++) {
+      List<String> row = new ArrayList<>();
+      List<String> column = new ArrayList<>();
+      for (int j = 0; j < gridSize; j++) {
+        row.add(i + ":" + j);
+        column.add(j + ":" + i);
+      }
+      rows.add(row);
+      columns.add(column);
+      leftToRight.add(i + ":" + i);
+      rightToLeft.add(i + ":" + (gridSize - 1 - i));
+    }
+    all.put("same_symbols_horizontally", linearSymbols("horizontally_linear_symbols", 2, rows));
+    all.put("same_symbols_vertically", linearSymbols("vertically_linear_symbols", 2, columns));
+    all.put("same_symbols_diagonally_left_to_right",
+        linearSymbols("ltr_diagonally_linear_symbols", 5, List.of(leftToRight)));
+    all.put("same_symbols_diagonally_right_to_left",
+        linearSymbols("rtl_diagonally_linear_symbols", 5, List.of(rightToLeft)));
+
+    for (int count = 4; count <= gridSize * gridSize; count++) {
+      all.put("same_symbol_" + count + "_times", sameSymbols(count));
+    }
+
+    Map<String, WinCombination> selected = new LinkedHashMap<>();
+    for (Map.Entry<String, WinCombination> entry : all.entrySet()) {
+      if (selected.size() == limit) {
+        break;
+      }
+      selected.put(entry.getKey(), entry.getValue());
+    }
+    return selected;
+  }
+
+  private static SymbolDefinition symbol(String type, double rewardMultiplier, String impact, Integer extra) {
+    SymbolDefinition definition = new SymbolDefinition();
+    definition.setType(type);
+    definition.setRewardMultiplier(rewardMultiplier);
+    if (impact != null) {
+      definition.setImpact(impact);
+    }
+    definition.setExtra(extra);
+    return definition;
+  }
+
+  private static WinCombination sameSymbols(int count) {
+    WinCombination wc = new WinCombination();
+    wc.setWhen(WinCondition.SAME_SYMBOLS.getValue());
+    wc.setGroup("same_symbols");
+    wc.setCount(count);
+    wc.setRewardMultiplier(count / 3.0);
+    return wc;
+  }
+
+  private static WinCombination linearSymbols(String group, double rewardMultiplier, List<List<String>> areas) {
+    WinCombination wc = new WinCombination();
+    wc.setWhen(WinCondition.LINEAR_SYMBOLS.getValue());
+    wc.setGroup(group);
+    wc.setRewardMultiplier(rewardMultiplier);
+    wc.setCoveredAreas(areas);
+    return wc;
+  }
+}
@@ -0,0 +1,89 @@
+package com.cyberspeed.util;
+
+import com.cyberspeed.cli.CliArgs;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The {@code LoggingBenchmark} class measures the cost of a disabled log message: the INFO level is
+ * switched off, as in a service logging at WARNING, and the same lookup is traced the way
+ * {@link CliArgs} used to, eagerly formatted, and through the {@link GameLogger} facade. A plain map
+ * lookup is the baseline the facade should match.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoggingBenchmark {
+
+  private static final String LOGGER_NAME = LoggingBenchmark.class.getName();
+  private static final String KEY = "betting-amount";
+
+  private Logger julLogger;
+  private GameLogger logger;
+  private Map<String, String> arguments;
+  private CliArgs cliArgs;
+  private int bettingAmount = 1000;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    logger = LoggingUtils.getLogger(LOGGER_NAME);
+    julLogger = logger.getLogger();
+    julLogger.setLevel(java.util.logging.Level.WARNING);
+    Logger.getLogger(CliArgs.class.getName()).setLevel(java.util.logging.Level.WARNING);
+    arguments = Map.of("config", "config.json", KEY, "100");
+    cliArgs = new CliArgs(arguments);
+  }
+
+  @Benchmark
+  public String mapLookup() {
+    return arguments.get(KEY);
+  }
+
+  @Benchmark
+  public String eagerFormat() {
+    String value = arguments.get(KEY);
+    julLogger.info(String.format("Retrieving argument with key '%s', value: %s", KEY, value));
+    return value;
+  }
+
+  @Benchmark
+  public String guardedFormat() {
+    String value = arguments.get(KEY);
+    logger.info("Retrieving argument with key '%s', value: %s", KEY, value);
+    return value;
+  }
+
+  @Benchmark
+  public int guardedPrimitive() {
+    // Outside the Integer cache, so boxing it would allocate
+    logger.info("Validated betting amount: %d", bettingAmount);
+    return bettingAmount;
+  }
+
+  @Benchmark
+  public String suppliedMessage() {
+    String value = arguments.get(KEY);
+    logger.info(() -> "Retrieving argument with key '" + KEY + "', value: " + value);
+    return value;
+  }
+
+  @Benchmark
+  public String cliArgsGet() {
+    return cliArgs.get(KEY);
+  }
+}
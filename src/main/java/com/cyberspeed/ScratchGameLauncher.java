@@ -2,14 +2,16 @@ package com.cyberspeed;
 
 import com.cyberspeed.cli.CliArgsParser;
 import com.cyberspeed.config.ConfigParser;
+import com.cyberspeed.config.ConfigReloader;
 import com.cyberspeed.exception.CliArgumentException;
 import com.cyberspeed.init.GameInitializer;
 import com.cyberspeed.model.ScratchGameConfiguration;
 import com.cyberspeed.ui.GameWindow;
 import com.cyberspeed.ui.ScratchGamePanel;
+import com.cyberspeed.util.GameLogger;
 import com.cyberspeed.util.LoggingUtils;
+import java.util.List;
 import java.util.logging.Level;
-import java.util.logging.Logger;
 import javax.swing.JOptionPane;
 import javax.swing.SwingUtilities;
 
@@ -19,33 +21,53 @@ import javax.swing.SwingUtilities;
  * the game components, and launching the game window. The class handles exceptions that may occur
  * during these processes, logging errors and displaying error messages to the user. It ensures that
  * the game is started with the correct configuration and betting amount, and manages the lifecycle
- * of the game window.
+ * of the game window. With {@code --watch-config true} the configuration file is watched by a
+ * {@link ConfigReloader}, and every game started after a valid change is played on the new configuration.
  */
 public class ScratchGameLauncher {
 
-  private static final Logger LOGGER = LoggingUtils.getLogger(ScratchGameLauncher.class.getName());
+  private static final GameLogger LOGGER = LoggingUtils.getLogger(ScratchGameLauncher.class.getName());
+  private static final List<String> ALLOWED_KEYS = List.of("config", "betting-amount", "watch-config");
 
+  private final String configPath;
   private final ConfigParser configParser;
   private final GameInitializer initializer;
   private final GameWindow window;
   private final int bettingAmount;
+  private final boolean watchConfig;
 
   public ScratchGameLauncher(String configPath, int bettingAmount) {
+    this(configPath, bettingAmount, false);
+  }
+
+  public ScratchGameLauncher(String configPath, int bettingAmount, boolean watchConfig) {
+    this.configPath = configPath;
     this.configParser = new ConfigParser(configPath);
     this.bettingAmount = bettingAmount;
+    this.watchConfig = watchConfig;
     this.initializer = new GameInitializer();
     this.window = new GameWindow("Scratch Game", 600, 600);
 
-    LOGGER.info("Initialized ScratchGameLauncher with config: " + configPath + " and bet: " + bettingAmount);
+    LOGGER.info("Initialized ScratchGameLauncher with config: " + configPath + ", bet: " + bettingAmount
+        + " and watch-config: " + watchConfig);
   }
 
   public void run() {
     try {
-      LOGGER.info("Loading configuration...");
-      final ScratchGameConfiguration config = configParser.load();
+      if (watchConfig) {
+        LOGGER.info("Loading configuration and watching it for changes...");
+        final ConfigReloader reloader = new ConfigReloader(configPath, bettingAmount);
+        reloader.start();
+
+        LOGGER.info("Initializing game...");
+        initializer.initialize(reloader, bettingAmount);
+      } else {
+        LOGGER.info("Loading configuration...");
+        final ScratchGameConfiguration config = configParser.load();
 
-      LOGGER.info("Initializing game...");
-      initializer.initialize(config, bettingAmount);
+        LOGGER.info("Initializing game...");
+        initializer.initialize(config, bettingAmount);
+      }
 
       final ScratchGamePanel panel = initializer.getGamePanel();
       LOGGER.info("Displaying game panel...");
@@ -60,14 +82,15 @@ public class ScratchGameLauncher {
   public static void main(String[] args) {
     try {
       LOGGER.info("Parsing CLI arguments...");
-      var parser = new CliArgsParser();
+      var parser = new CliArgsParser(ALLOWED_KEYS);
       var commandLineArgs = parser.parse(args);
 
       String configPath = commandLineArgs.getRequired("config");
       int bettingAmount = Integer.parseInt(commandLineArgs.getRequired("betting-amount"));
+      boolean watchConfig = Boolean.parseBoolean(commandLineArgs.getOrDefault("watch-config", "false"));
 
       LOGGER.info("Launching game with config: " + configPath + " and bettingAmount: " + bettingAmount);
-      SwingUtilities.invokeLater(() -> new ScratchGameLauncher(configPath, bettingAmount).run());
+      SwingUtilities.invokeLater(() -> new ScratchGameLauncher(configPath, bettingAmount, watchConfig).run());
 
     } catch (CliArgumentException e) {
       LOGGER.warning("CLI Error: " + e.getMessage());
@@ -0,0 +1,112 @@
+package com.cyberspeed;
+
+import com.cyberspeed.cli.CliArgsParser;
+import com.cyberspeed.config.ConfigParser;
+import com.cyberspeed.engine.ScratchGameEngine;
+import com.cyberspeed.exception.CliArgumentException;
+import com.cyberspeed.exception.ConfigFileParsingException;
+import com.cyberspeed.exception.InvalidBettingAmountException;
+import com.cyberspeed.exception.InvalidGameConfigurationException;
+import com.cyberspeed.exception.TicketPoolException;
+import com.cyberspeed.model.ScratchGameConfiguration;
+import com.cyberspeed.pool.TicketPool;
+import com.cyberspeed.pool.TicketPoolWriter;
+import com.cyberspeed.util.GameLogger;
+import com.cyberspeed.util.LoggingUtils;
+import com.cyberspeed.util.RandomUtils;
+import com.cyberspeed.validator.CliArgsValidator;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@code ScratchGamePoolLauncher} class is the entry point of the ticket pool generation. It loads
+ * a game configuration, plays the requested number of tickets and writes them to a ticket pool file
+ * that can then be memory-mapped by {@link TicketPool} and dealt without playing any further round.
+ * The prize structure of the pool is read back from the written file and printed, and the same pool
+ * can be generated again by passing the seed printed with it.
+ */
+public class ScratchGamePoolLauncher {
+
+  private static final GameLogger LOGGER = LoggingUtils.getLogger(ScratchGamePoolLauncher.class.getName());
+  private static final List<String> ALLOWED_KEYS = List.of("config", "betting-amount", "tickets", "output", "seed", "rng");
+
+  private final ConfigParser configParser;
+  private final int bettingAmount;
+  private final long tickets;
+  private final Path output;
+  private final long seed;
+  private final String algorithm;
+
+  public ScratchGamePoolLauncher(String configPath, int bettingAmount, long tickets, Path output, long seed,
+      String algorithm) {
+    this.configParser = new ConfigParser(configPath);
+    this.bettingAmount = bettingAmount;
+    this.tickets = tickets;
+    this.output = output;
+    this.seed = seed;
+    this.algorithm = algorithm;
+
+    LOGGER.info("Initialized ScratchGamePoolLauncher with config: " + configPath + ", bet: " + bettingAmount
+        + ", tickets: " + tickets + ", output: " + output + ", seed: " + seed + " and rng: " + algorithm);
+  }
+
+  public long run() {
+    LOGGER.info("Loading configuration...");
+    final ScratchGameConfiguration config = configParser.load();
+
+    final ScratchGameEngine engine = new ScratchGameEngine(config, bettingAmount);
+    final long start = System.nanoTime();
+    final long totalReward = new TicketPoolWriter(engine)
+        .write(output, tickets, bettingAmount, RandomUtils.create(algorithm, seed));
+    final long elapsedNanos = System.nanoTime() - start;
+
+    try (TicketPool pool = TicketPool.open(output)) {
+      System.out.println(pool.statistics().toReport());
+    }
+    System.out.printf("Output: %s (%,d bytes)%n", output, output.toFile().length());
+    System.out.printf("Seed: %d, rng: %s%n", seed, algorithm);
+    System.out.printf("Elapsed: %.3f s%n", elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1));
+    return totalReward;
+  }
+
+  public static void main(String[] args) {
+    try {
+      LOGGER.info("Parsing CLI arguments...");
+      var parser = new CliArgsParser(ALLOWED_KEYS);
+      var commandLineArgs = parser.parse(args);
+
+      String configPath = commandLineArgs.getRequired("config");
+      int bettingAmount = Integer.parseInt(commandLineArgs.getRequired("betting-amount"));
+      CliArgsValidator.validateBettingAmount(bettingAmount);
+      long tickets = Long.parseLong(commandLineArgs.getRequired("tickets"));
+      if (tickets <= 0) {
+        throw new CliArgumentException("Number of tickets must be greater than 0");
+      }
+      Path output = Path.of(commandLineArgs.getRequired("output"));
+      long seed = commandLineArgs.containsKey("seed")
+          ? Long.parseLong(commandLineArgs.get("seed"))
+          : new SplittableRandom().nextLong();
+      String algorithm = commandLineArgs.getOrDefault("rng", RandomUtils.DEFAULT_ALGORITHM);
+
+      new ScratchGamePoolLauncher(configPath, bettingAmount, tickets, output, seed, algorithm).run();
+
+    } catch (CliArgumentException e) {
+      LOGGER.warning("CLI Error: " + e.getMessage());
+      System.exit(1);
+    } catch (NumberFormatException e) {
+      LOGGER.warning("Invalid numeric input: " + e.getMessage());
+      System.exit(1);
+    } catch (InvalidBettingAmountException | IllegalArgumentException e) {
+      LOGGER.warning("Validation Error: " + e.getMessage());
+      System.exit(1);
+    } catch (ConfigFileParsingException | InvalidGameConfigurationException e) {
+      LOGGER.warning("Configuration Error: " + e.getMessage());
+      System.exit(1);
+    } catch (TicketPoolException e) {
+      LOGGER.warning("Ticket Pool Error: " + e.getMessage());
+      System.exit(1);
+    }
+  }
+}
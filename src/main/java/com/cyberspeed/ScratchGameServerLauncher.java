@@ -0,0 +1,133 @@
+package com.cyberspeed;
+
+import com.cyberspeed.cli.CliArgsParser;
+import com.cyberspeed.config.ConfigReloader;
+import com.cyberspeed.exception.CliArgumentException;
+import com.cyberspeed.exception.ConfigFileParsingException;
+import com.cyberspeed.exception.InvalidBettingAmountException;
+import com.cyberspeed.exception.InvalidGameConfigurationException;
+import com.cyberspeed.exception.PlayServerException;
+import com.cyberspeed.metrics.RoundMetrics;
+import com.cyberspeed.server.ScratchGameServer;
+import com.cyberspeed.util.GameLogger;
+import com.cyberspeed.util.LoggingUtils;
+import com.cyberspeed.util.RandomUtils;
+import com.cyberspeed.validator.CliArgsValidator;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator.SplittableGenerator;
+
+/**
+ * The {@code ScratchGameServerLauncher} class is the entry point of the headless server mode. It loads
+ * a game configuration and serves rounds over HTTP with {@link ScratchGameServer} until the process is
+ * stopped. The betting amount is used by requests that do not specify their own, and with
+ * {@code --watch-config true} changes to the configuration file are applied without restarting.
+ * Round metrics are exposed on {@code /metrics} and over JMX unless {@code --metrics false} is given.
+ * Rounds are drawn from generators split from one generator of the {@code --rng} algorithm, seeded with
+ * {@code --seed} or a random seed that is logged, so the served rounds can be replayed.
+ */
+public class ScratchGameServerLauncher {
+
+  private static final GameLogger LOGGER = LoggingUtils.getLogger(ScratchGameServerLauncher.class.getName());
+  private static final List<String> ALLOWED_KEYS = List.of("config", "betting-amount", "port", "workers",
+      "watch-config", "metrics", "seed", "rng");
+  private static final int DEFAULT_PORT = 8080;
+
+  private final String configPath;
+  private final int bettingAmount;
+  private final int port;
+  private final int workers;
+  private final boolean watchConfig;
+  private final boolean metrics;
+  private final long seed;
+  private final String algorithm;
+
+  public ScratchGameServerLauncher(String configPath, int bettingAmount, int port, int workers, boolean watchConfig,
+      boolean metrics, long seed, String algorithm) {
+    this.configPath = configPath;
+    this.bettingAmount = bettingAmount;
+    this.port = port;
+    this.workers = workers;
+    this.watchConfig = watchConfig;
+    this.metrics = metrics;
+    this.seed = seed;
+    this.algorithm = algorithm;
+
+    LOGGER.info("Initialized ScratchGameServerLauncher with config: " + configPath + ", bet: " + bettingAmount
+        + ", port: " + port + ", workers: " + workers + ", watch-config: " + watchConfig + ", metrics: " + metrics
+        + ", seed: " + seed + " and rng: " + algorithm);
+  }
+
+  public ScratchGameServer run() {
+    LOGGER.info("Loading configuration...");
+    final SplittableGenerator generator = RandomUtils.createSplittable(algorithm, seed);
+    final RoundMetrics roundMetrics = metrics ? new RoundMetrics() : null;
+    if (roundMetrics != null) {
+      roundMetrics.registerMBean();
+    }
+    final ConfigReloader reloader = new ConfigReloader(configPath, bettingAmount, roundMetrics,
+        () -> RandomUtils.create(algorithm));
+    if (watchConfig) {
+      reloader.start();
+    }
+
+    final ScratchGameServer server = new ScratchGameServer(reloader, bettingAmount, new InetSocketAddress(port),
+        workers, roundMetrics, generator);
+    Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+      server.close();
+      reloader.close();
+    }, "play-server-shutdown"));
+    server.start();
+    return server;
+  }
+
+  public static void main(String[] args) {
+    // Request threads must never wait for the console
+    LoggingUtils.useAsyncHandlers(LoggingUtils.DEFAULT_ASYNC_CAPACITY);
+    try {
+      LOGGER.info("Parsing CLI arguments...");
+      var parser = new CliArgsParser(ALLOWED_KEYS);
+      var commandLineArgs = parser.parse(args);
+
+      String configPath = commandLineArgs.getRequired("config");
+      int bettingAmount = Integer.parseInt(commandLineArgs.getRequired("betting-amount"));
+      CliArgsValidator.validateBettingAmount(bettingAmount);
+      int port = Integer.parseInt(commandLineArgs.getOrDefault("port", String.valueOf(DEFAULT_PORT)));
+      if (port < 0 || port > 0xFFFF) {
+        throw new CliArgumentException("Port must be between 0 and 65535");
+      }
+      int workers = Integer.parseInt(commandLineArgs.getOrDefault("workers",
+          String.valueOf(2 * Runtime.getRuntime().availableProcessors())));
+      if (workers <= 0) {
+        throw new CliArgumentException("Number of workers must be greater than 0");
+      }
+      boolean watchConfig = Boolean.parseBoolean(commandLineArgs.getOrDefault("watch-config", "false"));
+      boolean metrics = Boolean.parseBoolean(commandLineArgs.getOrDefault("metrics", "true"));
+      long seed = commandLineArgs.containsKey("seed")
+          ? Long.parseLong(commandLineArgs.get("seed"))
+          : new SplittableRandom().nextLong();
+      String algorithm = commandLineArgs.getOrDefault("rng", RandomUtils.DEFAULT_ALGORITHM);
+
+      // The server threads keep the process alive once main returns
+      new ScratchGameServerLauncher(configPath, bettingAmount, port, workers, watchConfig, metrics, seed,
+          algorithm).run();
+
+    } catch (CliArgumentException e) {
+      LOGGER.warning("CLI Error: " + e.getMessage());
+      System.exit(1);
+    } catch (NumberFormatException e) {
+      LOGGER.warning("Invalid numeric input: " + e.getMessage());
+      System.exit(1);
+    } catch (InvalidBettingAmountException | IllegalArgumentException e) {
+      LOGGER.warning("Validation Error: " + e.getMessage());
+      System.exit(1);
+    } catch (ConfigFileParsingException | InvalidGameConfigurationException e) {
+      LOGGER.warning("Configuration Error: " + e.getMessage());
+      System.exit(1);
+    } catch (PlayServerException e) {
+      LOGGER.warning("Server Error: " + e.getMessage());
+      System.exit(1);
+    }
+  }
+}
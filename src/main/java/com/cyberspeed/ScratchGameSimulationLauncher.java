@@ -0,0 +1,173 @@
+package com.cyberspeed;
+
+import com.cyberspeed.cli.CliArgsParser;
+import com.cyberspeed.config.ConfigParser;
+import com.cyberspeed.engine.ExactRtpCalculator;
+import com.cyberspeed.engine.RewardDistribution;
+import com.cyberspeed.exception.CliArgumentException;
+import com.cyberspeed.exception.ConfigFileParsingException;
+import com.cyberspeed.exception.InvalidBettingAmountException;
+import com.cyberspeed.exception.InvalidGameConfigurationException;
+import com.cyberspeed.exception.RoundOutputException;
+import com.cyberspeed.model.ScratchGameConfiguration;
+import com.cyberspeed.output.PlayResultNdjsonWriter;
+import com.cyberspeed.simulation.SimulationRunner;
+import com.cyberspeed.simulation.SimulationStatistics;
+import com.cyberspeed.util.GameLogger;
+import com.cyberspeed.util.LoggingUtils;
+import com.cyberspeed.util.RandomUtils;
+import com.cyberspeed.validator.CliArgsValidator;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@code ScratchGameSimulationLauncher} class is the entry point of the headless simulation mode.
+ * It loads a game configuration, plays the requested number of rounds without any user interface and
+ * prints a report with the return to player, hit frequency, reward distribution and per-combination
+ * trigger rates to the standard output. It is used to certify a configuration before it is deployed.
+ * Rounds are spread over all available processors unless a number of workers is given, and a run can
+ * be reproduced by passing the seed printed with its report together with the same number of workers
+ * and random generator algorithm. With {@code --mode exact} the rounds are not simulated at all: the
+ * exact reward distribution is computed by {@link ExactRtpCalculator} instead, spread over the workers.
+ * With {@code --output} every simulated round is also written as a line of JSON to a file, gzip-compressed
+ * if its name ends with {@code .gz}, or to the standard output with {@code -}.
+ */
+public class ScratchGameSimulationLauncher {
+
+  private static final GameLogger LOGGER = LoggingUtils.getLogger(ScratchGameSimulationLauncher.class.getName());
+  private static final List<String> ALLOWED_KEYS = List.of("config", "betting-amount", "rounds", "workers", "seed", "rng", "mode",
+      "output");
+  private static final String MODE_SIMULATION = "simulation";
+  private static final String MODE_EXACT = "exact";
+  private static final String STANDARD_OUTPUT = "-";
+
+  private final ConfigParser configParser;
+  private final int bettingAmount;
+  private final long rounds;
+  private final int workers;
+  private final long seed;
+  private final String algorithm;
+  private final String output;
+
+  public ScratchGameSimulationLauncher(String configPath, int bettingAmount, long rounds, int workers, long seed,
+      String algorithm, String output) {
+    this.configParser = new ConfigParser(configPath);
+    this.bettingAmount = bettingAmount;
+    this.rounds = rounds;
+    this.workers = workers;
+    this.seed = seed;
+    this.algorithm = algorithm;
+    this.output = output;
+
+    LOGGER.info("Initialized ScratchGameSimulationLauncher with config: " + configPath + ", bet: " + bettingAmount
+        + ", rounds: " + rounds + ", workers: " + workers + ", seed: " + seed + ", rng: " + algorithm
+        + " and output: " + output);
+  }
+
+  public SimulationStatistics run() {
+    LOGGER.info("Loading configuration...");
+    final ScratchGameConfiguration config = configParser.load();
+
+    final SimulationRunner runner = new SimulationRunner(config, bettingAmount);
+    final long start = System.nanoTime();
+    final SimulationStatistics statistics;
+    if (output == null) {
+      statistics = runner.run(rounds, workers, seed, algorithm);
+    } else {
+      try (PlayResultNdjsonWriter writer = STANDARD_OUTPUT.equals(output)
+          ? PlayResultNdjsonWriter.toStandardOutput()
+          : PlayResultNdjsonWriter.open(Path.of(output))) {
+        statistics = runner.run(rounds, workers, seed, algorithm, writer);
+      }
+    }
+    final long elapsedNanos = System.nanoTime() - start;
+
+    // Rounds written to the standard output are kept apart from the report
+    final PrintStream report = STANDARD_OUTPUT.equals(output) ? System.err : System.out;
+    report.println(statistics.toReport());
+    report.printf("Seed: %d, workers: %d, rng: %s%n", seed, workers, algorithm);
+    report.printf("Elapsed: %.3f s (%,.0f rounds/s)%n",
+        elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1),
+        statistics.getRounds() / (elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1)));
+    return statistics;
+  }
+
+  /**
+   * Computes and prints the exact reward distribution of the configuration.
+   *
+   * @param configPath the path to the configuration file
+   * @param bettingAmount the amount bet on every round
+   * @param workers the number of threads computing the distribution
+   * @return the exact reward distribution
+   */
+  public static RewardDistribution calculateExact(String configPath, int bettingAmount, int workers) {
+    LOGGER.info("Loading configuration...");
+    final ScratchGameConfiguration config = new ConfigParser(configPath).load();
+
+    final long start = System.nanoTime();
+    final RewardDistribution distribution = new ExactRtpCalculator(config, bettingAmount).calculate(workers);
+    final long elapsedNanos = System.nanoTime() - start;
+
+    System.out.println(distribution.toReport());
+    System.out.printf("Elapsed: %.3f s%n", elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1));
+    return distribution;
+  }
+
+  public static void main(String[] args) {
+    try {
+      LOGGER.info("Parsing CLI arguments...");
+      var parser = new CliArgsParser(ALLOWED_KEYS);
+      var commandLineArgs = parser.parse(args);
+
+      String configPath = commandLineArgs.getRequired("config");
+      int bettingAmount = Integer.parseInt(commandLineArgs.getRequired("betting-amount"));
+      CliArgsValidator.validateBettingAmount(bettingAmount);
+      String mode = commandLineArgs.getOrDefault("mode", MODE_SIMULATION);
+      if (!MODE_SIMULATION.equals(mode) && !MODE_EXACT.equals(mode)) {
+        throw new CliArgumentException(String.format("Unknown mode '%s'. Allowed modes are: %s, %s",
+            mode, MODE_SIMULATION, MODE_EXACT));
+      }
+      int workers = Integer.parseInt(commandLineArgs.getOrDefault("workers",
+          String.valueOf(Runtime.getRuntime().availableProcessors())));
+      if (workers <= 0) {
+        throw new CliArgumentException("Number of workers must be greater than 0");
+      }
+      if (MODE_EXACT.equals(mode)) {
+        calculateExact(configPath, bettingAmount, workers);
+        return;
+      }
+
+      long rounds = Long.parseLong(commandLineArgs.getRequired("rounds"));
+      if (rounds <= 0) {
+        throw new CliArgumentException("Number of rounds must be greater than 0");
+      }
+      long seed = commandLineArgs.containsKey("seed")
+          ? Long.parseLong(commandLineArgs.get("seed"))
+          : new SplittableRandom().nextLong();
+      String algorithm = commandLineArgs.getOrDefault("rng", RandomUtils.DEFAULT_ALGORITHM);
+
+      String output = commandLineArgs.get("output");
+
+      new ScratchGameSimulationLauncher(configPath, bettingAmount, rounds, workers, seed, algorithm, output).run();
+
+    } catch (CliArgumentException e) {
+      LOGGER.warning("CLI Error: " + e.getMessage());
+      System.exit(1);
+    } catch (NumberFormatException e) {
+      LOGGER.warning("Invalid numeric input: " + e.getMessage());
+      System.exit(1);
+    } catch (InvalidBettingAmountException | IllegalArgumentException e) {
+      LOGGER.warning("Validation Error: " + e.getMessage());
+      System.exit(1);
+    } catch (ConfigFileParsingException | InvalidGameConfigurationException e) {
+      LOGGER.warning("Configuration Error: " + e.getMessage());
+      System.exit(1);
+    } catch (RoundOutputException e) {
+      LOGGER.warning("Output Error: " + e.getMessage());
+      System.exit(1);
+    }
+  }
+}
@@ -1,22 +1,23 @@
 package com.cyberspeed.cli;
 
 import com.cyberspeed.exception.CliArgumentException;
+import com.cyberspeed.util.GameLogger;
 import com.cyberspeed.util.LoggingUtils;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
-import java.util.logging.Logger;
 
 /**
  * The {@code CliArgs} class represents a set of command-line arguments.
  * It provides methods to retrieve argument values, check for the presence of keys,
  * and perform other operations on the arguments map. The class is immutable,
- * ensuring that the arguments cannot be modified after initialization.
+ * ensuring that the arguments cannot be modified after initialization. Lookups are traced at the
+ * FINE level, and the messages are only formatted when that level is enabled.
  */
 public final class CliArgs {
 
   // Get logger from LoggingUtils class for reuse
-  private static final Logger logger = LoggingUtils.getLogger(CliArgs.class.getName());
+  private static final GameLogger logger = LoggingUtils.getLogger(CliArgs.class.getName());
 
   private final Map<String, String> arguments;
 
@@ -29,7 +30,7 @@ public final class CliArgs {
    */
   public CliArgs(Map<String, String> arguments) {
     this.arguments = Collections.unmodifiableMap(Objects.requireNonNull(arguments, "Arguments map cannot be null"));
-    logger.info("CliArgs initialized with arguments: " + arguments);
+    logger.fine("CliArgs initialized with arguments: %s", arguments);
   }
 
   /**
@@ -40,7 +41,7 @@ public final class CliArgs {
    */
   public String get(String key) {
     String value = arguments.get(key);
-    logger.info(String.format("Retrieving argument with key '%s', value: %s", key, value));
+    logger.fine("Retrieving argument with key '%s', value: %s", key, value);
     return value;
   }
 
@@ -57,7 +58,7 @@ public final class CliArgs {
       throw new CliArgumentException("Missing required argument: " + key);
     }
     String value = arguments.get(key);
-    logger.info(String.format("Retrieving required argument with key '%s', value: %s", key, value));
+    logger.fine("Retrieving required argument with key '%s', value: %s", key, value);
     return value;
   }
 
@@ -70,7 +71,7 @@ public final class CliArgs {
    */
   public String getOrDefault(String key, String defaultValue) {
     String value = arguments.getOrDefault(key, defaultValue);
-    logger.info(String.format("Retrieving argument with key '%s', returning default value if absent: %s", key, value));
+    logger.fine("Retrieving argument with key '%s', returning default value if absent: %s", key, value);
     return value;
   }
 
@@ -82,7 +83,7 @@ public final class CliArgs {
    */
   public boolean containsKey(String key) {
     boolean contains = arguments.containsKey(key);
-    logger.info(String.format("Checking if arguments contain key '%s': %b", key, contains));
+    logger.fine("Checking if arguments contain key '%s': %b", key, contains);
     return contains;
   }
 
@@ -92,9 +93,7 @@ public final class CliArgs {
    * @return true if the arguments map is empty, false otherwise
    */
   public boolean isEmpty() {
-    boolean empty = arguments.isEmpty();
-    logger.info(String.format("Checking if arguments are empty: %b", empty));
-    return empty;
+    return arguments.isEmpty();
   }
 
   /**
@@ -103,9 +102,7 @@ public final class CliArgs {
    * @return the size of the arguments map
    */
   public int size() {
-    int size = arguments.size();
-    logger.info(String.format("Retrieving the size of arguments: %d", size));
-    return size;
+    return arguments.size();
   }
 
   /**
@@ -114,7 +111,7 @@ public final class CliArgs {
    * @return the map of all arguments
    */
   public Map<String, String> getAll() {
-    logger.info("Retrieving all arguments: " + arguments);
+    logger.fine("Retrieving all arguments: %s", arguments);
     return arguments;
   }
 
@@ -123,22 +120,16 @@ public final class CliArgs {
     if (this == o) return true;
     if (o == null || getClass() != o.getClass()) return false;
     CliArgs cliArgs = (CliArgs) o;
-    boolean equals = arguments.equals(cliArgs.arguments);
-    logger.info(String.format("Checking equality with another CliArgs: %b", equals));
-    return equals;
+    return arguments.equals(cliArgs.arguments);
   }
 
   @Override
   public int hashCode() {
-    int hashCode = Objects.hash(arguments);
-    logger.info(String.format("Generating hash code for arguments: %d", hashCode));
-    return hashCode;
+    return Objects.hash(arguments);
   }
 
   @Override
   public String toString() {
-    String stringRepresentation = "CliArgs{" + arguments + '}';
-    logger.info("Converting arguments to string: " + stringRepresentation);
-    return stringRepresentation;
+    return "CliArgs{" + arguments + '}';
   }
 }
\ No newline at end of file
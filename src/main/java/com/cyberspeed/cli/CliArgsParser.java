@@ -1,10 +1,12 @@
 package com.cyberspeed.cli;
 
+import com.cyberspeed.util.GameLogger;
 import com.cyberspeed.util.LoggingUtils;
 import com.cyberspeed.validator.CliArgsValidator;
+import java.util.Collection;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.logging.Logger;
 
 /**
  * The {@code CliArgsParser} class is responsible for parsing command-line arguments
@@ -16,40 +18,58 @@ import java.util.logging.Logger;
  */
 public final class CliArgsParser {
 
-    private static final Logger logger = LoggingUtils.getLogger(CliArgsParser.class.getName());
+    private static final GameLogger logger = LoggingUtils.getLogger(CliArgsParser.class.getName());
+
+    private final List<String> allowedKeys;
+
+    /**
+     * Constructs a {@code CliArgsParser} accepting the keys of the graphical game.
+     */
+    public CliArgsParser() {
+        this(CliArgsValidator.DEFAULT_ALLOWED_KEYS);
+    }
+
+    /**
+     * Constructs a {@code CliArgsParser} accepting the given keys.
+     *
+     * @param allowedKeys the argument keys (without the leading dashes) accepted by the parser
+     */
+    public CliArgsParser(Collection<String> allowedKeys) {
+        this.allowedKeys = List.copyOf(allowedKeys);
+    }
 
     public CliArgs parse(String[] args) {
         Map<String, String> parsedArgs = new LinkedHashMap<>();
-        logger.info("Starting argument parsing...");
+        logger.fine("Starting argument parsing...");
 
         for (int i = 0; i < args.length; i++) {
             String arg = args[i];
-            logger.info(String.format("Processing argument at index %d: %s", i, arg));
+            logger.fine("Processing argument at index %d: %s", i, arg);
 
             CliArgsValidator.validateFormat(arg, i);
 
             String keyPart = arg.substring(2);
-            logger.info(String.format("Extracted key part: %s", keyPart));
+            logger.fine("Extracted key part: %s", keyPart);
             CliArgsValidator.validateKeyPartNotEmpty(keyPart, i);
 
             String[] keyValue = keyPart.split("=", 2);
             String key = keyValue[0];
-            logger.info(String.format("Extracted key: %s", key));
+            logger.fine("Extracted key: %s", key);
 
-            CliArgsValidator.validateKeyAllowed(key, i);
+            CliArgsValidator.validateKeyAllowed(key, allowedKeys, i);
             CliArgsValidator.validateKeyNotEmpty(key, arg, i);
 
             String value = CliArgsValidator.resolveValue(args, i, keyValue);
-            logger.info(String.format("Resolved value for key '%s': %s", key, value));
+            logger.fine("Resolved value for key '%s': %s", key, value);
 
             if (keyValue.length != 2 && i + 1 < args.length && !args[i + 1].startsWith("--")) {
                 i++;
-                logger.info(String.format("Next argument used as value for key '%s': %s", key, args[i]));
+                logger.fine("Next argument used as value for key '%s': %s", key, args[i]);
             }
             parsedArgs.put(key, value);
         }
 
-        logger.info(String.format("Argument parsing completed. Parsed arguments: %s", parsedArgs));
+        logger.fine("Argument parsing completed. Parsed arguments: %s", parsedArgs);
         return new CliArgs(parsedArgs);
     }
 }
\ No newline at end of file
@@ -2,31 +2,30 @@ package com.cyberspeed.config;
 
 import com.cyberspeed.exception.ConfigFileParsingException;
 import com.cyberspeed.model.ScratchGameConfiguration;
+import com.cyberspeed.util.GameLogger;
 import com.cyberspeed.util.LoggingUtils;
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonMappingException.Reference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Objects;
-import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 /**
  * The {@code ConfigParser} class is responsible for loading and parsing the configuration
  * for the Scratch Game application. It attempts to read the configuration from a specified
  * file path, first checking the filesystem and then the classpath if the file is not found.
- * The class uses Jackson's {@code ObjectMapper} to parse the configuration into a
- * {@code ScratchGameConfiguration} object. It also handles various exceptions that may
+ * The class uses a {@link StreamingConfigReader} to parse the configuration into a
+ * {@code ScratchGameConfiguration} object, which keeps the first load of a JVM cheap when
+ * many game variants are loaded at startup. It also handles various exceptions that may
  * occur during the parsing process, such as JSON syntax errors or mapping issues, and
  * logs detailed error messages for troubleshooting.
  */
 public class ConfigParser {
 
-  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-  private static final Logger logger = LoggingUtils.getLogger(ConfigParser.class.getName());
+  private static final GameLogger logger = LoggingUtils.getLogger(ConfigParser.class.getName());
 
   private final String configFilePath;
 
@@ -56,7 +55,7 @@ public class ConfigParser {
   private static String validatePath(String path) {
     Objects.requireNonNull(path, "Configuration path must not be null");
     if (path.isBlank()) {
-      Logger.getLogger(ConfigParser.class.getName()).severe("Configuration path is blank");
+      logger.severe("Configuration path is blank");
       throw new ConfigFileParsingException("Configuration path must not be blank");
     }
     return path;
@@ -70,14 +69,14 @@ public class ConfigParser {
    * @throws ConfigFileParsingException if the configuration cannot be loaded or parsed
    */
   public ScratchGameConfiguration load() {
-    logger.info("Loading configuration from: " + configFilePath);
+    logger.fine("Loading configuration from: %s", configFilePath);
 
     File configFile = new File(configFilePath);
     if (configFile.exists()) {
-      logger.info("Found config file on filesystem: " + configFile.getAbsolutePath());
+      logger.fine("Found config file on filesystem: %s", configFile);
       try {
-        ScratchGameConfiguration config = OBJECT_MAPPER.readValue(configFile, ScratchGameConfiguration.class);
-        logger.info("Successfully parsed configuration from filesystem");
+        ScratchGameConfiguration config = StreamingConfigReader.read(configFile);
+        logger.info("Successfully parsed configuration from filesystem: %s", configFilePath);
         return config;
       } catch (IOException e) {
         logger.severe("Failed to read config file from filesystem: " + e.getMessage());
@@ -87,7 +86,7 @@ public class ConfigParser {
       }
     }
 
-    logger.info("Config file not found on filesystem. Trying classpath...");
+    logger.fine("Config file not found on filesystem. Trying classpath...");
 
     try (InputStream inputStream = ScratchGameConfiguration.class.getClassLoader().getResourceAsStream(configFilePath)) {
 
@@ -96,8 +95,8 @@ public class ConfigParser {
         throw new ConfigFileParsingException("Config file not found: " + configFilePath);
       }
 
-      ScratchGameConfiguration config = OBJECT_MAPPER.readValue(inputStream, ScratchGameConfiguration.class);
-      logger.info("Successfully parsed configuration from classpath resource");
+      ScratchGameConfiguration config = StreamingConfigReader.read(inputStream);
+      logger.info("Successfully parsed configuration from classpath resource: %s", configFilePath);
       return config;
 
     } catch (JsonParseException e) {
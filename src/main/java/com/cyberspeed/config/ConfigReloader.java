@@ -0,0 +1,220 @@
+package com.cyberspeed.config;
+
+import com.cyberspeed.engine.GameModel;
+import com.cyberspeed.engine.ScratchGameEngine;
+import com.cyberspeed.exception.ConfigFileParsingException;
+import com.cyberspeed.exception.InvalidGameConfigurationException;
+import com.cyberspeed.metrics.RoundMetrics;
+import com.cyberspeed.model.ScratchGameConfiguration;
+import com.cyberspeed.util.GameLogger;
+import com.cyberspeed.util.LoggingUtils;
+import com.cyberspeed.util.RandomUtils;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+
+/**
+ * The {@code ConfigReloader} class keeps a {@link ScratchGameEngine} in step with its configuration
+ * file. The file is watched with a {@link WatchService} on a daemon thread, and every change is parsed,
+ * validated and compiled into a fresh engine on that thread before the engine is swapped in atomically,
+ * so rounds are never paused by a reload: rounds already started finish on the engine they were given,
+ * and the next call to {@link #get()} returns the new one. A configuration that fails to parse or
+ * validate is logged and leaves the current engine in place. Editors often save a file in several
+ * writes, so changes arriving in quick succession are applied as a single reload. Every engine draws
+ * from a generator of the factory the reloader was given, so a reload keeps the random generator
+ * algorithm chosen at startup.
+ */
+public final class ConfigReloader implements Supplier<ScratchGameEngine>, AutoCloseable {
+
+  private static final GameLogger LOGGER = LoggingUtils.getLogger(ConfigReloader.class.getName());
+  private static final long SETTLE_MILLIS = 100;
+
+  private final String configPath;
+  private final int bettingAmount;
+  private final RoundMetrics metrics;
+  private final Supplier<RandomGenerator> randomFactory;
+  private final AtomicReference<ScratchGameEngine> engine;
+  private final AtomicLong reloads = new AtomicLong();
+  private WatchService watchService;
+  private Thread watcher;
+
+  /**
+   * Constructs a {@code ConfigReloader}, loading and compiling the current configuration.
+   *
+   * @param configPath the path to the configuration file
+   * @param bettingAmount the betting amount of the engines
+   * @throws ConfigFileParsingException if the configuration cannot be loaded or parsed
+   * @throws InvalidGameConfigurationException if the configuration is invalid
+   */
+  public ConfigReloader(String configPath, int bettingAmount) {
+    this(configPath, bettingAmount, null);
+  }
+
+  /**
+   * Constructs a {@code ConfigReloader} whose engines record their rounds into the given metrics, which
+   * keep counting across reloads.
+   *
+   * @param configPath the path to the configuration file
+   * @param bettingAmount the betting amount of the engines
+   * @param metrics the metrics of the engines, or null to play without instrumentation
+   * @throws ConfigFileParsingException if the configuration cannot be loaded or parsed
+   * @throws InvalidGameConfigurationException if the configuration is invalid
+   */
+  public ConfigReloader(String configPath, int bettingAmount, RoundMetrics metrics) {
+    this(configPath, bettingAmount, metrics, () -> RandomUtils.create(RandomUtils.DEFAULT_ALGORITHM));
+  }
+
+  /**
+   * Constructs a {@code ConfigReloader} whose engines record their rounds into the given metrics and
+   * draw from a generator created by the given factory, on the first load and on every reload.
+   *
+   * @param configPath the path to the configuration file
+   * @param bettingAmount the betting amount of the engines
+   * @param metrics the metrics of the engines, or null to play without instrumentation
+   * @param randomFactory the factory of the random generator of every engine
+   * @throws ConfigFileParsingException if the configuration cannot be loaded or parsed
+   * @throws InvalidGameConfigurationException if the configuration is invalid
+   */
+  public ConfigReloader(String configPath, int bettingAmount, RoundMetrics metrics,
+      Supplier<RandomGenerator> randomFactory) {
+    this.configPath = configPath;
+    this.bettingAmount = bettingAmount;
+    this.metrics = metrics;
+    this.randomFactory = Objects.requireNonNull(randomFactory, "Random generator factory cannot be null");
+    this.engine = new AtomicReference<>(compile());
+  }
+
+  /**
+   * Retrieves the current engine. Callers should hold on to the returned engine for the whole round,
+   * so that a reload never changes the rules of a round in flight.
+   *
+   * @return the engine compiled from the last valid configuration
+   */
+  @Override
+  public ScratchGameEngine get() {
+    return engine.get();
+  }
+
+  /**
+   * Retrieves the number of configurations swapped in since the reloader was created.
+   *
+   * @return the number of successful reloads
+   */
+  public long getReloads() {
+    return reloads.get();
+  }
+
+  /**
+   * Loads the configuration file again and swaps in the compiled engine, unless the configuration
+   * cannot be parsed or is invalid.
+   *
+   * @return whether the engine was replaced
+   */
+  public boolean reload() {
+    final ScratchGameEngine reloaded;
+    try {
+      reloaded = compile();
+    } catch (RuntimeException e) {
+      // Any failure, not only the validation ones, must leave the serving engine and the watcher alive
+      LOGGER.warning("Configuration reload rejected, keeping the current engine: " + e.getMessage());
+      return false;
+    }
+    engine.set(reloaded);
+    reloads.incrementAndGet();
+    LOGGER.info("Configuration reloaded from " + configPath);
+    return true;
+  }
+
+  private ScratchGameEngine compile() {
+    ScratchGameConfiguration config = new ConfigParser(configPath).load();
+    return new ScratchGameEngine(GameModel.compile(config), bettingAmount,
+        randomFactory.get(), metrics);
+  }
+
+  /**
+   * Starts watching the configuration file on a daemon thread.
+   *
+   * @throws ConfigFileParsingException if the configuration is not a file on the filesystem or cannot
+   *     be watched
+   * @throws IllegalStateException if the watcher is already started
+   */
+  public synchronized void start() {
+    if (watcher != null) {
+      throw new IllegalStateException("Configuration watcher already started");
+    }
+    Path file = Path.of(configPath).toAbsolutePath();
+    if (!Files.isRegularFile(file)) {
+      throw new ConfigFileParsingException("Only configuration files on the filesystem can be watched: " + configPath);
+    }
+    try {
+      this.watchService = FileSystems.getDefault().newWatchService();
+      file.getParent().register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+          StandardWatchEventKinds.ENTRY_MODIFY);
+    } catch (IOException e) {
+      throw new ConfigFileParsingException("Failed to watch " + configPath + ": " + e.getMessage(), e);
+    }
+
+    this.watcher = new Thread(() -> watch(file.getFileName()), "config-watcher");
+    watcher.setDaemon(true);
+    watcher.start();
+    LOGGER.info("Watching configuration file " + file);
+  }
+
+  private void watch(Path fileName) {
+    try {
+      while (true) {
+        WatchKey key = watchService.take();
+        boolean changed = drain(key, fileName);
+        // Let the remaining writes of the same save arrive before reading the file
+        while ((key = watchService.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+          changed |= drain(key, fileName);
+        }
+        if (changed) {
+          reload();
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ClosedWatchServiceException e) {
+      // Closed by close()
+    }
+  }
+
+  private static boolean drain(WatchKey key, Path fileName) {
+    boolean changed = false;
+    for (WatchEvent<?> event : key.pollEvents()) {
+      changed |= event.kind() == StandardWatchEventKinds.OVERFLOW || fileName.equals(event.context());
+    }
+    key.reset();
+    return changed;
+  }
+
+  /**
+   * Stops watching the configuration file. The current engine remains usable.
+   */
+  @Override
+  public synchronized void close() {
+    if (watcher == null) {
+      return;
+    }
+    try {
+      watchService.close();
+    } catch (IOException e) {
+      LOGGER.warning("Failed to close the configuration watcher: " + e.getMessage());
+    }
+    watcher.interrupt();
+    watcher = null;
+  }
+}
@@ -13,8 +13,8 @@ import java.util.Map;
  */
 public final class GameConfigModelValidator {
 
-    private static final int REQUIRED_COLUMNS = 3;
-    private static final int REQUIRED_ROWS = 3;
+    private static final int MIN_DIMENSION = 2;
+    private static final int MAX_DIMENSION = 100;
 
     /**
      * Private constructor to prevent instantiation.
@@ -26,20 +26,25 @@ public final class GameConfigModelValidator {
 
     /**
      * Validates the grid dimensions of the game configuration.
-     * Ensures that the configuration has the required number of columns and rows.
+     * Grids of any shape are supported, as long as both the number of columns
+     * and the number of rows lie between {@value #MIN_DIMENSION} and {@value #MAX_DIMENSION}.
      *
      * @param config the game configuration to validate
-     * @throws InvalidGameConfigurationException if the grid dimensions are incorrect
+     * @throws InvalidGameConfigurationException if the grid dimensions are out of range
      */
     public static void validateGridDimensions(ScratchGameConfiguration config) {
-        if (config.getColumns() != REQUIRED_COLUMNS || config.getRows() != REQUIRED_ROWS) {
+        if (!isValidDimension(config.getColumns()) || !isValidDimension(config.getRows())) {
             throw new InvalidGameConfigurationException(
-                String.format("Game configuration must have %d columns and %d rows (found columns=%d, rows=%d)",
-                    REQUIRED_COLUMNS, REQUIRED_ROWS, config.getColumns(), config.getRows())
+                String.format("Game configuration must have between %d and %d columns and rows (found columns=%d, rows=%d)",
+                    MIN_DIMENSION, MAX_DIMENSION, config.getColumns(), config.getRows())
             );
         }
     }
 
+    private static boolean isValidDimension(int dimension) {
+        return dimension >= MIN_DIMENSION && dimension <= MAX_DIMENSION;
+    }
+
     /**
      * Validates the essential components of the game configuration.
      * Checks for the presence of symbols, win combinations, and probabilities.
@@ -0,0 +1,309 @@
+package com.cyberspeed.config;
+
+import com.cyberspeed.model.BonusSymbolProbability;
+import com.cyberspeed.model.Probabilities;
+import com.cyberspeed.model.ScratchGameConfiguration;
+import com.cyberspeed.model.StandardSymbolProbability;
+import com.cyberspeed.model.SymbolDefinition;
+import com.cyberspeed.model.WinCombination;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The {@code StreamingConfigReader} class reads a {@link ScratchGameConfiguration} with Jackson's
+ * streaming {@link JsonParser}, walking the tokens once and filling the model through its setters, so
+ * the setters validate the values as they do when the model is bound by an {@code ObjectMapper}. No
+ * bean introspection or deserializer is built, which makes the first configuration of a JVM as cheap
+ * to read as the following ones.
+ *
+ * <p>The reader accepts what the default {@code ObjectMapper} binding accepts: numbers given as
+ * strings or floats, scalars for text fields and {@code null} for any field. Unknown fields, values of
+ * the wrong shape and values rejected by a setter are reported as a {@link JsonMappingException}
+ * carrying the path of the value, and malformed JSON as a {@code JsonParseException}, like the
+ * binding does.
+ */
+public final class StreamingConfigReader {
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  private StreamingConfigReader() {
+    throw new AssertionError("Utility class should not be instantiated");
+  }
+
+  /**
+   * Reads a configuration from a file.
+   *
+   * @param file the configuration file
+   * @return the configuration, or {@code null} if the document is {@code null}
+   * @throws IOException if the file cannot be read or does not hold a valid configuration
+   */
+  public static ScratchGameConfiguration read(File file) throws IOException {
+    try (JsonParser parser = JSON_FACTORY.createParser(file)) {
+      return readRoot(parser);
+    }
+  }
+
+  /**
+   * Reads a configuration from a stream, which is left open.
+   *
+   * @param inputStream the stream of the configuration
+   * @return the configuration, or {@code null} if the document is {@code null}
+   * @throws IOException if the stream cannot be read or does not hold a valid configuration
+   */
+  public static ScratchGameConfiguration read(InputStream inputStream) throws IOException {
+    try (JsonParser parser = JSON_FACTORY.createParser(inputStream)) {
+      return readRoot(parser);
+    }
+  }
+
+  private static ScratchGameConfiguration readRoot(JsonParser parser) throws IOException {
+    if (parser.nextToken() == null) {
+      throw MismatchedInputException.from(parser, ScratchGameConfiguration.class,
+          "No content to map due to end-of-input");
+    }
+    return readConfiguration(parser);
+  }
+
+  /**
+   * Reads the fields of a JSON object, leaving the parser on its end.
+   */
+  @FunctionalInterface
+  private interface FieldReader<T> {
+
+    void read(JsonParser parser, T target, String field) throws IOException;
+  }
+
+  /**
+   * Reads the value the parser is on, leaving the parser on its last token.
+   */
+  @FunctionalInterface
+  private interface ValueReader<T> {
+
+    T read(JsonParser parser) throws IOException;
+  }
+
+  private static <T> T readObject(JsonParser parser, T target, FieldReader<T> fields) throws IOException {
+    expect(parser, JsonToken.START_OBJECT, target.getClass());
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.currentName();
+      parser.nextToken();
+      try {
+        fields.read(parser, target, field);
+      } catch (JsonMappingException | RuntimeException e) {
+        throw JsonMappingException.wrapWithPath(e, target, field);
+      }
+    }
+    return target;
+  }
+
+  private static <V> Map<String, V> readMap(JsonParser parser, ValueReader<V> values) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    expect(parser, JsonToken.START_OBJECT, Map.class);
+    Map<String, V> map = new LinkedHashMap<>();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String key = parser.currentName();
+      parser.nextToken();
+      try {
+        map.put(key, values.read(parser));
+      } catch (JsonMappingException | RuntimeException e) {
+        throw JsonMappingException.wrapWithPath(e, map, key);
+      }
+    }
+    return map;
+  }
+
+  private static <E> List<E> readList(JsonParser parser, ValueReader<E> elements) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    expect(parser, JsonToken.START_ARRAY, List.class);
+    List<E> list = new ArrayList<>();
+    while (parser.nextToken() != JsonToken.END_ARRAY) {
+      try {
+        list.add(elements.read(parser));
+      } catch (JsonMappingException | RuntimeException e) {
+        throw JsonMappingException.wrapWithPath(e, list, list.size());
+      }
+    }
+    return list;
+  }
+
+  private static ScratchGameConfiguration readConfiguration(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    return readObject(parser, new ScratchGameConfiguration(), (p, config, field) -> {
+      switch (field) {
+        case "columns" -> config.setColumns(readInt(p));
+        case "rows" -> config.setRows(readInt(p));
+        case "symbols" -> config.setSymbols(readMap(p, StreamingConfigReader::readSymbol));
+        case "probabilities" -> config.setProbabilities(readProbabilities(p));
+        case "win_combinations" -> config.setWinCombinations(readMap(p, StreamingConfigReader::readWinCombination));
+        default -> throw unknownField(p, config, field);
+      }
+    });
+  }
+
+  private static SymbolDefinition readSymbol(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    return readObject(parser, new SymbolDefinition(), (p, symbol, field) -> {
+      switch (field) {
+        case "reward_multiplier" -> symbol.setRewardMultiplier(readDouble(p));
+        case "type" -> symbol.setType(readString(p));
+        case "impact" -> symbol.setImpact(readString(p));
+        case "extra" -> symbol.setExtra(readInteger(p));
+        default -> throw unknownField(p, symbol, field);
+      }
+    });
+  }
+
+  private static Probabilities readProbabilities(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    return readObject(parser, new Probabilities(), (p, probabilities, field) -> {
+      switch (field) {
+        case "standard_symbols" ->
+            probabilities.setStandardSymbols(readList(p, StreamingConfigReader::readStandardProbability));
+        case "bonus_symbols" -> probabilities.setBonusSymbols(readBonusProbability(p));
+        default -> throw unknownField(p, probabilities, field);
+      }
+    });
+  }
+
+  private static StandardSymbolProbability readStandardProbability(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    return readObject(parser, new StandardSymbolProbability(), (p, probability, field) -> {
+      switch (field) {
+        case "column" -> probability.setColumn(readInt(p));
+        case "row" -> probability.setRow(readInt(p));
+        case "symbols" -> probability.setSymbols(readMap(p, StreamingConfigReader::readInteger));
+        default -> throw unknownField(p, probability, field);
+      }
+    });
+  }
+
+  private static BonusSymbolProbability readBonusProbability(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    return readObject(parser, new BonusSymbolProbability(), (p, probability, field) -> {
+      if (field.equals("symbols")) {
+        probability.setSymbols(readMap(p, StreamingConfigReader::readInteger));
+      } else {
+        throw unknownField(p, probability, field);
+      }
+    });
+  }
+
+  private static WinCombination readWinCombination(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    return readObject(parser, new WinCombination(), (p, combination, field) -> {
+      switch (field) {
+        case "reward_multiplier" -> combination.setRewardMultiplier(readDouble(p));
+        case "when" -> combination.setWhen(readString(p));
+        case "count" -> combination.setCount(readInt(p));
+        case "group" -> combination.setGroup(readString(p));
+        case "covered_areas" -> combination.setCoveredAreas(
+            readList(p, area -> readList(area, StreamingConfigReader::readString)));
+        default -> throw unknownField(p, combination, field);
+      }
+    });
+  }
+
+  private static int readInt(JsonParser parser) throws IOException {
+    return switch (parser.currentToken()) {
+      case VALUE_NUMBER_INT -> parser.getIntValue();
+      // Fractions are truncated, as the binding does by default
+      case VALUE_NUMBER_FLOAT -> (int) parser.getDoubleValue();
+      case VALUE_STRING -> parseInt(parser);
+      case VALUE_NULL -> 0;
+      default -> throw mismatch(parser, int.class);
+    };
+  }
+
+  private static Integer readInteger(JsonParser parser) throws IOException {
+    return parser.currentToken() == JsonToken.VALUE_NULL ? null : readInt(parser);
+  }
+
+  private static int parseInt(JsonParser parser) throws IOException {
+    try {
+      return Integer.parseInt(parser.getText().trim());
+    } catch (NumberFormatException e) {
+      throw MismatchedInputException.from(parser, int.class,
+          String.format("Cannot deserialize value of type `int` from String \"%s\": not a valid `int` value",
+              parser.getText()));
+    }
+  }
+
+  private static double readDouble(JsonParser parser) throws IOException {
+    return switch (parser.currentToken()) {
+      case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> parser.getDoubleValue();
+      case VALUE_STRING -> parseDouble(parser);
+      case VALUE_NULL -> 0;
+      default -> throw mismatch(parser, double.class);
+    };
+  }
+
+  private static double parseDouble(JsonParser parser) throws IOException {
+    try {
+      return Double.parseDouble(parser.getText().trim());
+    } catch (NumberFormatException e) {
+      throw MismatchedInputException.from(parser, double.class,
+          String.format("Cannot deserialize value of type `double` from String \"%s\": not a valid `double` value",
+              parser.getText()));
+    }
+  }
+
+  private static String readString(JsonParser parser) throws IOException {
+    JsonToken token = parser.currentToken();
+    if (token == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    if (!token.isScalarValue()) {
+      throw mismatch(parser, String.class);
+    }
+    return parser.getText();
+  }
+
+  private static void expect(JsonParser parser, JsonToken token, Class<?> type) throws IOException {
+    if (parser.currentToken() != token) {
+      throw mismatch(parser, type);
+    }
+  }
+
+  private static MismatchedInputException mismatch(JsonParser parser, Class<?> type) {
+    String found = switch (parser.currentToken()) {
+      case START_OBJECT -> "Object value";
+      case START_ARRAY -> "Array value";
+      case VALUE_TRUE, VALUE_FALSE -> "Boolean value";
+      case VALUE_STRING -> "String value";
+      default -> "Number value";
+    };
+    return MismatchedInputException.from(parser, type, String.format(
+        "Cannot deserialize value of type `%s` from %s", type.getName(), found));
+  }
+
+  private static JsonMappingException unknownField(JsonParser parser, Object target, String field) {
+    return JsonMappingException.from(parser, String.format("Unrecognized field \"%s\" (class %s), not marked as ignorable",
+        field, target.getClass().getName()));
+  }
+}
@@ -0,0 +1,147 @@
+package com.cyberspeed.engine;
+
+import com.cyberspeed.exception.InvalidGameConfigurationException;
+import com.cyberspeed.model.WinCombination;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The {@code CompiledWinCombination} class is the engine's load-time view of a {@link WinCombination}.
+ * The {@code covered_areas} of a {@code linear_symbols} combination are parsed once from their
+ * {@code "row:col"} form into offsets on the flattened (row-major) board, so checking a line during a
+ * round is a handful of array reads. Areas that reach outside the grid could never be completed, so they
+ * are rejected while compiling and never need to be bounds-checked during a round. For grids of up to
+ * {@value #MAX_BITBOARD_CELLS} cells every area is also compiled into a bit mask over the board, so a
+ * line is completed by a symbol when {@code (symbolMask & lineMask) == lineMask}.
+ */
+final class CompiledWinCombination {
+
+  static final int MAX_BITBOARD_CELLS = Long.SIZE;
+
+  private final String name;
+  private final String group;
+  private final WinCondition when;
+  private final int count;
+  private final double rewardMultiplier;
+  private final int[][] lines;
+  private final long[] lineMasks;
+
+  private CompiledWinCombination(String name, WinCombination wc, WinCondition when, int[][] lines) {
+    this.name = name;
+    this.group = wc.getGroup();
+    this.when = when;
+    this.count = wc.getCount();
+    this.rewardMultiplier = wc.getRewardMultiplier();
+    this.lines = lines;
+    this.lineMasks = new long[lines.length];
+    for (int i = 0; i < lines.length; i++) {
+      for (int cell : lines[i]) {
+        if (cell < MAX_BITBOARD_CELLS) {
+          lineMasks[i] |= 1L << cell;
+        }
+      }
+    }
+  }
+
+  /**
+   * Compiles a win combination for a grid of the given dimensions.
+   *
+   * @param name the name of the win combination
+   * @param wc the win combination as configured
+   * @param rows the number of rows of the grid
+   * @param columns the number of columns of the grid
+   * @return the compiled win combination
+   * @throws InvalidGameConfigurationException if the condition is unknown or a covered area contains a malformed
+   *     cell or a cell outside the grid
+   */
+  static CompiledWinCombination compile(String name, WinCombination wc, int rows, int columns) {
+    WinCondition when = WinCondition.fromValue(wc.getWhen(), name);
+    if (when != WinCondition.LINEAR_SYMBOLS || wc.getCoveredAreas() == null) {
+      return new CompiledWinCombination(name, wc, when, new int[0][]);
+    }
+
+    List<int[]> lines = new ArrayList<>();
+    for (List<String> area : wc.getCoveredAreas()) {
+      int[] line = compileArea(name, area, rows, columns);
+      if (line != null) {
+        lines.add(line);
+      }
+    }
+    return new CompiledWinCombination(name, wc, when, lines.toArray(new int[0][]));
+  }
+
+  /**
+   * Parses a covered area into board offsets.
+   *
+   * @return the offsets of the area, or null if the area is empty
+   * @throws InvalidGameConfigurationException if a cell is malformed or outside the grid
+   */
+  private static int[] compileArea(String name, List<String> area, int rows, int columns) {
+    if (area == null || area.isEmpty()) {
+      return null;
+    }
+    int[] line = new int[area.size()];
+    for (int i = 0; i < line.length; i++) {
+      String cell = area.get(i);
+      String[] parts = cell == null ? new String[0] : cell.split(":");
+      int row;
+      int col;
+      try {
+        if (parts.length != 2) {
+          throw new NumberFormatException();
+        }
+        row = Integer.parseInt(parts[0].trim());
+        col = Integer.parseInt(parts[1].trim());
+      } catch (NumberFormatException e) {
+        throw new InvalidGameConfigurationException(
+            String.format("Win combination '%s' has a malformed covered area cell '%s' (expected row:col)", name, cell));
+      }
+
+      if (row < 0 || row >= rows || col < 0 || col >= columns) {
+        throw new InvalidGameConfigurationException(String.format(
+            "Win combination '%s' has a covered area cell '%s' outside the %dx%d grid", name, cell, rows, columns));
+      }
+      line[i] = row * columns + col;
+    }
+    return line;
+  }
+
+  String getName() {
+    return name;
+  }
+
+  String getGroup() {
+    return group;
+  }
+
+  WinCondition getWhen() {
+    return when;
+  }
+
+  int getCount() {
+    return count;
+  }
+
+  double getRewardMultiplier() {
+    return rewardMultiplier;
+  }
+
+  /**
+   * Retrieves the covered areas as board offsets.
+   *
+   * @return one array of row-major board offsets per covered area
+   */
+  int[][] getLines() {
+    return lines;
+  }
+
+  /**
+   * Retrieves the covered areas as bit masks over the board. Only meaningful for grids of up to
+   * {@value #MAX_BITBOARD_CELLS} cells.
+   *
+   * @return one mask per covered area, with bit {@code n} set when board offset {@code n} is covered
+   */
+  long[] getLineMasks() {
+    return lineMasks;
+  }
+}
@@ -0,0 +1,103 @@
+package com.cyberspeed.engine;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The {@code CompiledWinGroup} class is the engine's load-time view of a group of win combinations,
+ * of which at most one is applied per round. The {@code same_symbols} thresholds of the group are
+ * sorted in descending order once and expanded into a table from a symbol count to the combination
+ * it wins, so finding the best {@code same_symbols} combination of a symbol is a single array read
+ * instead of a walk over every combination. On a tie the combination configured first wins, as it
+ * would when the combinations are checked in configuration order.
+ */
+final class CompiledWinGroup {
+
+  private final int[] combinations;
+  private final int[] sameSymbolThresholds;
+  // Combination won by a symbol count, or -1; counts above the table are capped to its last entry
+  private final int[] sameSymbolsByCount;
+
+  private CompiledWinGroup(int[] combinations, int[] sameSymbolThresholds, int[] sameSymbolsByCount) {
+    this.combinations = combinations;
+    this.sameSymbolThresholds = sameSymbolThresholds;
+    this.sameSymbolsByCount = sameSymbolsByCount;
+  }
+
+  /**
+   * Groups compiled win combinations by their group, in order of first appearance.
+   *
+   * @param compiledCombinations the win combinations in configuration order
+   * @param cells the number of cells of the grid, the highest possible symbol count
+   * @return the compiled groups
+   */
+  static CompiledWinGroup[] compile(CompiledWinCombination[] compiledCombinations, int cells) {
+    Map<String, List<Integer>> members = new LinkedHashMap<>();
+    for (int i = 0; i < compiledCombinations.length; i++) {
+      members.computeIfAbsent(compiledCombinations[i].getGroup(), group -> new ArrayList<>()).add(i);
+    }
+
+    List<CompiledWinGroup> groups = new ArrayList<>();
+    for (Map.Entry<String, List<Integer>> entry : members.entrySet()) {
+      // Stable sort, so tied thresholds keep their configuration order
+      List<Integer> sameSymbols = new ArrayList<>();
+      for (int combination : entry.getValue()) {
+        if (compiledCombinations[combination].getWhen() == WinCondition.SAME_SYMBOLS) {
+          sameSymbols.add(combination);
+        }
+      }
+      sameSymbols.sort(Comparator.comparingInt((Integer c) -> compiledCombinations[c].getCount()).reversed());
+
+      int[] thresholds = sameSymbols.stream().mapToInt(c -> compiledCombinations[c].getCount()).toArray();
+      int[] byCount = new int[cells + 1];
+      for (int count = 0; count <= cells; count++) {
+        byCount[count] = -1;
+        for (int i = 0; i < thresholds.length; i++) {
+          // Symbols that are absent never win, whatever the threshold
+          if (count > 0 && count >= thresholds[i]) {
+            byCount[count] = sameSymbols.get(i);
+            break;
+          }
+        }
+      }
+      groups.add(new CompiledWinGroup(
+          entry.getValue().stream().mapToInt(Integer::intValue).toArray(), thresholds, byCount));
+    }
+    return groups.toArray(new CompiledWinGroup[0]);
+  }
+
+  /**
+   * Retrieves the combinations of the group.
+   *
+   * @return the indexes of the combinations in configuration order
+   */
+  int[] getCombinations() {
+    return combinations;
+  }
+
+  /**
+   * Retrieves the {@code same_symbols} thresholds of the group.
+   *
+   * @return the thresholds in descending order
+   */
+  int[] getSameSymbolThresholds() {
+    return sameSymbolThresholds;
+  }
+
+  boolean hasSameSymbols() {
+    return sameSymbolThresholds.length > 0;
+  }
+
+  /**
+   * Looks up the {@code same_symbols} combination won by a symbol appearing the given number of times.
+   *
+   * @param count the number of occurrences of the symbol
+   * @return the index of the combination with the highest threshold reached, or -1 if none is reached
+   */
+  int sameSymbolsFor(int count) {
+    return sameSymbolsByCount[Math.min(count, sameSymbolsByCount.length - 1)];
+  }
+}
@@ -0,0 +1,738 @@
+package com.cyberspeed.engine;
+
+import com.cyberspeed.model.ScratchGameConfiguration;
+import com.cyberspeed.util.GameLogger;
+import com.cyberspeed.util.LoggingUtils;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * The {@code ExactRtpCalculator} class computes the exact reward distribution of a game configuration
+ * instead of estimating it by simulation. The probability space of a round is the symbol drawn on every
+ * cell, the bonus symbol and the cell it lands on. The board is enumerated once, cell by cell, with
+ * dynamic programming: boards are merged as soon as they can no longer be told apart by the reward
+ * rules, keeping only the count of every standard symbol, the state of the win lines still open (not
+ * started, dead, or running on a symbol), the symbols that completed a line of every
+ * {@code linear_symbols} combination and the bonus case once the bonus symbol has landed. The bonus
+ * cell is part of the enumeration: every cell not yet drawn is equally likely to hold it, so it lands
+ * on the next cell with probability one over the cells left. Cells on a win line are drawn first, so
+ * lines close early and stop telling boards apart. The number of states is dominated by the count
+ * vectors, so a count is collapsed as soon as the cells left can no longer change the reward it leads
+ * to: it is reduced to the highest threshold it reached once the next one is out of reach, and dropped
+ * once it can no longer reach the best threshold already reached by another symbol in any group.
+ * All non-standard symbols are merged into a single blank outcome. The final states are resolved with
+ * the engine's own reward rules and combined with the bonus distribution. The states of every cell are
+ * split between threads by hash and joined back in the order a single thread would have found them,
+ * so the figures do not depend on the number of threads. Probabilities are doubles, so the figures are
+ * exact up to floating-point rounding.
+ */
+public final class ExactRtpCalculator {
+
+  private static final GameLogger LOGGER = LoggingUtils.getLogger(ExactRtpCalculator.class.getName());
+
+  // Stored line states; a line running on a symbol stores its standard index plus FIRST_SYMBOL
+  private static final int UNSTARTED = 0;
+  private static final int DEAD = 1;
+  private static final int FIRST_SYMBOL = 2;
+  private static final int MAX_STANDARD_SYMBOLS = Long.SIZE;
+  private static final int COLLAPSE_CACHE_SIZE = 1 << 18;
+
+  private final ScratchGameEngine engine;
+  private final int bettingAmount;
+  private final int cells;
+  private final SymbolTable symbolTable;
+  private final CompiledWinCombination[] combinations;
+
+  // Standard symbol IDs by standard index; every other symbol is the blank outcome
+  private final int[] standardSymbols;
+  private final int[] standardIndex;
+  private final int blank;
+  private final int countCap;
+
+  // Threshold reached by a capped count in every group with same_symbols combinations
+  private final int[][] groupThresholds;
+  // Highest threshold of any group up to a capped count, and the lowest one above it
+  private final int[] floorThresholds;
+  private final int[] nextThresholds;
+
+  // Cells in the order they are drawn: cells on a line first, then the others, each in row-major order
+  private final int[] drawOrder;
+
+  // Lines of the linear combinations, as distinct cells, with their combination index and last cell drawn
+  private final int[] lineCombination;
+  private final int[] lineClosingCells;
+  private final int[][] linesByCell;
+  private final CompiledWinCombination[] linearCombinations;
+  private final int[] linearCombinationIndexes;
+
+  // Probability of every outcome (standard index, then blank) on every cell
+  private final double[][] cellDistributions;
+
+  // A state is packed into words of bit fields: counts, line states, completed-symbol masks, bonus case
+  private final int words;
+  private final int[] fieldWords;
+  private final int[] fieldShifts;
+  private final long[] fieldMasks;
+  private final int lineField;
+  private final int maskField;
+  private final int bonusField;
+  // Bits of the first word holding every count, or 0 if the counts do not fit in it
+  private final long countBits;
+
+  /**
+   * Constructs an {@code ExactRtpCalculator} for the given configuration and betting amount. The
+   * configuration is validated and compiled exactly as it would be for the game.
+   *
+   * @param gameConfig the game configuration
+   * @param bettingAmount the amount bet on every round
+   * @throws IllegalArgumentException if the configuration has more than 64 standard symbols
+   */
+  public ExactRtpCalculator(ScratchGameConfiguration gameConfig, int bettingAmount) {
+    this.engine = new ScratchGameEngine(gameConfig, bettingAmount);
+    this.bettingAmount = bettingAmount;
+    this.cells = engine.getRows() * engine.getColumns();
+    this.symbolTable = engine.getSymbolTable();
+    this.combinations = engine.getCompiledCombinations();
+
+    List<Integer> standard = new ArrayList<>();
+    this.standardIndex = new int[symbolTable.size()];
+    for (int id = 0; id < symbolTable.size(); id++) {
+      standardIndex[id] = symbolTable.isStandard(id) ? standard.size() : -1;
+      if (symbolTable.isStandard(id)) {
+        standard.add(id);
+      }
+    }
+    if (standard.size() > MAX_STANDARD_SYMBOLS) {
+      throw new IllegalArgumentException(String.format(
+          "Exact calculation supports up to %d standard symbols (found %d)", MAX_STANDARD_SYMBOLS, standard.size()));
+    }
+    this.standardSymbols = standard.stream().mapToInt(Integer::intValue).toArray();
+    this.blank = standardSymbols.length;
+
+    int maxCount = 0;
+    Map<String, List<Integer>> thresholdsByGroup = new LinkedHashMap<>();
+    List<CompiledWinCombination> linear = new ArrayList<>();
+    List<Integer> linearIndexes = new ArrayList<>();
+    for (int i = 0; i < combinations.length; i++) {
+      CompiledWinCombination wc = combinations[i];
+      if (wc.getWhen() == WinCondition.SAME_SYMBOLS) {
+        maxCount = Math.max(maxCount, wc.getCount());
+        thresholdsByGroup.computeIfAbsent(wc.getGroup(), group -> new ArrayList<>()).add(Math.max(wc.getCount(), 1));
+      } else if (wc.getWhen() == WinCondition.LINEAR_SYMBOLS && wc.getLines().length > 0) {
+        linear.add(wc);
+        linearIndexes.add(i);
+      }
+    }
+    // Counts above the highest threshold cannot change the outcome; without thresholds they are not needed
+    this.countCap = thresholdsByGroup.isEmpty() ? 0 : Math.max(maxCount, 1);
+    this.linearCombinations = linear.toArray(new CompiledWinCombination[0]);
+    this.linearCombinationIndexes = linearIndexes.stream().mapToInt(Integer::intValue).toArray();
+
+    this.groupThresholds = new int[thresholdsByGroup.size()][countCap + 1];
+    this.floorThresholds = new int[countCap + 1];
+    this.nextThresholds = new int[countCap + 1];
+    Arrays.fill(nextThresholds, Integer.MAX_VALUE);
+    int group = 0;
+    for (List<Integer> thresholds : thresholdsByGroup.values()) {
+      for (int threshold : thresholds) {
+        for (int count = threshold; count <= countCap; count++) {
+          groupThresholds[group][count] = Math.max(groupThresholds[group][count], threshold);
+          floorThresholds[count] = Math.max(floorThresholds[count], threshold);
+        }
+        for (int count = 0; count < threshold; count++) {
+          nextThresholds[count] = Math.min(nextThresholds[count], threshold);
+        }
+      }
+      group++;
+    }
+
+    List<int[]> lines = new ArrayList<>();
+    List<Integer> owners = new ArrayList<>();
+    boolean[] onLine = new boolean[cells];
+    for (int i = 0; i < linearCombinations.length; i++) {
+      for (int[] line : linearCombinations[i].getLines()) {
+        int[] distinctCells = Arrays.stream(line).distinct().sorted().toArray();
+        lines.add(distinctCells);
+        owners.add(i);
+        for (int cell : distinctCells) {
+          onLine[cell] = true;
+        }
+      }
+    }
+    this.lineCombination = owners.stream().mapToInt(Integer::intValue).toArray();
+
+    this.drawOrder = new int[cells];
+    int drawn = 0;
+    for (int pass = 0; pass < 2; pass++) {
+      for (int cell = 0; cell < cells; cell++) {
+        if (onLine[cell] == (pass == 0)) {
+          drawOrder[drawn++] = cell;
+        }
+      }
+    }
+    // Line cells keep their row-major order, so the last cell of a line is also the last one drawn
+    this.lineClosingCells = lines.stream().mapToInt(line -> line[line.length - 1]).toArray();
+
+    List<List<Integer>> byCell = new ArrayList<>();
+    for (int cell = 0; cell < cells; cell++) {
+      byCell.add(new ArrayList<>());
+    }
+    for (int line = 0; line < lines.size(); line++) {
+      for (int cell : lines.get(line)) {
+        byCell.get(cell).add(line);
+      }
+    }
+    this.linesByCell = byCell.stream().map(l -> l.stream().mapToInt(Integer::intValue).toArray()).toArray(int[][]::new);
+
+    this.cellDistributions = new double[cells][];
+    for (int cell = 0; cell < cells; cell++) {
+      WeightedSymbolSampler sampler = engine.getModel().getCellSampler(cell);
+      double[] distribution = new double[blank + 1];
+      for (int i = 0; i < sampler.size(); i++) {
+        int index = standardIndex[sampler.symbolAt(i)];
+        distribution[index < 0 ? blank : index] += sampler.probabilityAt(i);
+      }
+      cellDistributions[cell] = distribution;
+    }
+
+    // Fields never straddle two words; the bonus field holds 0 until the bonus symbol lands
+    int fields = blank + lines.size() + linearCombinations.length + 1;
+    this.lineField = blank;
+    this.maskField = lineField + lines.size();
+    this.bonusField = maskField + linearCombinations.length;
+    this.fieldWords = new int[fields];
+    this.fieldShifts = new int[fields];
+    this.fieldMasks = new long[fields];
+    WeightedSymbolSampler bonusSampler = engine.getModel().getBonusSampler();
+    int word = 0;
+    int shift = 0;
+    for (int field = 0; field < fields; field++) {
+      int bits;
+      if (field < lineField) {
+        bits = bitsFor(countCap);
+      } else if (field < maskField) {
+        bits = bitsFor(FIRST_SYMBOL + blank - 1);
+      } else if (field < bonusField) {
+        bits = blank;
+      } else {
+        bits = bitsFor(bonusSampler.size());
+      }
+      if (shift + bits > Long.SIZE) {
+        word++;
+        shift = 0;
+      }
+      fieldWords[field] = word;
+      fieldShifts[field] = shift;
+      fieldMasks[field] = bits == Long.SIZE ? -1L : (1L << bits) - 1;
+      shift += bits;
+    }
+    this.words = word + 1;
+    this.countBits = blank > 0 && countCap > 0 && fieldWords[blank - 1] == 0
+        ? fieldMasks[blank - 1] << fieldShifts[blank - 1] | (1L << fieldShifts[blank - 1]) - 1
+        : 0;
+  }
+
+  private static int bitsFor(int maxValue) {
+    return Integer.SIZE - Integer.numberOfLeadingZeros(maxValue);
+  }
+
+  /**
+   * Computes the exact reward distribution on a single thread.
+   *
+   * @return the reward distribution
+   */
+  public RewardDistribution calculate() {
+    return calculate(1);
+  }
+
+  /**
+   * Computes the exact reward distribution, spreading the states of every cell over the given number
+   * of threads. The result does not depend on the number of threads.
+   *
+   * @param parallelism the number of threads
+   * @return the reward distribution
+   * @throws IllegalArgumentException if the parallelism is not positive
+   */
+  public RewardDistribution calculate(int parallelism) {
+    if (parallelism <= 0) {
+      throw new IllegalArgumentException("Parallelism must be greater than 0");
+    }
+    long start = System.nanoTime();
+    BonusCase[] bonusCases = bonusCases();
+
+    StateMap states = new StateMap(words, 1);
+    long[] initial = new long[words];
+    states.add(initial, hash(initial), 1.0, 0);
+    int widest = 1;
+    ForkJoinPool pool = new ForkJoinPool(parallelism);
+    try {
+      Scratch[] scratches = new Scratch[parallelism];
+      for (int partition = 0; partition < parallelism; partition++) {
+        scratches[partition] = new Scratch();
+      }
+      for (int position = 0; position < cells; position++) {
+        states = draw(pool, states, scratches, position, bonusCases);
+        widest = Math.max(widest, states.size);
+      }
+    } finally {
+      pool.shutdown();
+    }
+
+    Accumulator total = new Accumulator();
+    ScratchGameEngine.Round round = engine.newRound(bettingAmount);
+    long[] state = new long[words];
+    for (int i = 0; i < states.size; i++) {
+      System.arraycopy(states.keys, i * words, state, 0, words);
+      resolve(state, states.probabilities[i], bonusCases[get(state, bonusField) - 1], round, total);
+    }
+
+    LOGGER.info(String.format("Calculated the exact reward distribution over %d cells (at most %d states) in %d ms",
+        cells, widest, (System.nanoTime() - start) / 1_000_000));
+    return total.toDistribution();
+  }
+
+  /**
+   * Groups the bonus symbols by the outcome they leave on their cell: non-standard bonus symbols all
+   * leave a blank cell behind, standard ones are cases of their own.
+   */
+  private BonusCase[] bonusCases() {
+    WeightedSymbolSampler bonusSampler = engine.getModel().getBonusSampler();
+    List<Integer> blankBonuses = new ArrayList<>();
+    List<Double> blankProbabilities = new ArrayList<>();
+    List<BonusCase> bonusCases = new ArrayList<>();
+    for (int i = 0; i < bonusSampler.size(); i++) {
+      int bonus = bonusSampler.symbolAt(i);
+      double probability = bonusSampler.probabilityAt(i);
+      if (probability == 0) {
+        continue;
+      }
+      if (symbolTable.isStandard(bonus)) {
+        bonusCases.add(new BonusCase(standardIndex[bonus], new int[] {bonus}, new double[] {probability}));
+      } else {
+        blankBonuses.add(bonus);
+        blankProbabilities.add(probability);
+      }
+    }
+    if (!blankBonuses.isEmpty()) {
+      bonusCases.add(0, new BonusCase(blank,
+          blankBonuses.stream().mapToInt(Integer::intValue).toArray(),
+          blankProbabilities.stream().mapToDouble(Double::doubleValue).toArray()));
+    }
+    return bonusCases.toArray(new BonusCase[0]);
+  }
+
+  /**
+   * Draws the next cell for every state. Every thread expands all the states but only keeps the ones
+   * falling in its own partition, so that no state is merged twice, then the partitions are joined in
+   * the order a single thread would have found their states. Every state is therefore reached by the
+   * same contributions in the same order whatever the number of threads, and so are the sums.
+   *
+   * @param pool the pool running the partitions
+   * @param states the states before the cell
+   * @param scratches the buffers of every thread, kept from cell to cell
+   * @param position the position of the cell in the draw order
+   * @param bonusCases the outcomes the bonus symbol can leave on its cell
+   * @return the states after the cell
+   */
+  private StateMap draw(ForkJoinPool pool, StateMap states, Scratch[] scratches, int position,
+      BonusCase[] bonusCases) {
+    int partitions = scratches.length;
+    List<ForkJoinTask<StateMap>> expansions = new ArrayList<>();
+    for (int partition = 0; partition < partitions; partition++) {
+      final int owned = partition;
+      expansions.add(pool.submit(() -> expand(states, owned, partitions, scratches[owned], position, bonusCases)));
+    }
+    StateMap[] parts = new StateMap[partitions];
+    for (int partition = 0; partition < partitions; partition++) {
+      parts[partition] = expansions.get(partition).join();
+    }
+    if (partitions == 1) {
+      return parts[0];
+    }
+
+    int size = 0;
+    for (StateMap part : parts) {
+      size += part.size;
+    }
+    StateMap next = new StateMap(words, size);
+    int[] cursors = new int[partitions];
+    for (int i = 0; i < size; i++) {
+      int first = -1;
+      for (int partition = 0; partition < partitions; partition++) {
+        StateMap part = parts[partition];
+        if (cursors[partition] < part.size && (first < 0
+            || part.origins[cursors[partition]] < parts[first].origins[cursors[first]])) {
+          first = partition;
+        }
+      }
+      next.append(parts[first], cursors[first]++);
+    }
+    return next;
+  }
+
+  /**
+   * Expands the states with every outcome of the cell, and with the bonus symbol landing on it if it
+   * has not landed yet, keeping the states of the given partition.
+   */
+  private StateMap expand(StateMap states, int partition, int partitions, Scratch scratch, int position,
+      BonusCase[] bonusCases) {
+    StateMap targets = new StateMap(words, 2 * states.size / partitions);
+    int cell = drawOrder[position];
+    int remaining = cells - 1 - position;
+    double[] distribution = cellDistributions[cell];
+    int transitions = bonusCases.length + distribution.length;
+    long[] state = new long[words];
+    long[] next = new long[words];
+
+    for (int i = 0; i < states.size; i++) {
+      System.arraycopy(states.keys, i * words, state, 0, words);
+      double probability = states.probabilities[i];
+      long origin = (long) i * transitions;
+      if (get(state, bonusField) == 0) {
+        // Every cell not drawn yet is equally likely to hold the bonus symbol
+        double landed = probability / (cells - position);
+        for (int c = 0; c < bonusCases.length; c++) {
+          advance(state, cell, bonusCases[c].outcome, remaining, next, scratch);
+          set(next, bonusField, c + 1);
+          add(targets, partition, partitions, next, landed, origin + c);
+        }
+        probability -= landed;
+        if (probability == 0) {
+          continue;
+        }
+      }
+      for (int outcome = 0; outcome < distribution.length; outcome++) {
+        if (distribution[outcome] > 0) {
+          advance(state, cell, outcome, remaining, next, scratch);
+          add(targets, partition, partitions, next, probability * distribution[outcome],
+              origin + bonusCases.length + outcome);
+        }
+      }
+    }
+    return targets;
+  }
+
+  private static void add(StateMap targets, int partition, int partitions, long[] state, double probability,
+      long origin) {
+    int hash = hash(state);
+    // The high bits of the hash pick the partition and the low bits the slot
+    if (partitions == 1 || (int) (((hash & 0xFFFFFFFFL) * partitions) >>> Integer.SIZE) == partition) {
+      targets.add(state, hash, probability, origin);
+    }
+  }
+
+  /**
+   * Places an outcome on a cell, updating the counts and the lines going through the cell, then
+   * collapses the counts the remaining cells can no longer turn into a different reward.
+   *
+   * @param state the state before the cell
+   * @param cell the row-major offset of the cell
+   * @param outcome the standard index of the symbol placed, or the blank outcome
+   * @param remaining the number of cells left to draw after this one
+   * @param next receives the state after the cell
+   * @param scratch the buffers of the expanding thread
+   */
+  private void advance(long[] state, int cell, int outcome, int remaining, long[] next, Scratch scratch) {
+    System.arraycopy(state, 0, next, 0, words);
+    if (outcome != blank) {
+      int count = get(next, outcome);
+      if (count < countCap) {
+        set(next, outcome, count + 1);
+      }
+    }
+    for (int line : linesByCell[cell]) {
+      int field = lineField + line;
+      int lineState = get(next, field);
+      if (lineState != DEAD) {
+        boolean broken = outcome == blank || (lineState != UNSTARTED && lineState != FIRST_SYMBOL + outcome);
+        lineState = broken ? DEAD : FIRST_SYMBOL + outcome;
+      }
+      if (cell == lineClosingCells[line]) {
+        if (lineState != DEAD) {
+          int mask = maskField + lineCombination[line];
+          next[fieldWords[mask]] |= 1L << (fieldShifts[mask] + lineState - FIRST_SYMBOL);
+        }
+        // A closed line no longer tells boards apart
+        lineState = DEAD;
+      }
+      set(next, field, lineState);
+    }
+    if (countCap == 0) {
+      return;
+    }
+    if (countBits == 0) {
+      collapseCounts(next, remaining, scratch);
+      return;
+    }
+
+    // The collapse only depends on the counts and the cells left, which are the same for the whole cell
+    long key = next[0] & countBits;
+    int slot = (int) ((key * 0x9E3779B97F4A7C15L) >>> (Long.SIZE - Integer.numberOfTrailingZeros(COLLAPSE_CACHE_SIZE)));
+    if (scratch.cachedRemaining[slot] != remaining || scratch.cacheKeys[slot] != key) {
+      collapseCounts(next, remaining, scratch);
+      scratch.cachedRemaining[slot] = remaining;
+      scratch.cacheKeys[slot] = key;
+      scratch.cacheValues[slot] = next[0] & countBits;
+    }
+    next[0] = (next[0] & ~countBits) | scratch.cacheValues[slot];
+  }
+
+  /**
+   * Collapses the counts that can no longer change the reward. A count whose next threshold is out of
+   * reach of the remaining cells is reduced to the highest threshold it reached. A count that cannot
+   * reach, in any group, the best threshold already reached by a symbol can never pay through that
+   * group, as the best threshold only grows, and is dropped.
+   */
+  private void collapseCounts(long[] state, int remaining, Scratch scratch) {
+    int[] counts = scratch.counts;
+    int[] groupBest = scratch.groupBest;
+    Arrays.fill(groupBest, 0);
+    for (int symbol = 0; symbol < blank; symbol++) {
+      counts[symbol] = get(state, symbol);
+      for (int group = 0; group < groupThresholds.length; group++) {
+        groupBest[group] = Math.max(groupBest[group], groupThresholds[group][counts[symbol]]);
+      }
+    }
+    for (int symbol = 0; symbol < blank; symbol++) {
+      int count = counts[symbol];
+      if (count == 0) {
+        continue;
+      }
+      int reach = Math.min(count + remaining, countCap);
+      boolean open = false;
+      for (int group = 0; group < groupThresholds.length && !open; group++) {
+        int threshold = groupThresholds[group][reach];
+        open = threshold > 0 && threshold >= groupBest[group];
+      }
+      if (!open) {
+        set(state, symbol, 0);
+      } else if (count + remaining < nextThresholds[count]) {
+        set(state, symbol, floorThresholds[count]);
+      }
+    }
+  }
+
+  private int get(long[] state, int field) {
+    return (int) ((state[fieldWords[field]] >>> fieldShifts[field]) & fieldMasks[field]);
+  }
+
+  private void set(long[] state, int field, int value) {
+    int word = fieldWords[field];
+    int shift = fieldShifts[field];
+    state[word] = (state[word] & ~(fieldMasks[field] << shift)) | ((long) value << shift);
+  }
+
+  private static int hash(long[] state) {
+    long hash = 0;
+    for (long word : state) {
+      hash = (hash ^ word) * 0x9E3779B97F4A7C15L;
+    }
+    // Murmur3 finalizer, so every bit of the state reaches both the partition and the slot bits
+    hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+    hash = (hash ^ (hash >>> 33)) * 0xC4CEB9FE1A85EC53L;
+    return (int) (hash ^ (hash >>> 33));
+  }
+
+  /**
+   * Resolves a final state into rewards using the engine's reward rules.
+   */
+  private void resolve(long[] state, double probability, BonusCase bonusCase, ScratchGameEngine.Round round,
+      Accumulator accumulator) {
+    for (int i = 0; i < standardSymbols.length; i++) {
+      round.symbolCounts[standardSymbols[i]] = get(state, i);
+    }
+
+    // Detected in the same order as a played round
+    engine.clearCombinations(round);
+    engine.detectSameSymbolCombinations(round);
+    for (int i = 0; i < linearCombinations.length; i++) {
+      int field = maskField + i;
+      long mask = (state[fieldWords[field]] >>> fieldShifts[field]) & fieldMasks[field];
+      while (mask != 0) {
+        engine.markCombination(round, linearCombinationIndexes[i], standardSymbols[Long.numberOfTrailingZeros(mask)]);
+        mask &= mask - 1;
+      }
+    }
+    double baseReward = engine.resolveBaseReward(round);
+
+    double caseProbability = 0;
+    for (int i = 0; i < bonusCase.bonuses.length; i++) {
+      double bonusProbability = probability * bonusCase.probabilities[i];
+      int reward = (int) Math.round(engine.applyBonusSymbolEffect(bonusCase.bonuses[i], baseReward));
+      accumulator.addReward(reward, bonusProbability);
+      caseProbability += bonusProbability;
+    }
+    for (int best : round.groupBest) {
+      if (best >= 0) {
+        accumulator.addCombination(combinations[best].getName(), caseProbability);
+      }
+    }
+  }
+
+  /**
+   * Packed states with their probabilities, in insertion order, indexed by an open-addressing table.
+   * Every state keeps the origin of its first contribution: the index of the state it was drawn from
+   * times the number of transitions, plus the transition.
+   */
+  private static final class StateMap {
+
+    private final int words;
+    private long[] keys;
+    private int[] hashes;
+    private double[] probabilities;
+    private long[] origins;
+    // Index of a state plus one, or 0 for a free slot
+    private int[] table;
+    private int size;
+
+    private StateMap(int words, int expectedSize) {
+      int capacity = Math.max(Integer.highestOneBit(Math.max(expectedSize, 1) - 1) << 1, 16);
+      this.words = words;
+      this.keys = new long[capacity * words];
+      this.hashes = new int[capacity];
+      this.probabilities = new double[capacity];
+      this.origins = new long[capacity];
+      this.table = new int[2 * capacity];
+    }
+
+    private void add(long[] key, int hash, double probability, long origin) {
+      int mask = table.length - 1;
+      for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+        int entry = table[slot];
+        if (entry == 0) {
+          table[slot] = size + 1;
+          store(key, 0, hash, probability, origin);
+          if (2 * size > table.length) {
+            rehash();
+          }
+          return;
+        }
+        int index = entry - 1;
+        if (hashes[index] == hash && sameKey(index, key)) {
+          probabilities[index] += probability;
+          return;
+        }
+      }
+    }
+
+    /**
+     * Appends a state of another map, known not to be in this one.
+     */
+    private void append(StateMap other, int index) {
+      int mask = table.length - 1;
+      int slot = other.hashes[index] & mask;
+      while (table[slot] != 0) {
+        slot = (slot + 1) & mask;
+      }
+      table[slot] = size + 1;
+      store(other.keys, index * words, other.hashes[index], other.probabilities[index], other.origins[index]);
+      if (2 * size > table.length) {
+        rehash();
+      }
+    }
+
+    private void store(long[] source, int offset, int hash, double probability, long origin) {
+      if (size == hashes.length) {
+        keys = Arrays.copyOf(keys, 2 * keys.length);
+        hashes = Arrays.copyOf(hashes, 2 * hashes.length);
+        probabilities = Arrays.copyOf(probabilities, 2 * probabilities.length);
+        origins = Arrays.copyOf(origins, 2 * origins.length);
+      }
+      System.arraycopy(source, offset, keys, size * words, words);
+      hashes[size] = hash;
+      probabilities[size] = probability;
+      origins[size] = origin;
+      size++;
+    }
+
+    private boolean sameKey(int index, long[] key) {
+      int start = index * words;
+      for (int word = 0; word < words; word++) {
+        if (keys[start + word] != key[word]) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private void rehash() {
+      table = new int[2 * table.length];
+      int mask = table.length - 1;
+      for (int index = 0; index < size; index++) {
+        int slot = hashes[index] & mask;
+        while (table[slot] != 0) {
+          slot = (slot + 1) & mask;
+        }
+        table[slot] = index + 1;
+      }
+    }
+  }
+
+  /**
+   * Buffers of a thread expanding states, with a direct-mapped cache of collapsed count vectors
+   * keyed by the counts and the number of cells left.
+   */
+  private final class Scratch {
+
+    private final int[] counts = new int[blank];
+    private final int[] groupBest = new int[groupThresholds.length];
+    private final long[] cacheKeys = new long[COLLAPSE_CACHE_SIZE];
+    private final long[] cacheValues = new long[COLLAPSE_CACHE_SIZE];
+    private final int[] cachedRemaining = new int[COLLAPSE_CACHE_SIZE];
+
+    private Scratch() {
+      Arrays.fill(cachedRemaining, -1);
+    }
+  }
+
+  /**
+   * The outcome left on the bonus cell, with the bonus symbols leading to it and their probabilities.
+   */
+  private static final class BonusCase {
+
+    private final int outcome;
+    private final int[] bonuses;
+    private final double[] probabilities;
+
+    private BonusCase(int outcome, int[] bonuses, double[] probabilities) {
+      this.outcome = outcome;
+      this.bonuses = bonuses;
+      this.probabilities = probabilities;
+    }
+  }
+
+  /**
+   * Accumulates reward and combination probabilities.
+   */
+  private final class Accumulator {
+
+    private final Map<Integer, double[]> rewards = new HashMap<>();
+    private final Map<String, double[]> combinationProbabilities = new HashMap<>();
+
+    private void addReward(int reward, double probability) {
+      rewards.computeIfAbsent(reward, k -> new double[1])[0] += probability;
+    }
+
+    private void addCombination(String combinationName, double probability) {
+      combinationProbabilities.computeIfAbsent(combinationName, k -> new double[1])[0] += probability;
+    }
+
+    private RewardDistribution toDistribution() {
+      TreeMap<Integer, Double> rewardProbabilities = new TreeMap<>();
+      rewards.forEach((reward, probability) -> rewardProbabilities.put(reward, probability[0]));
+      Map<String, Double> combinationsInOrder = new LinkedHashMap<>();
+      for (CompiledWinCombination wc : combinations) {
+        double[] probability = combinationProbabilities.get(wc.getName());
+        combinationsInOrder.put(wc.getName(), probability == null ? 0.0 : probability[0]);
+      }
+      return new RewardDistribution(bettingAmount, rewardProbabilities, combinationsInOrder);
+    }
+  }
+}
@@ -0,0 +1,241 @@
+package com.cyberspeed.engine;
+
+import com.cyberspeed.config.GameConfigModelValidator;
+import com.cyberspeed.exception.InvalidGameConfigurationException;
+import com.cyberspeed.model.Probabilities;
+import com.cyberspeed.model.ScratchGameConfiguration;
+import com.cyberspeed.model.StandardSymbolProbability;
+import com.cyberspeed.model.WinCombination;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * The {@code GameModel} class is the compiled, immutable form of a validated
+ * {@link ScratchGameConfiguration}. Symbols are interned into a {@link SymbolTable}, the probabilities
+ * into one {@link WeightedSymbolSampler} per cell, and the win combinations into primitive arrays of
+ * counts, multipliers, board offsets and line masks, with their {@code when} and {@code impact} fields
+ * resolved to {@link WinCondition} and {@link SymbolImpact}. Nothing refers back to the Jackson-bound
+ * configuration, so changing the configuration after compiling it has no effect, and a model can be
+ * shared by any number of engines and threads. Arrays are returned without copying to the engine
+ * package and must not be modified.
+ */
+public final class GameModel {
+
+  private final int rows;
+  private final int columns;
+  private final int cells;
+  // Whether the grid is small enough to evaluate win lines on bit masks
+  private final boolean bitboard;
+
+  // Symbols interned to IDs, and the IDs of the standard ones
+  private final SymbolTable symbolTable;
+  private final int[] standardSymbols;
+
+  // Samplers compiled once per cell (row-major), with the default fallback already resolved
+  private final WeightedSymbolSampler[] cellSamplers;
+  private final WeightedSymbolSampler bonusSampler;
+  private final List<String> bonusSymbols;
+
+  // Win combinations in configuration order, with their counts and multipliers unboxed
+  private final CompiledWinCombination[] combinations;
+  private final List<String> combinationNames;
+  private final int[] combinationCounts;
+  private final double[] combinationMultipliers;
+
+  // Linear combinations and the group of every combination, as indexes into combinations
+  private final int[] linearCombinations;
+  private final int[] combinationGroups;
+  private final int groupCount;
+  private final List<String> groupNames;
+
+  // Groups holding same_symbols combinations, with their count lookup tables
+  private final CompiledWinGroup[] sameSymbolGroups;
+
+  private GameModel(ScratchGameConfiguration config) {
+    this.rows = config.getRows();
+    this.columns = config.getColumns();
+    this.cells = rows * columns;
+    this.bitboard = cells <= CompiledWinCombination.MAX_BITBOARD_CELLS;
+
+    Probabilities probabilities = config.getProbabilities();
+    this.symbolTable = SymbolTable.compile(config.getSymbols(), probabilities);
+    this.standardSymbols = IntStream.range(0, symbolTable.size()).filter(symbolTable::isStandard).toArray();
+    this.cellSamplers = compileCellSamplers(probabilities.getStandardSymbols());
+    this.bonusSampler = WeightedSymbolSampler.of(probabilities.getBonusSymbols().getSymbols(), symbolTable);
+    this.bonusSymbols = List.copyOf(probabilities.getBonusSymbols().getSymbols().keySet());
+
+    List<CompiledWinCombination> compiled = new ArrayList<>();
+    for (Map.Entry<String, WinCombination> entry : config.getWinCombinations().entrySet()) {
+      compiled.add(CompiledWinCombination.compile(entry.getKey(), entry.getValue(), rows, columns));
+    }
+    this.combinations = compiled.toArray(new CompiledWinCombination[0]);
+    this.combinationNames = compiled.stream().map(CompiledWinCombination::getName).toList();
+    this.combinationCounts = compiled.stream().mapToInt(CompiledWinCombination::getCount).toArray();
+    this.combinationMultipliers = compiled.stream().mapToDouble(CompiledWinCombination::getRewardMultiplier).toArray();
+    this.linearCombinations = IntStream.range(0, combinations.length)
+        .filter(i -> combinations[i].getWhen() == WinCondition.LINEAR_SYMBOLS)
+        .toArray();
+
+    CompiledWinGroup[] groups = CompiledWinGroup.compile(combinations, cells);
+    this.combinationGroups = new int[combinations.length];
+    for (int group = 0; group < groups.length; group++) {
+      for (int combination : groups[group].getCombinations()) {
+        combinationGroups[combination] = group;
+      }
+    }
+    this.groupCount = groups.length;
+    this.groupNames = Arrays.stream(groups).map(group -> combinations[group.getCombinations()[0]].getGroup()).toList();
+    this.sameSymbolGroups = Arrays.stream(groups).filter(CompiledWinGroup::hasSameSymbols)
+        .toArray(CompiledWinGroup[]::new);
+  }
+
+  /**
+   * Validates a game configuration and compiles it.
+   *
+   * @param config the game configuration
+   * @return the compiled model
+   * @throws InvalidGameConfigurationException if the configuration is invalid
+   */
+  public static GameModel compile(ScratchGameConfiguration config) {
+    Objects.requireNonNull(config, "Game configuration cannot be null");
+    GameConfigModelValidator.validateGridDimensions(config);
+    GameConfigModelValidator.validateGameComponents(config);
+    return new GameModel(config);
+  }
+
+  /**
+   * Compiles the standard symbol probabilities into a dense grid holding one sampler per cell, with
+   * cells that have no probability entry of their own falling back to the first entry, so that
+   * generating a board does not need to walk the probability list.
+   */
+  private WeightedSymbolSampler[] compileCellSamplers(List<StandardSymbolProbability> standardProbabilities) {
+    WeightedSymbolSampler[] grid = new WeightedSymbolSampler[cells];
+    for (StandardSymbolProbability prob : standardProbabilities) {
+      int col = prob.getColumn();
+      int row = prob.getRow();
+      if (col >= 0 && col < columns && row >= 0 && row < rows) {
+        grid[row * columns + col] = WeightedSymbolSampler.of(prob.getSymbols(), symbolTable);
+      }
+    }
+
+    // Fill remaining cells with first probability config
+    WeightedSymbolSampler defaultSampler = WeightedSymbolSampler.of(standardProbabilities.get(0).getSymbols(), symbolTable);
+    for (int cell = 0; cell < grid.length; cell++) {
+      if (grid[cell] == null) {
+        grid[cell] = defaultSampler;
+      }
+    }
+    return grid;
+  }
+
+  public int getRows() {
+    return rows;
+  }
+
+  public int getColumns() {
+    return columns;
+  }
+
+  public int getCells() {
+    return cells;
+  }
+
+  public SymbolTable getSymbolTable() {
+    return symbolTable;
+  }
+
+  /**
+   * Retrieves the names of the win combinations.
+   *
+   * @return the names in configuration order, indexed like the combination IDs
+   */
+  public List<String> getCombinationNames() {
+    return combinationNames;
+  }
+
+  /**
+   * Retrieves the names of the bonus symbols.
+   *
+   * @return the names in the order of the bonus symbol probabilities
+   */
+  public List<String> getBonusSymbols() {
+    return bonusSymbols;
+  }
+
+  /**
+   * Retrieves the names of the win combination groups.
+   *
+   * @return the names in order of first appearance, indexed like the group IDs
+   */
+  public List<String> getGroupNames() {
+    return groupNames;
+  }
+
+  boolean isBitboard() {
+    return bitboard;
+  }
+
+  int[] getStandardSymbols() {
+    return standardSymbols;
+  }
+
+  /**
+   * Retrieves the sampler of a cell.
+   *
+   * @param cell the row-major offset of the cell
+   * @return the sampler drawing the standard symbol of the cell
+   */
+  WeightedSymbolSampler getCellSampler(int cell) {
+    return cellSamplers[cell];
+  }
+
+  WeightedSymbolSampler[] getCellSamplers() {
+    return cellSamplers;
+  }
+
+  WeightedSymbolSampler getBonusSampler() {
+    return bonusSampler;
+  }
+
+  CompiledWinCombination[] getCombinations() {
+    return combinations;
+  }
+
+  int[] getCombinationCounts() {
+    return combinationCounts;
+  }
+
+  double[] getCombinationMultipliers() {
+    return combinationMultipliers;
+  }
+
+  int[] getLinearCombinations() {
+    return linearCombinations;
+  }
+
+  int[] getCombinationGroups() {
+    return combinationGroups;
+  }
+
+  int getGroupCount() {
+    return groupCount;
+  }
+
+  CompiledWinGroup[] getSameSymbolGroups() {
+    return sameSymbolGroups;
+  }
+
+  @Override
+  public String toString() {
+    return "GameModel{" +
+        "rows=" + rows +
+        ", columns=" + columns +
+        ", symbols=" + symbolTable.size() +
+        ", winCombinations=" + combinationNames +
+        '}';
+  }
+}
@@ -0,0 +1,164 @@
+package com.cyberspeed.engine;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+
+/**
+ * The {@code RewardDistribution} class is the exact outcome of a game configuration as computed by
+ * {@link ExactRtpCalculator}: the probability of every reward a round can pay for a given bet, and the
+ * probability of every win combination being applied to a round. The return to player, hit frequency
+ * and spread of the rewards are derived from the distribution, so they carry no sampling error and can
+ * be compared with the figures of a Monte Carlo simulation. Instances are immutable.
+ */
+public final class RewardDistribution {
+
+  private final int bettingAmount;
+  private final NavigableMap<Integer, Double> rewardProbabilities;
+  private final Map<String, Double> combinationProbabilities;
+
+  /**
+   * Constructs a {@code RewardDistribution}.
+   *
+   * @param bettingAmount the amount bet on every round
+   * @param rewardProbabilities the probability of every reward, ordered by reward
+   * @param combinationProbabilities the probability of every win combination being applied, in configuration order
+   */
+  RewardDistribution(int bettingAmount, NavigableMap<Integer, Double> rewardProbabilities,
+      Map<String, Double> combinationProbabilities) {
+    this.bettingAmount = bettingAmount;
+    this.rewardProbabilities = Collections.unmodifiableNavigableMap(
+        Objects.requireNonNull(rewardProbabilities, "Reward probabilities cannot be null"));
+    this.combinationProbabilities = Collections.unmodifiableMap(
+        Objects.requireNonNull(combinationProbabilities, "Combination probabilities cannot be null"));
+  }
+
+  public int getBettingAmount() {
+    return bettingAmount;
+  }
+
+  /**
+   * Retrieves the probability of every reward a round can pay.
+   *
+   * @return the probabilities keyed by reward, in ascending reward order
+   */
+  public NavigableMap<Integer, Double> getRewardProbabilities() {
+    return rewardProbabilities;
+  }
+
+  /**
+   * Retrieves the probability of a round paying exactly the given reward.
+   *
+   * @param reward the reward
+   * @return the probability of the reward, 0 if it cannot be paid
+   */
+  public double getProbability(int reward) {
+    return rewardProbabilities.getOrDefault(reward, 0.0);
+  }
+
+  /**
+   * Retrieves the probability of a win combination being applied to a round.
+   *
+   * @param combinationName the name of the win combination
+   * @return the probability of the combination, 0 if the combination is unknown
+   */
+  public double getCombinationProbability(String combinationName) {
+    return combinationProbabilities.getOrDefault(combinationName, 0.0);
+  }
+
+  /**
+   * Retrieves the sum of all reward probabilities, which only differs from 1 by floating-point rounding.
+   *
+   * @return the total probability
+   */
+  public double getTotalProbability() {
+    return rewardProbabilities.values().stream().mapToDouble(Double::doubleValue).sum();
+  }
+
+  public double getExpectedReward() {
+    double expected = 0;
+    for (Map.Entry<Integer, Double> entry : rewardProbabilities.entrySet()) {
+      expected += entry.getKey() * entry.getValue();
+    }
+    return expected;
+  }
+
+  /**
+   * Retrieves the return to player, the expected reward divided by the bet.
+   *
+   * @return the return to player as a fraction of the bet
+   */
+  public double getReturnToPlayer() {
+    return getExpectedReward() / bettingAmount;
+  }
+
+  /**
+   * Retrieves the hit frequency, the probability of a round paying a reward.
+   *
+   * @return the probability of a reward greater than 0
+   */
+  public double getHitFrequency() {
+    return rewardProbabilities.tailMap(0, false).values().stream().mapToDouble(Double::doubleValue).sum();
+  }
+
+  public double getStandardDeviation() {
+    double expected = getExpectedReward();
+    double variance = 0;
+    for (Map.Entry<Integer, Double> entry : rewardProbabilities.entrySet()) {
+      double deviation = entry.getKey() - expected;
+      variance += deviation * deviation * entry.getValue();
+    }
+    return Math.sqrt(variance);
+  }
+
+  public int getMaxReward() {
+    return rewardProbabilities.isEmpty() ? 0 : rewardProbabilities.lastKey();
+  }
+
+  /**
+   * Builds a human-readable report of the distribution.
+   *
+   * @return the report
+   */
+  public String toReport() {
+    StringBuilder report = new StringBuilder();
+    report.append("Scratch Game exact RTP report").append(System.lineSeparator());
+    appendLine(report, "Betting amount", String.format("%,d", bettingAmount));
+    appendLine(report, "Expected reward", String.format("%,.6f", getExpectedReward()));
+    appendLine(report, "Return to player", String.format("%.6f %%", getReturnToPlayer() * 100));
+    appendLine(report, "Hit frequency", String.format("%.6f %%", getHitFrequency() * 100));
+    appendLine(report, "Standard deviation", String.format("%,.4f", getStandardDeviation()));
+    appendLine(report, "Max reward", String.format("%,d", getMaxReward()));
+
+    report.append(System.lineSeparator()).append("Reward distribution").append(System.lineSeparator());
+    for (Map.Entry<Integer, Double> entry : rewardProbabilities.entrySet()) {
+      appendProbability(report, String.format("%,d", entry.getKey()), entry.getValue());
+    }
+
+    report.append(System.lineSeparator()).append("Win combination probabilities").append(System.lineSeparator());
+    for (Map.Entry<String, Double> entry : combinationProbabilities.entrySet()) {
+      appendProbability(report, entry.getKey(), entry.getValue());
+    }
+    return report.toString();
+  }
+
+  private static void appendLine(StringBuilder report, String label, String value) {
+    report.append(String.format("  %-40s %s", label + ":", value)).append(System.lineSeparator());
+  }
+
+  private static void appendProbability(StringBuilder report, String label, double probability) {
+    String odds = probability > 0 ? String.format("1 in %,.1f", 1 / probability) : "never";
+    report.append(String.format("  %-40s %13.9f %%  %s", label, probability * 100, odds))
+        .append(System.lineSeparator());
+  }
+
+  @Override
+  public String toString() {
+    return "RewardDistribution{" +
+        "bettingAmount=" + bettingAmount +
+        ", rewardProbabilities=" + rewardProbabilities +
+        ", combinationProbabilities=" + combinationProbabilities +
+        '}';
+  }
+}
@@ -0,0 +1,207 @@
+package com.cyberspeed.engine;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The {@code RoundBatch} class holds the outcome of many rounds in columnar primitive arrays, filled by
+ * {@link ScratchGameEngine#playBatch}. Round {@code i} paid {@code getRewards()[i]}, had the bonus
+ * symbol with ID {@code getBonusSymbols()[i]}, and its applied win combinations are the bits set in
+ * {@code getCombinations()} from word {@code i * getCombinationWords()}, bit {@code n} standing for the
+ * n-th win combination of the configuration. When created with boards, the symbol IDs of its cells
+ * (row-major) are stored as unsigned bytes from offset {@code i * getCells()} of {@code getBoards()}.
+ * A batch is created once by the engine, either on arrays it allocates or on arrays supplied by the
+ * caller, such as the columns of a back office, and is refilled for every call, so playing rounds in
+ * batches does not allocate per round. Instances are not thread-safe.
+ */
+public final class RoundBatch {
+
+  private final SymbolTable symbolTable;
+  private final List<String> combinationNames;
+  private final int cells;
+  private final int combinationWords;
+
+  private final int[] rewards;
+  private final int[] bonusSymbols;
+  private final long[] combinations;
+  private final byte[] boards;
+
+  private int size;
+  private int bettingAmount;
+
+  /**
+   * Constructs a batch on the given arrays, whose capacity is the length of {@code rewards}.
+   *
+   * @throws IllegalArgumentException if the capacity is not positive or another array is too short for it
+   */
+  RoundBatch(SymbolTable symbolTable, List<String> combinationNames, int cells, int[] rewards, int[] bonusSymbols,
+      long[] combinations, byte[] boards) {
+    this.symbolTable = symbolTable;
+    this.combinationNames = List.copyOf(combinationNames);
+    this.cells = cells;
+    this.combinationWords = combinationWords(combinationNames.size());
+    this.rewards = Objects.requireNonNull(rewards, "Rewards array cannot be null");
+    this.bonusSymbols = Objects.requireNonNull(bonusSymbols, "Bonus symbols array cannot be null");
+    this.combinations = Objects.requireNonNull(combinations, "Combinations array cannot be null");
+    this.boards = boards;
+
+    int capacity = rewards.length;
+    if (capacity == 0) {
+      throw new IllegalArgumentException("Batch capacity must be greater than 0");
+    }
+    checkLength("Bonus symbols", bonusSymbols.length, capacity);
+    checkLength("Combinations", combinations.length, (long) capacity * combinationWords);
+    if (boards != null) {
+      checkLength("Boards", boards.length, (long) capacity * cells);
+    }
+  }
+
+  private static void checkLength(String array, int length, long required) {
+    if (length < required) {
+      throw new IllegalArgumentException(String.format("%s array must hold at least %d elements (found %d)",
+          array, required, length));
+    }
+  }
+
+  /**
+   * Computes the number of longs of the combination bitset of a round.
+   *
+   * @param combinations the number of win combinations of the configuration
+   * @return the number of words, at least one
+   */
+  static int combinationWords(int combinations) {
+    return Math.max(1, (combinations + Long.SIZE - 1) / Long.SIZE);
+  }
+
+  /**
+   * Clears the batch before it is refilled with the given number of rounds.
+   *
+   * @param bettingAmount the amount bet on every round of the batch
+   * @param rounds the number of rounds about to be added
+   */
+  void reset(int bettingAmount, int rounds) {
+    this.size = 0;
+    this.bettingAmount = bettingAmount;
+    Arrays.fill(combinations, 0, rounds * combinationWords, 0L);
+  }
+
+  /**
+   * Appends the outcome of a round.
+   *
+   * @param reward the reward of the round
+   * @param bonusSymbol the ID of the bonus symbol of the round
+   * @param board the board of symbol IDs of the round, only copied when the batch keeps boards
+   * @return the index of the round in the batch
+   */
+  int add(int reward, int bonusSymbol, int[] board) {
+    int index = size++;
+    rewards[index] = reward;
+    bonusSymbols[index] = bonusSymbol;
+    if (boards != null) {
+      int offset = index * cells;
+      for (int cell = 0; cell < cells; cell++) {
+        boards[offset + cell] = (byte) board[cell];
+      }
+    }
+    return index;
+  }
+
+  void setCombination(int round, int combination) {
+    combinations[round * combinationWords + (combination >>> 6)] |= 1L << combination;
+  }
+
+  SymbolTable getSymbolTable() {
+    return symbolTable;
+  }
+
+  public int getCapacity() {
+    return rewards.length;
+  }
+
+  /**
+   * Retrieves the number of rounds filled by the last call to the engine.
+   *
+   * @return the number of valid rounds at the start of the arrays
+   */
+  public int size() {
+    return size;
+  }
+
+  public int getBettingAmount() {
+    return bettingAmount;
+  }
+
+  public int getCells() {
+    return cells;
+  }
+
+  public int getCombinationWords() {
+    return combinationWords;
+  }
+
+  public boolean hasBoards() {
+    return boards != null;
+  }
+
+  public int[] getRewards() {
+    return rewards;
+  }
+
+  public int[] getBonusSymbols() {
+    return bonusSymbols;
+  }
+
+  public long[] getCombinations() {
+    return combinations;
+  }
+
+  public byte[] getBoards() {
+    return boards;
+  }
+
+  /**
+   * Retrieves the names of the win combinations, indexed like the combination bits.
+   *
+   * @return the combination names in configuration order
+   */
+  public List<String> getCombinationNames() {
+    return combinationNames;
+  }
+
+  /**
+   * Checks whether a win combination was applied to a round.
+   *
+   * @param round the index of the round in the batch
+   * @param combination the index of the win combination
+   * @return true if the combination was applied to at least one symbol of the round
+   */
+  public boolean hasCombination(int round, int combination) {
+    return (combinations[round * combinationWords + (combination >>> 6)] & (1L << combination)) != 0;
+  }
+
+  /**
+   * Retrieves the symbol ID of a cell of a round.
+   *
+   * @param round the index of the round in the batch
+   * @param cell the row-major offset of the cell
+   * @return the symbol ID
+   * @throws IllegalStateException if the batch does not keep boards
+   */
+  public int getSymbol(int round, int cell) {
+    if (boards == null) {
+      throw new IllegalStateException("Batch was created without boards");
+    }
+    return boards[round * cells + cell] & 0xFF;
+  }
+
+  /**
+   * Retrieves the name of a symbol ID stored in the batch.
+   *
+   * @param symbol the symbol ID
+   * @return the symbol name
+   */
+  public String getSymbolName(int symbol) {
+    return symbolTable.nameOf(symbol);
+  }
+}
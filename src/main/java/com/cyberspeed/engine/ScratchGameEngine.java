@@ -1,272 +1,732 @@
 package com.cyberspeed.engine;
 
-import com.cyberspeed.config.GameConfigModelValidator;
 import com.cyberspeed.exception.InvalidBettingAmountException;
-import com.cyberspeed.model.BonusSymbolProbability;
-import com.cyberspeed.model.CombinationData;
-import com.cyberspeed.model.Probabilities;
+import com.cyberspeed.metrics.RoundMetrics;
+import com.cyberspeed.metrics.RoundMetrics.Stage;
+import com.cyberspeed.metrics.RoundRecorder;
+import com.cyberspeed.model.PlayResult;
+import com.cyberspeed.model.RoundExplanation;
 import com.cyberspeed.model.ScratchGameConfiguration;
-import com.cyberspeed.model.StandardSymbolProbability;
-import com.cyberspeed.model.SymbolDefinition;
-import com.cyberspeed.model.WinCombination;
-import com.fasterxml.jackson.annotation.JsonProperty;
+import com.cyberspeed.util.RandomUtils;
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Random;
-import java.util.Set;
+import java.util.function.IntConsumer;
+import java.util.random.RandomGenerator;
 
 /**
  * The {@code ScratchGameEngine} class is responsible for managing the core logic of the Scratch Game.
  * It initializes the game configuration, validates the setup, and handles the game mechanics such as
  * generating the game matrix, applying bonus symbols, and calculating rewards based on winning combinations.
  * The class provides methods to start the game, process symbol combinations, and apply bonus effects.
- * It also maintains the state of the game, including the matrix, reward, and applied winning combinations.
+ * Rounds are evaluated by {@link #play(RandomGenerator, int)} on per-round state only, so a single engine
+ * can serve concurrent callers as long as each of them brings its own random generator. The buffers of
+ * a round are kept per thread and reused by its next rounds, so only threads that live across rounds,
+ * such as pool workers or the platform threads of a server, play without allocating them; a thread
+ * started for a single round, like the virtual thread of a server request, allocates its own. The legacy
+ * {@link #startGame()} methods keep the result of the last round for the getters and are meant for a
+ * single caller, such as the Swing panel. They draw from the generator injected at construction, which
+ * defaults to an unseeded {@value RandomUtils#DEFAULT_ALGORITHM}; any round can be replayed exactly with
+ * {@link #play(long, int)} given the seed of its generator. The configuration is only read through the
+ * immutable {@link GameModel} it is compiled into, so changing it after the engine is created has no
+ * effect. Engines given a {@link RoundMetrics} time the stages of the rounds they play and count their
+ * outcomes; the others skip instrumentation entirely. A {@link RoundExplanation} of the reward is only
+ * built for rounds played or evaluated with {@code explain} set, so other rounds pay nothing for it.
  */
 public class ScratchGameEngine {
 
-  private int columns;
-  private int rows;
-  private Map<String, SymbolDefinition> symbols;
-  private Probabilities probabilities;
-  @JsonProperty("win_combinations")
-  private Map<String, WinCombination> winCombinations;
+  // Compiled configuration; the fields below are copied from it so the hot paths read final fields only
+  private final GameModel model;
+  private final int columns;
+  private final int rows;
   private final int bettingAmount;
+  private final boolean bitboard;
 
-  /**
-   * Inner class to track the steps involved in calculating the reward.
-   */
-  private static class CalculationSteps {
+  // Symbols interned to IDs, with their metadata held in arrays
+  private final SymbolTable symbolTable;
+  private final int[] standardSymbols;
 
-    // 1. Symbol frequencies (e.g., "A" appears 8 times)
-    Map<String, Integer> symbolCounts;
+  // Samplers compiled once per cell (row-major), with the default fallback already resolved
+  private final WeightedSymbolSampler[] cellSamplers;
+  private final WeightedSymbolSampler bonusSampler;
 
-    // 2. Raw combinations detected (e.g., "same_symbol_8_times")
-    Map<String, CombinationData> combinationSymbols;
+  // Win combinations in configuration order, with covered areas parsed into board offsets
+  private final CompiledWinCombination[] compiledCombinations;
+  private final int[] combinationCounts;
+  private final double[] combinationMultipliers;
 
-    // 3. Best multiplier per group (e.g., "same_symbols" group uses x10)
-    Map<String, Double> groupMultipliers = new HashMap<>();
+  // Linear combinations and the group of every combination, as indexes into compiledCombinations
+  private final int[] linearCombinations;
+  private final int[] combinationGroups;
+  private final List<String> groupNames;
 
-    // 4. Base reward before applying bonuses
-    double baseReward;
+  // Groups holding same_symbols combinations, with their count lookup tables
+  private final CompiledWinGroup[] sameSymbolGroups;
+
+  // Scratch round of every thread calling play(), sized for the compiled configuration. Only reused by
+  // threads that play more than one round; a virtual thread per request allocates one every time.
+  private final ThreadLocal<Round> scratchRounds;
 
-    // 5. Bonus symbol and its impact (e.g., "10x" or "MISS")
-    String bonusImpact;
+  // Records the rounds played, or null when instrumentation is off
+  private final RoundRecorder recorder;
 
-    // 6. Final reward after applying bonuses
-    double totalReward;
+  /**
+   * Inner class holding the state of a single round, so that rounds never share mutable state.
+   * All buffers are indexed by symbol, combination or group ID and are sized once for the compiled
+   * configuration, so a round can be reused for any number of rounds without allocating.
+   * Package-private so that the benchmarks can drive the phases of a round separately.
+   */
+  static final class Round {
+
+    // Board of symbol IDs (row-major); the String matrix is only materialised for the result
+    final int[] board;
+    final int[] symbolCounts;
+    // Occurrences of every symbol as a bit mask over the board, used when the grid fits in a long
+    final long[] symbolMasks;
+    // Symbols qualifying for every combination, as a bitset of symbolWords words per combination
+    final long[] combinationSymbols;
+    final int symbolWords;
+    // Best detected combination of every group, or -1 when none was detected
+    final int[] groupBest;
+    // Symbols paid by the round, with the product of the multipliers of their applied combinations
+    final long[] paidSymbols;
+    final double[] symbolMultipliers;
+    int bettingAmount;
+    int appliedBonusSymbol;
+    double baseReward;
+    int reward;
+
+    Round(int cells, int symbolCount, int combinationCount, int groupCount, int bettingAmount) {
+      this.board = new int[cells];
+      this.symbolCounts = new int[symbolCount];
+      this.symbolMasks = new long[symbolCount];
+      this.symbolWords = (symbolCount + Long.SIZE - 1) / Long.SIZE;
+      this.combinationSymbols = new long[combinationCount * symbolWords];
+      this.groupBest = new int[groupCount];
+      this.paidSymbols = new long[symbolWords];
+      this.symbolMultipliers = new double[symbolCount];
+      this.bettingAmount = bettingAmount;
+    }
   }
 
-  // Tracks calculation steps for logging/breakdowns
-  private CalculationSteps calculationSteps;
+  // Generator used by startGame(), owned by the engine
+  private final RandomGenerator rand;
 
-  private int reward;
-  private String[][] matrix;
-  private Map<String, List<String>> appliedWinningCombinations = new HashMap<>();
-  private String appliedBonusSymbol;
+  // Result of the last round started through startGame()
+  private PlayResult lastResult;
 
   /**
    * Constructs a {@code ScratchGameEngine} with the specified game configuration and betting amount.
-   * Validates the configuration and initializes the game fields.
+   * Validates the configuration and compiles it into a {@link GameModel}.
    *
    * @param gameConfig the game configuration
    * @param bettingAmount the betting amount for the game
    * @throws InvalidBettingAmountException if the betting amount is less than or equal to zero
    */
   public ScratchGameEngine(ScratchGameConfiguration gameConfig, int bettingAmount) {
-    validateConstructorArguments(gameConfig);
-    initializeFields(gameConfig);
+    this(gameConfig, bettingAmount, RandomUtils.create(RandomUtils.DEFAULT_ALGORITHM));
+  }
+
+  /**
+   * Constructs a {@code ScratchGameEngine} with the specified game configuration, betting amount and
+   * random number generator. The generator is used by {@link #startGame()} and should not be shared
+   * with other threads.
+   *
+   * @param gameConfig the game configuration
+   * @param bettingAmount the betting amount for the game
+   * @param rand the random number generator used to play the rounds started by {@link #startGame()}
+   * @throws InvalidBettingAmountException if the betting amount is less than or equal to zero
+   */
+  public ScratchGameEngine(ScratchGameConfiguration gameConfig, int bettingAmount, RandomGenerator rand) {
+    this(GameModel.compile(gameConfig), bettingAmount, rand);
+  }
+
+  /**
+   * Constructs a {@code ScratchGameEngine} playing an already compiled model, which can be shared with
+   * other engines.
+   *
+   * @param model the compiled game model
+   * @param bettingAmount the betting amount for the game
+   * @param rand the random number generator used to play the rounds started by {@link #startGame()}
+   * @throws InvalidBettingAmountException if the betting amount is less than or equal to zero
+   */
+  public ScratchGameEngine(GameModel model, int bettingAmount, RandomGenerator rand) {
+    this(model, bettingAmount, rand, null);
+  }
+
+  /**
+   * Constructs a {@code ScratchGameEngine} recording the rounds played by {@link #play(RandomGenerator, int)}
+   * and {@link #playBatch} into the given metrics. Rounds evaluated from stored boards are not recorded.
+   *
+   * @param model the compiled game model
+   * @param bettingAmount the betting amount for the game
+   * @param rand the random number generator used to play the rounds started by {@link #startGame()}
+   * @param metrics the metrics receiving the rounds, or null to play without instrumentation
+   * @throws InvalidBettingAmountException if the betting amount is less than or equal to zero
+   */
+  public ScratchGameEngine(GameModel model, int bettingAmount, RandomGenerator rand, RoundMetrics metrics) {
+    this.rand = Objects.requireNonNull(rand, "Random generator cannot be null");
+    this.model = Objects.requireNonNull(model, "Game model cannot be null");
 
     // used by tests
     if (bettingAmount <= 0) {
       throw new InvalidBettingAmountException("Betting amount must be greater than 0");
     }
     this.bettingAmount = bettingAmount;
+
+    this.columns = model.getColumns();
+    this.rows = model.getRows();
+    this.bitboard = model.isBitboard();
+    this.symbolTable = model.getSymbolTable();
+    this.standardSymbols = model.getStandardSymbols();
+    this.cellSamplers = model.getCellSamplers();
+    this.bonusSampler = model.getBonusSampler();
+    this.compiledCombinations = model.getCombinations();
+    this.combinationCounts = model.getCombinationCounts();
+    this.combinationMultipliers = model.getCombinationMultipliers();
+    this.linearCombinations = model.getLinearCombinations();
+    this.combinationGroups = model.getCombinationGroups();
+    this.groupNames = model.getGroupNames();
+    this.sameSymbolGroups = model.getSameSymbolGroups();
+    this.scratchRounds = ThreadLocal.withInitial(() -> newRound(bettingAmount));
+    this.recorder = metrics == null ? null : metrics.recorderFor(model);
+  }
+
+  /**
+   * Starts the game by resetting the reward, clearing applied combinations,
+   * generating the game matrix, applying bonus symbols, and calculating the reward.
+   */
+  public void startGame() {
+    startGameWith(rand);
   }
 
   /**
-   * Validates the constructor arguments to ensure the game configuration is not null
-   * and meets the required specifications.
+   * Starts the game drawing every random number of the round from the given generator.
+   * Playing rounds with generators of a reproducible stream reproduces the rounds.
    *
-   * @param gameConfig the game configuration to validate
+   * @param rand the random number generator of the round
    */
-  private void validateConstructorArguments(ScratchGameConfiguration gameConfig) {
-    Objects.requireNonNull(gameConfig, "Game configuration cannot be null");
+  public void startGameWith(RandomGenerator rand) {
+    this.lastResult = play(rand, bettingAmount);
+  }
 
-    GameConfigModelValidator.validateGridDimensions(gameConfig);
-    GameConfigModelValidator.validateGameComponents(gameConfig);
+  /**
+   * Replays the round drawn by a {@value RandomUtils#DEFAULT_ALGORITHM} generator created with the given
+   * seed. Calling it twice with the same seed and betting amount returns equal results.
+   *
+   * @param seed the seed of the generator of the round
+   * @param bettingAmount the amount bet on the round
+   * @return the immutable result of the round
+   * @throws InvalidBettingAmountException if the betting amount is less than or equal to zero
+   */
+  public PlayResult play(long seed, int bettingAmount) {
+    return play(seed, bettingAmount, false);
   }
 
   /**
-   * Initializes the fields of the game engine using the provided game configuration.
+   * Replays the round drawn by a {@value RandomUtils#DEFAULT_ALGORITHM} generator created with the given
+   * seed, optionally with the explanation of its reward, for instance to answer a support ticket.
    *
-   * @param gameConfig the game configuration
+   * @param seed the seed of the generator of the round
+   * @param bettingAmount the amount bet on the round
+   * @param explain whether to attach a {@link RoundExplanation} to the result
+   * @return the immutable result of the round
+   * @throws InvalidBettingAmountException if the betting amount is less than or equal to zero
    */
-  private void initializeFields(ScratchGameConfiguration gameConfig) {
-    this.columns = gameConfig.getColumns();
-    this.rows = gameConfig.getRows();
-    this.symbols = gameConfig.getSymbols();
-    this.probabilities = gameConfig.getProbabilities();
-    this.winCombinations = gameConfig.getWinCombinations();
+  public PlayResult play(long seed, int bettingAmount, boolean explain) {
+    return play(RandomUtils.create(RandomUtils.DEFAULT_ALGORITHM, seed), bettingAmount, explain);
   }
 
   /**
-   * Starts the game by resetting the reward, clearing applied combinations,
-   * generating the game matrix, applying bonus symbols, and calculating the reward.
+   * Plays a single round without touching the state of the engine. Every random number of the round is
+   * drawn from the given generator, so concurrent callers must each use their own generator.
+   *
+   * @param rand the random number generator of the round
+   * @param bettingAmount the amount bet on the round
+   * @return the immutable result of the round
+   * @throws InvalidBettingAmountException if the betting amount is less than or equal to zero
    */
-  public void startGame() {
-    this.reward = 0;
-    this.appliedWinningCombinations.clear();
-    this.appliedBonusSymbol = null;
-    this.matrix = generateMatrix();
-    applyBonusSymbol();
-    calculateReward();
+  public PlayResult play(RandomGenerator rand, int bettingAmount) {
+    return play(rand, bettingAmount, false);
   }
 
   /**
-   * Generates the game matrix by filling it with symbols based on their probabilities.
+   * Plays a single round like {@link #play(RandomGenerator, int)}, optionally with the explanation of
+   * its reward. Explaining a round draws the same random numbers, so the round is the same either way.
    *
-   * @return the generated game matrix
+   * @param rand the random number generator of the round
+   * @param bettingAmount the amount bet on the round
+   * @param explain whether to attach a {@link RoundExplanation} to the result
+   * @return the immutable result of the round
+   * @throws InvalidBettingAmountException if the betting amount is less than or equal to zero
    */
-  private String[][] generateMatrix() {
-    String[][] grid = new String[rows][columns];
-    Random rand = new Random();
+  public PlayResult play(RandomGenerator rand, int bettingAmount, boolean explain) {
+    Objects.requireNonNull(rand, "Random generator cannot be null");
+    if (bettingAmount <= 0) {
+      throw new InvalidBettingAmountException("Betting amount must be greater than 0");
+    }
+
+    Round round = scratchRounds.get();
+    round.bettingAmount = bettingAmount;
+    long evaluated = playRound(round, rand);
 
-    // Fill standard symbols
-    for (StandardSymbolProbability prob : probabilities.getStandardSymbols()) {
-      int col = prob.getColumn();
-      int row = prob.getRow();
-      if (col < columns && row < rows) {
-        grid[row][col] = selectSymbol(prob.getSymbols(), rand);
+    if (recorder == null) {
+      return toResult(round, explain);
+    }
+    PlayResult result = toResult(round, explain);
+    recorder.recordStage(Stage.RESULT, System.nanoTime() - evaluated);
+    return result;
+  }
+
+  /**
+   * Plays a round into its state: generates the board, places the bonus symbol and calculates the
+   * reward, timing every stage and recording the outcome when the engine has metrics.
+   *
+   * @param round the round being played
+   * @param rand the random number generator of the round
+   * @return the {@link System#nanoTime()} at which the evaluation ended, or 0 without metrics
+   */
+  private long playRound(Round round, RandomGenerator rand) {
+    if (recorder == null) {
+      generateMatrix(round, rand);
+      applyBonusSymbol(round, rand);
+      calculateReward(round);
+      return 0;
+    }
+
+    long start = System.nanoTime();
+    generateMatrix(round, rand);
+    long generated = System.nanoTime();
+    applyBonusSymbol(round, rand);
+    long placed = System.nanoTime();
+    calculateReward(round);
+    long evaluated = System.nanoTime();
+
+    recorder.recordStage(Stage.MATRIX_GENERATION, generated - start);
+    recorder.recordStage(Stage.BONUS_PLACEMENT, placed - generated);
+    recorder.recordStage(Stage.EVALUATION, evaluated - placed);
+    recorder.recordRound(round.reward, round.appliedBonusSymbol);
+    for (int combination : round.groupBest) {
+      if (combination >= 0) {
+        recorder.recordWin(combination);
       }
     }
+    return evaluated;
+  }
 
-    // Fill remaining cells with first probability config
-    StandardSymbolProbability defaultProb = probabilities.getStandardSymbols().get(0);
-    for (int r = 0; r < rows; r++) {
-      for (int c = 0; c < columns; c++) {
-        if (grid[r][c] == null) {
-          grid[r][c] = selectSymbol(defaultProb.getSymbols(), rand);
+  /**
+   * Evaluates a round from a stored board instead of drawing it, for instance to rebuild the full
+   * result of a ticket persisted as symbol IDs. Evaluating the board and bonus symbol of a played round
+   * returns a result equal to the one of the round.
+   *
+   * @param board the board of symbol IDs (row-major), including the bonus symbol
+   * @param bonusSymbol the ID of the bonus symbol applied to the round
+   * @param bettingAmount the amount bet on the round
+   * @return the immutable result of the round
+   * @throws InvalidBettingAmountException if the betting amount is less than or equal to zero
+   * @throws IllegalArgumentException if the board does not fit the grid or holds unknown symbol IDs
+   */
+  public PlayResult evaluate(int[] board, int bonusSymbol, int bettingAmount) {
+    return evaluate(board, bonusSymbol, bettingAmount, false);
+  }
+
+  /**
+   * Evaluates a round from a stored board like {@link #evaluate(int[], int, int)}, optionally with the
+   * explanation of its reward.
+   *
+   * @param board the board of symbol IDs (row-major), including the bonus symbol
+   * @param bonusSymbol the ID of the bonus symbol applied to the round
+   * @param bettingAmount the amount bet on the round
+   * @param explain whether to attach a {@link RoundExplanation} to the result
+   * @return the immutable result of the round
+   * @throws InvalidBettingAmountException if the betting amount is less than or equal to zero
+   * @throws IllegalArgumentException if the board does not fit the grid or holds unknown symbol IDs
+   */
+  public PlayResult evaluate(int[] board, int bonusSymbol, int bettingAmount, boolean explain) {
+    Objects.requireNonNull(board, "Board cannot be null");
+    if (bettingAmount <= 0) {
+      throw new InvalidBettingAmountException("Betting amount must be greater than 0");
+    }
+    if (board.length != rows * columns) {
+      throw new IllegalArgumentException(String.format("Board must have %d cells (found %d)",
+          rows * columns, board.length));
+    }
+
+    Round round = scratchRounds.get();
+    round.bettingAmount = bettingAmount;
+    for (int cell = 0; cell < board.length; cell++) {
+      round.board[cell] = checkSymbol(board[cell]);
+    }
+    round.appliedBonusSymbol = checkSymbol(bonusSymbol);
+    calculateReward(round);
+
+    return toResult(round, explain);
+  }
+
+  private int checkSymbol(int symbol) {
+    if (symbol < 0 || symbol >= symbolTable.size()) {
+      throw new IllegalArgumentException("Unknown symbol ID: " + symbol);
+    }
+    return symbol;
+  }
+
+  /**
+   * Materialises the result of a round: the matrix of symbol names, and for every paid symbol (in
+   * symbol ID order) the names of its applied combinations in configuration order.
+   */
+  private PlayResult toResult(Round round, boolean explain) {
+    Map<String, List<String>> appliedWinningCombinations = new LinkedHashMap<>();
+    forEachSetBit(round.paidSymbols, symbol -> {
+      List<String> names = new ArrayList<>();
+      for (int combination = 0; combination < compiledCombinations.length; combination++) {
+        if (isApplied(round, combination) && isQualifying(round, combination, symbol)) {
+          names.add(compiledCombinations[combination].getName());
         }
       }
+      appliedWinningCombinations.put(symbolTable.nameOf(symbol), names);
+    });
+    return new PlayResult(
+        renderMatrix(round.board),
+        round.reward,
+        appliedWinningCombinations,
+        symbolTable.nameOf(round.appliedBonusSymbol),
+        explain ? explain(round) : null
+    );
+  }
+
+  /**
+   * Builds the explanation of the reward of a round from the state its evaluation left behind, in the
+   * order of the steps of {@link #calculateReward(Round)}.
+   */
+  private RoundExplanation explain(Round round) {
+    Map<String, Integer> symbolCounts = new LinkedHashMap<>();
+    for (int symbol : standardSymbols) {
+      if (round.symbolCounts[symbol] > 0) {
+        symbolCounts.put(symbolTable.nameOf(symbol), round.symbolCounts[symbol]);
+      }
+    }
+
+    Map<String, String> groupBestCombinations = new LinkedHashMap<>();
+    for (int group = 0; group < round.groupBest.length; group++) {
+      if (round.groupBest[group] >= 0) {
+        groupBestCombinations.put(groupNames.get(group), compiledCombinations[round.groupBest[group]].getName());
+      }
     }
 
-    return grid;
+    Map<String, Double> symbolMultipliers = new LinkedHashMap<>();
+    Map<String, Double> symbolRewards = new LinkedHashMap<>();
+    forEachSetBit(round.paidSymbols, symbol -> {
+      String name = symbolTable.nameOf(symbol);
+      symbolMultipliers.put(name, round.symbolMultipliers[symbol]);
+      symbolRewards.put(name, round.bettingAmount * symbolTable.getRewardMultiplier(symbol)
+          * round.symbolMultipliers[symbol]);
+    });
+
+    SymbolImpact impact = symbolTable.getImpact(round.appliedBonusSymbol);
+    boolean bonusApplied = round.baseReward > 0
+        && (impact == SymbolImpact.MULTIPLY_REWARD || impact == SymbolImpact.EXTRA_BONUS);
+    return new RoundExplanation(symbolCounts, groupBestCombinations, symbolMultipliers, symbolRewards,
+        round.baseReward, impact.getValue(), bonusApplied);
   }
 
   /**
-   * Selects a symbol based on its weight from the provided symbol weights map.
+   * Creates a batch able to hold the given number of rounds of this engine.
    *
-   * @param symbolWeights the map of symbols and their weights
-   * @param rand the random number generator
-   * @return the selected symbol
+   * @param capacity the maximum number of rounds played per call
+   * @param withBoards whether the board of every round should be kept
+   * @return the empty batch
+   * @throws IllegalArgumentException if the capacity is not positive, or boards are requested while
+   *     the configuration has more symbols than fit in a byte
    */
-  private String selectSymbol(Map<String, Integer> symbolWeights, Random rand) {
+  public RoundBatch newBatch(int capacity, boolean withBoards) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Batch capacity must be greater than 0");
+    }
+    int cells = rows * columns;
+    return newBatch(new int[capacity], new int[capacity], new long[Math.multiplyExact(capacity, getCombinationWords())],
+        withBoards ? new byte[Math.multiplyExact(capacity, cells)] : null);
+  }
 
-    int totalWeight = symbolWeights.values().stream().mapToInt(Integer::intValue).sum();
-    if (totalWeight == 0) {
-      return "MISS";
+  /**
+   * Creates a batch filling the given arrays, so that rounds can be played straight into the columns
+   * of the caller. The capacity of the batch is the length of {@code rewards}, and every other array
+   * must hold at least as many rounds, as laid out by {@link RoundBatch}.
+   *
+   * @param rewards the array receiving the reward of every round
+   * @param bonusSymbols the array receiving the bonus symbol ID of every round
+   * @param combinations the array receiving the {@link #getCombinationWords()} combination words of every round
+   * @param boards the array receiving the {@code rows * columns} symbol IDs of every round, or null not
+   *     to keep the boards
+   * @return the empty batch
+   * @throws IllegalArgumentException if {@code rewards} is empty, another array is too short, or boards
+   *     are requested while the configuration has more symbols than fit in a byte
+   */
+  public RoundBatch newBatch(int[] rewards, int[] bonusSymbols, long[] combinations, byte[] boards) {
+    if (boards != null && symbolTable.size() > 1 << Byte.SIZE) {
+      throw new IllegalArgumentException("Boards can only be kept for up to 256 symbols");
+    }
+    return new RoundBatch(symbolTable, model.getCombinationNames(), rows * columns, rewards, bonusSymbols,
+        combinations, boards);
+  }
+
+  /**
+   * Retrieves the number of longs holding the applied win combinations of a round in a batch.
+   *
+   * @return the number of combination words per round
+   */
+  public int getCombinationWords() {
+    return RoundBatch.combinationWords(compiledCombinations.length);
+  }
+
+  /**
+   * Plays a number of rounds into a batch, overwriting its previous content. Every round is played on
+   * the scratch round of the calling thread, and no result object is created, so a loop of batch calls
+   * does not allocate and batches are the cheapest way to play large numbers of rounds. Like
+   * {@link #play(RandomGenerator, int)} this does not touch the state of the engine.
+   *
+   * @param rand the random number generator of the rounds
+   * @param bettingAmount the amount bet on every round
+   * @param batch the batch receiving the rounds, created by {@link #newBatch}
+   * @param rounds the number of rounds to play
+   * @throws InvalidBettingAmountException if the betting amount is less than or equal to zero
+   * @throws IllegalArgumentException if the batch was created for another configuration or cannot hold the rounds
+   */
+  public void playBatch(RandomGenerator rand, int bettingAmount, RoundBatch batch, int rounds) {
+    Objects.requireNonNull(rand, "Random generator cannot be null");
+    Objects.requireNonNull(batch, "Batch cannot be null");
+    if (bettingAmount <= 0) {
+      throw new InvalidBettingAmountException("Betting amount must be greater than 0");
+    }
+    if (batch.getSymbolTable() != symbolTable || batch.getCells() != rows * columns) {
+      throw new IllegalArgumentException("Batch was not created for the configuration of this engine");
+    }
+    if (rounds < 0 || rounds > batch.getCapacity()) {
+      throw new IllegalArgumentException(String.format("Number of rounds must be between 0 and %d (found %d)",
+          batch.getCapacity(), rounds));
     }
 
-    int randomNumber = rand.nextInt(totalWeight);
-    int cumulativeWeight = 0;
-    for (Map.Entry<String, Integer> entry : symbolWeights.entrySet()) {
-      cumulativeWeight += entry.getValue();
-      if (randomNumber < cumulativeWeight) {
-        return entry.getKey();
+    batch.reset(bettingAmount, rounds);
+    Round round = scratchRounds.get();
+    round.bettingAmount = bettingAmount;
+    for (int i = 0; i < rounds; i++) {
+      playRound(round, rand);
+
+      int index = batch.add(round.reward, round.appliedBonusSymbol, round.board);
+      for (int combination : round.groupBest) {
+        if (combination >= 0) {
+          batch.setCombination(index, combination);
+        }
       }
     }
-    return "MISS";
+  }
+
+  /**
+   * Creates the state of a new round sized for the compiled configuration.
+   *
+   * @param bettingAmount the amount bet on the round
+   * @return the state of the round
+   */
+  Round newRound(int bettingAmount) {
+    return new Round(rows * columns, symbolTable.size(), compiledCombinations.length, model.getGroupCount(), bettingAmount);
+  }
+
+  /**
+   * Generates the game board by filling every cell with a symbol ID based on its probabilities.
+   *
+   * @param round the round being played
+   * @param rand the random number generator
+   */
+  void generateMatrix(Round round, RandomGenerator rand) {
+    int[] board = round.board;
+    for (int cell = 0; cell < board.length; cell++) {
+      board[cell] = selectSymbol(cellSamplers[cell], rand);
+    }
+  }
+
+  /**
+   * Selects a symbol based on its weight using the precompiled sampler.
+   *
+   * @param sampler the compiled sampler of the symbol weights
+   * @param rand the random number generator
+   * @return the ID of the selected symbol
+   */
+  private int selectSymbol(WeightedSymbolSampler sampler, RandomGenerator rand) {
+    return sampler.sample(rand);
   }
 
   /**
    * Applies a bonus symbol to the game matrix at a random position.
+   *
+   * @param round the round being played
+   * @param rand the random number generator
    */
-  private void applyBonusSymbol() {
-    BonusSymbolProbability bonusProb = probabilities.getBonusSymbols();
-    String bonusSymbol = selectSymbol(bonusProb.getSymbols(), new Random());
+  void applyBonusSymbol(Round round, RandomGenerator rand) {
+    int bonusSymbol = selectSymbol(bonusSampler, rand);
 
-    Random rand = new Random();
     int row = rand.nextInt(rows);
     int col = rand.nextInt(columns);
 
-    matrix[row][col] = bonusSymbol;
-    appliedBonusSymbol = bonusSymbol;
+    round.board[row * columns + col] = bonusSymbol;
+    round.appliedBonusSymbol = bonusSymbol;
   }
 
   /**
-   * Calculates the reward based on the current game matrix and applied bonus symbols.
+   * Materialises the board of symbol IDs as a matrix of symbol names.
+   *
+   * @param board the board of symbol IDs
+   * @return the game matrix
    */
-  private void calculateReward() {
-    calculationSteps = new CalculationSteps();
+  private String[][] renderMatrix(int[] board) {
+    String[][] matrix = new String[rows][columns];
+    for (int r = 0; r < rows; r++) {
+      for (int c = 0; c < columns; c++) {
+        matrix[r][c] = symbolTable.nameOf(board[r * columns + c]);
+      }
+    }
+    return matrix;
+  }
 
-    // 1. Count symbols and initialize tracking
-    calculationSteps.symbolCounts = countStandardSymbols();
-    calculationSteps.combinationSymbols = new HashMap<>();
+  /**
+   * Calculates the reward based on the game matrix and applied bonus symbol of the round. Only the
+   * preallocated buffers of the round are used, so a reused round is evaluated without allocating.
+   *
+   * @param round the round being played
+   */
+  void calculateReward(Round round) {
+    // 1. Count symbols
+    countStandardSymbols(round);
 
-    // 2. Process combinations
-    processSameSymbolCombination(calculationSteps.symbolCounts, calculationSteps.combinationSymbols);
-    processLinearCombination(calculationSteps.combinationSymbols);
+    // 2. Detect combinations
+    clearCombinations(round);
+    detectSameSymbolCombinations(round);
+    detectLinearCombinations(round);
 
-    // 3. Determine best combination per group
-    Map<String, String> groupBest = determineBestCombinationPerGroup(calculationSteps.combinationSymbols);
+    // 3. - 5. Resolve the detected combinations into the base reward
+    round.baseReward = resolveBaseReward(round);
 
-    // 4. Collect multipliers per symbol
-    Map<String, Double> symbolMultipliers = new HashMap<>();
-    appliedWinningCombinations.clear();
+    // 6. Apply bonus effect
+    round.reward = (int) Math.round(applyBonusSymbolEffect(round.appliedBonusSymbol, round.baseReward));
+  }
 
-    // For each group's best combination
-    for (String comboName : groupBest.values()) {
-      CombinationData comboData = calculationSteps.combinationSymbols.get(comboName);
-      WinCombination wc = winCombinations.get(comboName);
-      double multiplier = wc.getRewardMultiplier();
+  /**
+   * Forgets the combinations detected for the previous round.
+   *
+   * @param round the round being played
+   */
+  void clearCombinations(Round round) {
+    Arrays.fill(round.combinationSymbols, 0L);
+    Arrays.fill(round.groupBest, -1);
+  }
 
-      // Apply multiplier to all qualified symbols in this combination
-      for (String symbol : comboData.getSymbols()) {
-        // Multiply multipliers for the same symbol across groups
-        symbolMultipliers.merge(symbol, multiplier, (old, newVal) -> old * newVal);
+  /**
+   * Records that a symbol qualifies for a combination. A combination becomes the best of its group
+   * when its count is strictly higher than the count of the current best, so ties are won by the
+   * combination detected first: {@code same_symbols} combinations before {@code linear_symbols} ones,
+   * each in configuration order.
+   *
+   * @param round the round being played
+   * @param combination the index of the combination
+   * @param symbol the ID of the qualifying symbol
+   */
+  void markCombination(Round round, int combination, int symbol) {
+    round.combinationSymbols[combination * round.symbolWords + (symbol >>> 6)] |= 1L << symbol;
+    int group = combinationGroups[combination];
+    int best = round.groupBest[group];
+    if (best < 0 || combinationCounts[combination] > combinationCounts[best]) {
+      round.groupBest[group] = combination;
+    }
+  }
 
-        // Track applied combinations
-        appliedWinningCombinations
-            .computeIfAbsent(symbol, k -> new ArrayList<>())
-            .add(comboName);
+  /**
+   * Resolves the detected combinations into the base reward: the best combination of every group is
+   * applied to its symbols, and every symbol pays the bet times its own multiplier times the product of
+   * the multipliers of its applied combinations. Shared with {@link ExactRtpCalculator}, so that the
+   * exact figures follow the rules of the rounds actually played.
+   *
+   * @param round the round whose combinations were detected
+   * @return the reward before applying the bonus symbol
+   */
+  double resolveBaseReward(Round round) {
+    long[] paidSymbols = round.paidSymbols;
+    double[] symbolMultipliers = round.symbolMultipliers;
+    Arrays.fill(paidSymbols, 0L);
+
+    // 3. - 4. Multiply the multipliers of the best combination of every group into its symbols
+    for (int best : round.groupBest) {
+      if (best < 0) {
+        continue;
+      }
+      double multiplier = combinationMultipliers[best];
+      int offset = best * round.symbolWords;
+      for (int word = 0; word < round.symbolWords; word++) {
+        long bits = round.combinationSymbols[offset + word];
+        while (bits != 0) {
+          int symbol = word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+          bits &= bits - 1;
+          if ((paidSymbols[word] & (1L << symbol)) == 0) {
+            paidSymbols[word] |= 1L << symbol;
+            symbolMultipliers[symbol] = multiplier;
+          } else {
+            symbolMultipliers[symbol] *= multiplier;
+          }
+        }
       }
     }
 
     // 5. Calculate base reward
-    calculationSteps.baseReward = symbolMultipliers.entrySet().stream()
-        .mapToDouble(e -> bettingAmount
-            * symbols.get(e.getKey()).getRewardMultiplier() // Symbol multiplier
-            * e.getValue()) // Combined group multipliers
-        .sum();
+    double baseReward = 0;
+    for (int word = 0; word < paidSymbols.length; word++) {
+      long bits = paidSymbols[word];
+      while (bits != 0) {
+        int symbol = word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+        bits &= bits - 1;
+        baseReward += round.bettingAmount
+            * symbolTable.getRewardMultiplier(symbol) // Symbol multiplier
+            * symbolMultipliers[symbol]; // Combined group multipliers
+      }
+    }
+    return baseReward;
+  }
 
-    // 6. Apply bonus effect
-    calculationSteps.bonusImpact = getAppliedBonusSymbol();
-    calculationSteps.totalReward = applyBonusSymbolEffect(calculationSteps.baseReward);
-    this.reward = (int) Math.round(calculationSteps.totalReward);
+  private boolean isApplied(Round round, int combination) {
+    return round.groupBest[combinationGroups[combination]] == combination;
+  }
+
+  private static boolean isQualifying(Round round, int combination, int symbol) {
+    return (round.combinationSymbols[combination * round.symbolWords + (symbol >>> 6)] & (1L << symbol)) != 0;
+  }
+
+  private static void forEachSetBit(long[] words, IntConsumer action) {
+    for (int word = 0; word < words.length; word++) {
+      long bits = words[word];
+      while (bits != 0) {
+        action.accept(word * Long.SIZE + Long.numberOfTrailingZeros(bits));
+        bits &= bits - 1;
+      }
+    }
   }
 
   /**
    * Applies the effect of the bonus symbol on the total reward.
    *
+   * @param bonus the ID of the bonus symbol applied to the round
    * @param totalReward the base reward before applying the bonus
    * @return the total reward after applying the bonus effect
    */
-  private double applyBonusSymbolEffect(double totalReward) {
-    if (appliedBonusSymbol != null && totalReward > 0) {
-      SymbolDefinition bonus = symbols.get(appliedBonusSymbol);
-      switch (bonus.getImpact()) {
-        case "multiply_reward":
-          totalReward *= bonus.getRewardMultiplier();
+  double applyBonusSymbolEffect(int bonus, double totalReward) {
+    if (totalReward > 0) {
+      switch (symbolTable.getImpact(bonus)) {
+        case MULTIPLY_REWARD:
+          totalReward *= symbolTable.getRewardMultiplier(bonus);
           break;
-        case "extra_bonus":
-          totalReward += bonus.getExtra();
+        case EXTRA_BONUS:
+          totalReward += symbolTable.getExtra(bonus);
           break;
-        case "miss":
-          // No action
+        default:
+          // MISS: no action
           break;
       }
     }
@@ -274,98 +734,73 @@ public class ScratchGameEngine {
   }
 
   /**
-   * Counts the occurrences of standard symbols in the game matrix.
+   * Counts the occurrences of standard symbols on the game board. On bitboard-sized grids this also
+   * builds the occurrence mask of every symbol and derives the counts from the mask population.
    *
-   * @return a map of symbol counts
+   * @param round the round being played
    */
-  private Map<String, Integer> countStandardSymbols() {
-    Map<String, Integer> symbolCounts = new HashMap<>();
-    for (String[] row : matrix) {
-      for (String symbol : row) {
-        SymbolDefinition def = symbols.get(symbol);
-        if (def != null && "standard".equals(def.getType())) {
-          symbolCounts.put(symbol, symbolCounts.getOrDefault(symbol, 0) + 1);
-        }
+  private void countStandardSymbols(Round round) {
+    int[] board = round.board;
+    int[] symbolCounts = round.symbolCounts;
+    long[] symbolMasks = round.symbolMasks;
+    if (bitboard) {
+      Arrays.fill(symbolMasks, 0L);
+      for (int cell = 0; cell < board.length; cell++) {
+        symbolMasks[board[cell]] |= 1L << cell;
       }
+      for (int symbol = 0; symbol < symbolCounts.length; symbol++) {
+        symbolCounts[symbol] = symbolTable.isStandard(symbol) ? Long.bitCount(symbolMasks[symbol]) : 0;
+      }
+      return;
     }
-    return symbolCounts;
-  }
 
-  /**
-   * Processes combinations of the same symbol and updates the combination symbols map.
-   *
-   * @param symbolCounts the map of symbol counts
-   * @param combinationSymbols the map to update with detected combinations
-   */
-  private void processSameSymbolCombination(Map<String, Integer> symbolCounts,
-      Map<String, CombinationData> combinationSymbols) {
-    // 2. Process same_symbol combinations
-    for (Map.Entry<String, WinCombination> entry : winCombinations.entrySet()) {
-      String comboName = entry.getKey();
-      WinCombination wc = entry.getValue();
-      if ("same_symbols".equals(wc.getWhen())) {
-        Set<String> qualifiedSymbols = new HashSet<>();
-        for (Map.Entry<String, Integer> symbolEntry : symbolCounts.entrySet()) {
-          if (symbolEntry.getValue() >= wc.getCount()) {
-            qualifiedSymbols.add(symbolEntry.getKey());
-          }
-        }
-        if (!qualifiedSymbols.isEmpty()) {
-          combinationSymbols.put(comboName, new CombinationData(
-              wc.getGroup(),
-              qualifiedSymbols
-          ));
-
-        }
+    Arrays.fill(symbolCounts, 0);
+    for (int symbol : board) {
+      if (symbolTable.isStandard(symbol)) {
+        symbolCounts[symbol]++;
       }
     }
   }
 
   /**
-   * Determines the best combination for each group based on the detected combinations.
+   * Detects the {@code same_symbols} combinations from the symbol counts of the round. Every standard
+   * symbol on the board is marked only for the combination with the highest threshold it reaches in
+   * each group, read from the group's count table: lower thresholds can never be the best of the
+   * group, and a symbol reaching the best threshold always maps to the best combination itself.
    *
-   * @param combinationSymbols the map of detected combinations
-   * @return a map of the best combination for each group
+   * @param round the round being played, with its symbol counts
    */
-  private Map<String, String> determineBestCombinationPerGroup(Map<String, CombinationData> combinationSymbols) {
-    Map<String, String> groupBestCombination = new HashMap<>();
-    for (Map.Entry<String, CombinationData> entry : combinationSymbols.entrySet()) {
-      String comboName = entry.getKey();
-      CombinationData data = entry.getValue();
-      String group = data.getGroup();
-      WinCombination wc = winCombinations.get(comboName);
-
-      if (!groupBestCombination.containsKey(group) ||
-          wc.getCount() > winCombinations.get(groupBestCombination.get(group)).getCount()) {
-        groupBestCombination.put(group, comboName);
+  void detectSameSymbolCombinations(Round round) {
+    int[] symbolCounts = round.symbolCounts;
+    for (int symbol : standardSymbols) {
+      int count = symbolCounts[symbol];
+      if (count == 0) {
+        continue;
+      }
+      for (CompiledWinGroup group : sameSymbolGroups) {
+        int combination = group.sameSymbolsFor(count);
+        if (combination >= 0) {
+          markCombination(round, combination, symbol);
+        }
       }
     }
-    return groupBestCombination;
   }
 
   /**
-   * Processes linear symbol combinations and updates the combination symbols map.
+   * Detects the {@code linear_symbols} combinations from the board of the round.
    *
-   * @param combinationSymbols the map to update with detected combinations
+   * @param round the round being played
    */
-  private void processLinearCombination(Map<String, CombinationData> combinationSymbols) {
-    for (Map.Entry<String, WinCombination> entry : winCombinations.entrySet()) {
-      String comboName = entry.getKey();
-      WinCombination wc = entry.getValue();
-
-      if ("linear_symbols".equals(wc.getWhen())) {
-        Set<String> qualifiedSymbols = new HashSet<>();
-        for (List<String> area : wc.getCoveredAreas()) {
-          String symbol = checkLinearCombination(area);
-          if (symbol != null) {
-            qualifiedSymbols.add(symbol);
-          }
-        }
-        if (!qualifiedSymbols.isEmpty()) {
-          combinationSymbols.put(comboName, new CombinationData(
-              wc.getGroup(),
-              qualifiedSymbols
-          ));
+  private void detectLinearCombinations(Round round) {
+    for (int combination : linearCombinations) {
+      CompiledWinCombination wc = compiledCombinations[combination];
+      int[][] lines = wc.getLines();
+      for (int i = 0; i < lines.length; i++) {
+        int symbol = bitboard
+            ? checkLinearCombination(round, lines[i][0], wc.getLineMasks()[i])
+            : checkLinearCombination(round, lines[i]);
+        if (symbol >= 0) {
+          markCombination(round, combination, symbol);
         }
       }
     }
@@ -374,136 +809,105 @@ public class ScratchGameEngine {
   /**
    * Checks for a linear combination of symbols in the specified area.
    *
-   * @param area the area to check for a linear combination
-   * @return the symbol if a linear combination is found, null otherwise
+   * @param round the round being played
+   * @param line the board offsets of the area to check for a linear combination
+   * @return the symbol ID if a linear combination is found, -1 otherwise
    */
-  private String checkLinearCombination(List<String> area) {
-    String target = null;
-    for (String cell : area) {
-      String[] parts = cell.split(":");
-      int row = Integer.parseInt(parts[0]);
-      int col = Integer.parseInt(parts[1]);
-
-      if (row >= rows || col >= columns) {
-        return null;
-      }
-
-      String symbol = matrix[row][col];
-      SymbolDefinition def = symbols.get(symbol);
-      if (def == null || !def.getType().equals("standard")) {
-        return null;
+  private int checkLinearCombination(Round round, int[] line) {
+    int target = -1;
+    for (int cell : line) {
+      int symbol = round.board[cell];
+      if (!symbolTable.isStandard(symbol)) {
+        return -1;
       }
 
-      if (target == null) {
+      if (target == -1) {
         target = symbol;
-      } else if (!target.equals(symbol)) {
-        return null;
+      } else if (target != symbol) {
+        return -1;
       }
     }
     return target;
   }
 
-  // Getters and setters for various fields
-
-  public int getColumns() {
-    return columns;
+  /**
+   * Checks for a linear combination of symbols using the occurrence masks: the area is completed when
+   * the symbol found on its first cell also occupies every other cell of the area.
+   *
+   * @param round the round being played
+   * @param firstCell the board offset of the first cell of the area
+   * @param lineMask the bit mask of the area
+   * @return the symbol ID if a linear combination is found, -1 otherwise
+   */
+  private int checkLinearCombination(Round round, int firstCell, long lineMask) {
+    int symbol = round.board[firstCell];
+    if (symbolTable.isStandard(symbol) && (round.symbolMasks[symbol] & lineMask) == lineMask) {
+      return symbol;
+    }
+    return -1;
   }
 
-  public void setColumns(int columns) {
-    this.columns = columns;
-  }
+  // Getters for various fields
 
-  public int getRows() {
-    return rows;
-  }
-
-  public void setRows(int rows) {
-    this.rows = rows;
+  /**
+   * Retrieves the compiled model played by the engine.
+   *
+   * @return the immutable game model
+   */
+  public GameModel getModel() {
+    return model;
   }
 
-  public Map<String, SymbolDefinition> getSymbols() {
-    return symbols;
+  public int getColumns() {
+    return columns;
   }
 
-  public void setSymbols(Map<String, SymbolDefinition> symbols) {
-    this.symbols = symbols;
+  public int getRows() {
+    return rows;
   }
 
-  public Probabilities getProbabilities() {
-    return probabilities;
+  public SymbolTable getSymbolTable() {
+    return symbolTable;
   }
 
-  public void setProbabilities(Probabilities probabilities) {
-    this.probabilities = probabilities;
+  CompiledWinCombination[] getCompiledCombinations() {
+    return compiledCombinations;
   }
 
-  public Map<String, WinCombination> getWinCombinations() {
-    return winCombinations;
+  /**
+   * Retrieves the result of the last round started through {@link #startGame()}.
+   *
+   * @return the last result, or null if no round has been played
+   */
+  public PlayResult getLastResult() {
+    return lastResult;
   }
 
-  public void setWinCombinations(Map<String, WinCombination> winCombinations) {
-    this.winCombinations = winCombinations;
+  public int getBettingAmount() {
+    return bettingAmount;
   }
 
   public int getReward() {
-    return reward;
-  }
-
-  public void setReward(int reward) {
-    this.reward = reward;
+    return lastResult == null ? 0 : lastResult.getReward();
   }
 
   public String[][] getMatrix() {
-    return matrix;
-  }
-
-  public void setMatrix(String[][] matrix) {
-    this.matrix = matrix;
+    return lastResult == null ? null : lastResult.getMatrix();
   }
 
   public Map<String, List<String>> getAppliedWinningCombinations() {
-    return appliedWinningCombinations;
-  }
-
-  public void setAppliedWinningCombinations(
-      Map<String, List<String>> appliedWinningCombinations) {
-    this.appliedWinningCombinations = appliedWinningCombinations;
+    return lastResult == null ? Map.of() : lastResult.getAppliedWinningCombinations();
   }
 
   public String getAppliedBonusSymbol() {
-    return appliedBonusSymbol;
-  }
-
-  public void setAppliedBonusSymbol(String appliedBonusSymbol) {
-    this.appliedBonusSymbol = appliedBonusSymbol;
-  }
-
-  @Override
-  public boolean equals(Object o) {
-    if (this == o) {
-      return true;
-    }
-    if (o == null || getClass() != o.getClass()) {
-      return false;
-    }
-    ScratchGameEngine that = (ScratchGameEngine) o;
-    return columns == that.columns && rows == that.rows && Objects.equals(symbols, that.symbols) && Objects.equals(
-        probabilities, that.probabilities) && Objects.equals(winCombinations, that.winCombinations);
-  }
-
-  @Override
-  public int hashCode() {
-    return Objects.hash(columns, rows, symbols, probabilities, winCombinations);
+    return lastResult == null ? null : lastResult.getAppliedBonusSymbol();
   }
 
   @Override
   public String toString() {
-    return "GameConfig{" +
-        "columns=" + columns +
-        ", rows=" + rows +
-        ", symbols=" + symbols +
-        ", probabilities=" + probabilities +
-        ", winCombinations=" + winCombinations +
+    return "ScratchGameEngine{" +
+        "model=" + model +
+        ", bettingAmount=" + bettingAmount +
         '}';
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,52 @@
+package com.cyberspeed.engine;
+
+/**
+ * The {@code SymbolImpact} enum lists the effects a bonus symbol has on the reward of a round, as set
+ * by the {@code impact} field of its definition. Standard symbols, and bonus symbols without a known
+ * impact, have no effect.
+ */
+public enum SymbolImpact {
+
+  NONE(null),
+
+  /** Multiplies the reward by the reward multiplier of the symbol. */
+  MULTIPLY_REWARD("multiply_reward"),
+
+  /** Adds the extra amount of the symbol to the reward. */
+  EXTRA_BONUS("extra_bonus"),
+
+  /** Leaves the reward unchanged. */
+  MISS("miss");
+
+  private final String value;
+
+  SymbolImpact(String value) {
+    this.value = value;
+  }
+
+  /**
+   * Retrieves the value of the impact in the configuration.
+   *
+   * @return the configured value, or null for {@link #NONE}
+   */
+  public String getValue() {
+    return value;
+  }
+
+  /**
+   * Resolves a configured {@code impact} value.
+   *
+   * @param value the configured value, possibly null
+   * @return the impact, or {@link #NONE} if the value is missing or unknown
+   */
+  public static SymbolImpact fromValue(String value) {
+    if (value != null) {
+      for (SymbolImpact impact : values()) {
+        if (value.equals(impact.value)) {
+          return impact;
+        }
+      }
+    }
+    return NONE;
+  }
+}
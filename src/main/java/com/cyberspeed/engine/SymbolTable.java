@@ -0,0 +1,129 @@
+package com.cyberspeed.engine;
+
+import com.cyberspeed.model.BonusSymbolProbability;
+import com.cyberspeed.model.Probabilities;
+import com.cyberspeed.model.StandardSymbolProbability;
+import com.cyberspeed.model.SymbolDefinition;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The {@code SymbolTable} class interns every symbol of a game configuration to a small integer ID.
+ * Symbols defined in the configuration receive their IDs first, in definition order, followed by any
+ * symbol that only appears in the probabilities and finally the {@code MISS} fallback symbol used when
+ * a distribution carries no weight. The symbol metadata (type, reward multiplier, bonus impact and
+ * extra amount) is held in parallel arrays indexed by ID, with the impact resolved to a
+ * {@link SymbolImpact}, so the engine can evaluate a board of symbol IDs without string comparisons or
+ * map lookups. Instances are immutable.
+ */
+public final class SymbolTable {
+
+  public static final String FALLBACK_SYMBOL = "MISS";
+
+  private final String[] names;
+  private final Map<String, Integer> ids;
+  private final boolean[] standard;
+  private final double[] rewardMultipliers;
+  private final SymbolImpact[] impacts;
+  private final int[] extras;
+
+  private SymbolTable(List<String> names, Map<String, SymbolDefinition> definitions) {
+    int size = names.size();
+    this.names = names.toArray(new String[0]);
+    this.ids = new HashMap<>();
+    this.standard = new boolean[size];
+    this.rewardMultipliers = new double[size];
+    this.impacts = new SymbolImpact[size];
+    Arrays.fill(impacts, SymbolImpact.NONE);
+    this.extras = new int[size];
+
+    for (int id = 0; id < size; id++) {
+      ids.put(this.names[id], id);
+      SymbolDefinition def = definitions.get(this.names[id]);
+      if (def == null) {
+        continue;
+      }
+      standard[id] = "standard".equals(def.getType());
+      rewardMultipliers[id] = def.getRewardMultiplier();
+      impacts[id] = SymbolImpact.fromValue(def.getImpact());
+      extras[id] = def.getExtra() == null ? 0 : def.getExtra();
+    }
+  }
+
+  /**
+   * Interns all symbols referenced by the given symbol definitions and probabilities.
+   *
+   * @param definitions the symbol definitions of the game configuration
+   * @param probabilities the symbol probabilities of the game configuration
+   * @return the compiled symbol table
+   */
+  public static SymbolTable compile(Map<String, SymbolDefinition> definitions, Probabilities probabilities) {
+    List<String> names = new ArrayList<>(definitions.keySet());
+
+    for (StandardSymbolProbability prob : probabilities.getStandardSymbols()) {
+      addMissing(names, prob.getSymbols());
+    }
+    BonusSymbolProbability bonusProb = probabilities.getBonusSymbols();
+    addMissing(names, bonusProb.getSymbols());
+    if (!names.contains(FALLBACK_SYMBOL)) {
+      names.add(FALLBACK_SYMBOL);
+    }
+
+    return new SymbolTable(names, definitions);
+  }
+
+  private static void addMissing(List<String> names, Map<String, Integer> symbolWeights) {
+    for (String symbol : symbolWeights.keySet()) {
+      if (!names.contains(symbol)) {
+        names.add(symbol);
+      }
+    }
+  }
+
+  /**
+   * Retrieves the number of interned symbols.
+   *
+   * @return the number of symbol IDs
+   */
+  public int size() {
+    return names.length;
+  }
+
+  /**
+   * Retrieves the ID of the given symbol.
+   *
+   * @param symbol the symbol name
+   * @return the symbol ID
+   * @throws IllegalArgumentException if the symbol is not part of the table
+   */
+  public int idOf(String symbol) {
+    Integer id = ids.get(symbol);
+    if (id == null) {
+      throw new IllegalArgumentException("Unknown symbol: " + symbol);
+    }
+    return id;
+  }
+
+  public String nameOf(int id) {
+    return names[id];
+  }
+
+  public boolean isStandard(int id) {
+    return standard[id];
+  }
+
+  public double getRewardMultiplier(int id) {
+    return rewardMultipliers[id];
+  }
+
+  public SymbolImpact getImpact(int id) {
+    return impacts[id];
+  }
+
+  public int getExtra(int id) {
+    return extras[id];
+  }
+}
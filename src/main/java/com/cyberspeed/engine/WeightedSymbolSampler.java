@@ -0,0 +1,186 @@
+package com.cyberspeed.engine;
+
+import com.cyberspeed.exception.InvalidGameConfigurationException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * The {@code WeightedSymbolSampler} class draws symbols from a weighted distribution in constant time.
+ * It is compiled once from a probability map (symbol name to integer weight) into a Walker/Vose alias
+ * table over the symbol IDs of a {@link SymbolTable}. Because the weights are integers, the table is
+ * built with exact integer arithmetic: every column has a capacity equal to the total weight, so the
+ * sampled distribution matches the configured weights exactly. Drawing a symbol costs a single random
+ * number, one division and two array reads, and allocates nothing. The configured weights are kept
+ * alongside the table, so the exact distribution can be enumerated by {@link ExactRtpCalculator}.
+ * Instances are immutable and can be shared between threads.
+ */
+public final class WeightedSymbolSampler {
+
+  private final int[] symbols;
+  private final long[] weights;
+  private final long[] thresholds;
+  private final int[] aliases;
+  private final long totalWeight;
+  private final long range;
+
+  private WeightedSymbolSampler(int[] symbols, long[] weights, long[] thresholds, int[] aliases, long totalWeight) {
+    this.symbols = symbols;
+    this.weights = weights;
+    this.thresholds = thresholds;
+    this.aliases = aliases;
+    this.totalWeight = totalWeight;
+    this.range = totalWeight == 0 ? 0 : symbols.length * totalWeight;
+  }
+
+  /**
+   * Compiles a sampler from the given symbol weights.
+   *
+   * @param symbolWeights the map of symbols and their weights
+   * @param symbolTable the table used to intern the symbols
+   * @return the compiled sampler
+   * @throws InvalidGameConfigurationException if a weight is missing or negative, or the weights are too large
+   */
+  public static WeightedSymbolSampler of(Map<String, Integer> symbolWeights, SymbolTable symbolTable) {
+    if (symbolWeights == null || symbolWeights.isEmpty()) {
+      throw new InvalidGameConfigurationException("Symbol weights cannot be null or empty");
+    }
+
+    int size = symbolWeights.size();
+    int[] symbols = new int[size];
+    long[] weights = new long[size];
+    long totalWeight = 0;
+
+    int index = 0;
+    for (Map.Entry<String, Integer> entry : symbolWeights.entrySet()) {
+      Integer weight = entry.getValue();
+      if (weight == null || weight < 0) {
+        throw new InvalidGameConfigurationException(
+            String.format("Weight of symbol '%s' must be a non-negative integer (found %s)", entry.getKey(), weight));
+      }
+      symbols[index] = symbolTable.idOf(entry.getKey());
+      weights[index] = weight;
+      totalWeight += weight;
+      index++;
+    }
+
+    if (totalWeight == 0) {
+      int fallback = symbolTable.idOf(SymbolTable.FALLBACK_SYMBOL);
+      return new WeightedSymbolSampler(new int[] {fallback}, new long[] {1}, new long[] {0}, new int[] {0}, 0);
+    }
+
+    try {
+      Math.multiplyExact(size, totalWeight);
+    } catch (ArithmeticException e) {
+      throw new InvalidGameConfigurationException("Symbol weights are too large to be sampled: " + symbolWeights);
+    }
+
+    return buildAliasTable(symbols, weights, totalWeight);
+  }
+
+  /**
+   * Builds the alias table using Vose's method. Each weight is scaled by the number of symbols so that
+   * the average column holds exactly {@code totalWeight}; under-full columns are topped up with an alias
+   * taken from an over-full one.
+   *
+   * @param symbols the symbol IDs, indexed like the weights
+   * @param weights the raw symbol weights
+   * @param totalWeight the sum of all weights
+   * @return the compiled sampler
+   */
+  private static WeightedSymbolSampler buildAliasTable(int[] symbols, long[] weights, long totalWeight) {
+    int size = symbols.length;
+    long[] scaled = new long[size];
+    long[] thresholds = new long[size];
+    int[] aliases = new int[size];
+
+    Deque<Integer> small = new ArrayDeque<>();
+    Deque<Integer> large = new ArrayDeque<>();
+    for (int i = 0; i < size; i++) {
+      scaled[i] = weights[i] * size;
+      if (scaled[i] < totalWeight) {
+        small.push(i);
+      } else {
+        large.push(i);
+      }
+    }
+
+    while (!small.isEmpty() && !large.isEmpty()) {
+      int less = small.pop();
+      int more = large.pop();
+
+      thresholds[less] = scaled[less];
+      aliases[less] = more;
+
+      scaled[more] -= totalWeight - scaled[less];
+      if (scaled[more] < totalWeight) {
+        small.push(more);
+      } else {
+        large.push(more);
+      }
+    }
+
+    // With exact integer arithmetic any column left over is completely full
+    while (!large.isEmpty()) {
+      int full = large.pop();
+      thresholds[full] = totalWeight;
+      aliases[full] = full;
+    }
+    while (!small.isEmpty()) {
+      int full = small.pop();
+      thresholds[full] = totalWeight;
+      aliases[full] = full;
+    }
+
+    return new WeightedSymbolSampler(symbols, weights, thresholds, aliases, totalWeight);
+  }
+
+  /**
+   * Draws a symbol from the distribution.
+   *
+   * @param rand the random number generator
+   * @return the ID of the selected symbol
+   */
+  public int sample(RandomGenerator rand) {
+    if (range == 0) {
+      return symbols[0];
+    }
+    long draw = rand.nextLong(range);
+    int column = (int) (draw / totalWeight);
+    long position = draw - column * totalWeight;
+    return position < thresholds[column] ? symbols[column] : symbols[aliases[column]];
+  }
+
+  /**
+   * Retrieves the number of outcomes of the distribution.
+   *
+   * @return the number of symbols that can be drawn
+   */
+  int size() {
+    return symbols.length;
+  }
+
+  int symbolAt(int index) {
+    return symbols[index];
+  }
+
+  /**
+   * Retrieves the exact probability of an outcome of the distribution.
+   *
+   * @param index the index of the outcome
+   * @return the probability of drawing the symbol at the given index
+   */
+  double probabilityAt(int index) {
+    return totalWeight == 0 ? 1.0 : weights[index] / (double) totalWeight;
+  }
+
+  /**
+   * Retrieves the total weight of the distribution.
+   *
+   * @return the sum of all symbol weights
+   */
+  public long getTotalWeight() {
+    return totalWeight;
+  }
+}
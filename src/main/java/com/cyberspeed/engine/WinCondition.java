@@ -0,0 +1,50 @@
+package com.cyberspeed.engine;
+
+import com.cyberspeed.exception.InvalidGameConfigurationException;
+
+/**
+ * The {@code WinCondition} enum lists the conditions under which a win combination is won, as set by
+ * the {@code when} field of the configuration. The field is resolved once when the configuration is
+ * compiled, so the engine never compares it while evaluating a round.
+ */
+public enum WinCondition {
+
+  /** Won by a symbol appearing at least {@code count} times anywhere on the board. */
+  SAME_SYMBOLS("same_symbols"),
+
+  /** Won by a symbol filling one of the {@code covered_areas} of the combination. */
+  LINEAR_SYMBOLS("linear_symbols");
+
+  private final String value;
+
+  WinCondition(String value) {
+    this.value = value;
+  }
+
+  /**
+   * Retrieves the value of the condition in the configuration.
+   *
+   * @return the configured value, such as {@code same_symbols}
+   */
+  public String getValue() {
+    return value;
+  }
+
+  /**
+   * Resolves a configured {@code when} value.
+   *
+   * @param value the configured value
+   * @param combination the name of the win combination, for the error message
+   * @return the condition
+   * @throws InvalidGameConfigurationException if the value is not a known condition
+   */
+  public static WinCondition fromValue(String value, String combination) {
+    for (WinCondition condition : values()) {
+      if (condition.value.equals(value)) {
+        return condition;
+      }
+    }
+    throw new InvalidGameConfigurationException(
+        String.format("Win combination '%s' has an unknown condition '%s'", combination, value));
+  }
+}
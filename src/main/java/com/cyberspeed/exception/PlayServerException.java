@@ -0,0 +1,12 @@
+package com.cyberspeed.exception;
+
+public class PlayServerException extends RuntimeException {
+
+    public PlayServerException(String message) {
+        super(message);
+    }
+
+    public PlayServerException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
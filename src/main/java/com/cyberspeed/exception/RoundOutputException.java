@@ -0,0 +1,12 @@
+package com.cyberspeed.exception;
+
+public class RoundOutputException extends RuntimeException {
+
+    public RoundOutputException(String message) {
+        super(message);
+    }
+
+    public RoundOutputException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,12 @@
+package com.cyberspeed.exception;
+
+public class TicketPoolException extends RuntimeException {
+
+    public TicketPoolException(String message) {
+        super(message);
+    }
+
+    public TicketPoolException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -3,9 +3,10 @@ package com.cyberspeed.init;
 import com.cyberspeed.model.ScratchGameConfiguration;
 import com.cyberspeed.engine.ScratchGameEngine;
 import com.cyberspeed.ui.ScratchGamePanel;
+import com.cyberspeed.util.GameLogger;
 import com.cyberspeed.util.LoggingUtils;
+import java.util.function.Supplier;
 import java.util.logging.Level;
-import java.util.logging.Logger;
 import javax.swing.JOptionPane;
 
 /**
@@ -16,7 +17,7 @@ import javax.swing.JOptionPane;
  */
 public class GameInitializer {
 
-  private static final Logger LOGGER = LoggingUtils.getLogger(GameInitializer.class.getName());
+  private static final GameLogger LOGGER = LoggingUtils.getLogger(GameInitializer.class.getName());
 
   private ScratchGamePanel gamePanel;
 
@@ -40,6 +41,24 @@ public class GameInitializer {
     }
   }
 
+  /**
+   * Initializes the game with engines obtained from a supplier, such as a
+   * {@link com.cyberspeed.config.ConfigReloader}, so that every game is played on the current engine.
+   *
+   * @param engineSupplier the supplier of the current game engine
+   * @param bettingAmount the betting amount for the game
+   */
+  public void initialize(Supplier<ScratchGameEngine> engineSupplier, int bettingAmount) {
+    LOGGER.info("Initializing game with reloadable configuration and betting amount: " + bettingAmount);
+    try {
+      this.gamePanel = new ScratchGamePanel(engineSupplier, bettingAmount);
+      LOGGER.info("Game panel created successfully.");
+    } catch (Exception e) {
+      LOGGER.log(Level.SEVERE, "Failed to initialize game", e);
+      handleInitializationError(e);
+    }
+  }
+
   /**
    * Retrieves the initialized game panel.
    *
@@ -0,0 +1,154 @@
+package com.cyberspeed.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The {@code LatencyHistogram} class records durations in nanoseconds into log-linear buckets, in the
+ * manner of an HDR histogram: every power of two is split into {@value #SUB_BUCKETS} buckets of equal
+ * width, so values are kept with a relative error below 1 / {@value #SUB_BUCKETS} (about 3%) over the
+ * whole range, and values below {@value #SUB_BUCKETS} ns exactly. Every bucket is a {@link LongAdder},
+ * so any number of threads can record concurrently without locks or contention on a shared counter.
+ * Reading the histogram sums the buckets while recording goes on, so percentiles may miss the values
+ * recorded during the read, but never report a value that was not recorded.
+ */
+public final class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 5;
+  static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+  // Values are clamped to the highest tracked power of two, about 68 seconds
+  private static final int MAX_EXPONENT = 36;
+  private static final long MAX_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+  private static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+  private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+  private final LongAdder sum = new LongAdder();
+  private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+  public LatencyHistogram() {
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      buckets[i] = new LongAdder();
+    }
+  }
+
+  /**
+   * Records a duration. Negative durations, which a clock adjusted backwards could produce, are
+   * recorded as zero.
+   *
+   * @param nanos the duration in nanoseconds
+   */
+  public void record(long nanos) {
+    long value = Math.min(Math.max(nanos, 0), MAX_VALUE);
+    buckets[bucketOf(value)].increment();
+    sum.add(value);
+    max.accumulate(value);
+  }
+
+  static int bucketOf(long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) value;
+    }
+    int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+    return (shift + 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+  }
+
+  /**
+   * Retrieves the highest value a bucket holds.
+   *
+   * @param bucket the index of the bucket
+   * @return the upper bound (inclusive) of the bucket in nanoseconds
+   */
+  static long highestValueOf(int bucket) {
+    if (bucket < SUB_BUCKETS) {
+      return bucket;
+    }
+    int shift = bucket / SUB_BUCKETS - 1;
+    long subBucket = bucket % SUB_BUCKETS + SUB_BUCKETS;
+    return ((subBucket + 1) << shift) - 1;
+  }
+
+  /**
+   * Retrieves the number of recorded durations, summed over the buckets so that recording does not
+   * update one more counter.
+   *
+   * @return the number of recorded durations
+   */
+  public long getCount() {
+    long total = 0;
+    for (LongAdder bucket : buckets) {
+      total += bucket.sum();
+    }
+    return total;
+  }
+
+  /**
+   * Retrieves the sum of the recorded durations.
+   *
+   * @return the total in nanoseconds
+   */
+  public long getSum() {
+    return sum.sum();
+  }
+
+  /**
+   * Retrieves the longest recorded duration.
+   *
+   * @return the maximum in nanoseconds, or 0 if nothing was recorded
+   */
+  public long getMax() {
+    return max.get();
+  }
+
+  /**
+   * Retrieves the mean of the recorded durations.
+   *
+   * @return the mean in nanoseconds, or 0 if nothing was recorded
+   */
+  public double getMean() {
+    long n = getCount();
+    return n == 0 ? 0 : (double) sum.sum() / n;
+  }
+
+  /**
+   * Retrieves the durations at the given percentiles, reading the buckets once for all of them.
+   *
+   * @param percentiles the percentiles between 0 and 100, in ascending order
+   * @return for every percentile, the highest value of the bucket it falls in (capped at the maximum),
+   *     or 0 if nothing was recorded
+   */
+  public long[] getValuesAtPercentiles(double... percentiles) {
+    long[] counts = new long[BUCKET_COUNT];
+    long total = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      counts[i] = buckets[i].sum();
+      total += counts[i];
+    }
+
+    long[] values = new long[percentiles.length];
+    if (total == 0) {
+      return values;
+    }
+    long maximum = max.get();
+    int bucket = 0;
+    long seen = counts[0];
+    for (int i = 0; i < percentiles.length; i++) {
+      long rank = Math.max(1, (long) Math.ceil(percentiles[i] / 100 * total));
+      while (seen < rank && bucket < BUCKET_COUNT - 1) {
+        seen += counts[++bucket];
+      }
+      values[i] = Math.min(highestValueOf(bucket), maximum);
+    }
+    return values;
+  }
+
+  /**
+   * Retrieves the duration at a percentile.
+   *
+   * @param percentile the percentile between 0 and 100
+   * @return the highest value of the bucket the percentile falls in, or 0 if nothing was recorded
+   */
+  public long getValueAtPercentile(double percentile) {
+    return getValuesAtPercentiles(percentile)[0];
+  }
+}
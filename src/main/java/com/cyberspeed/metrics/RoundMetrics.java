@@ -0,0 +1,253 @@
+package com.cyberspeed.metrics;
+
+import com.cyberspeed.engine.GameModel;
+import com.cyberspeed.engine.SymbolImpact;
+import com.cyberspeed.engine.SymbolTable;
+import com.cyberspeed.util.GameLogger;
+import com.cyberspeed.util.LoggingUtils;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToDoubleFunction;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * The {@code RoundMetrics} class collects the operational metrics of the rounds played by the engines
+ * it is given to: the duration of every {@link Stage} of a round in a {@link LatencyHistogram}, and
+ * counters of rounds, winning rounds, wins per combination name and bonus symbols per impact. Every
+ * counter is a {@link LongAdder}, so recording takes no lock and threads do not contend on shared
+ * cache lines. Counters are keyed by name rather than by engine, so they carry on across configuration
+ * reloads. The metrics are exported as Prometheus text by {@link #toPrometheusText()} and over JMX
+ * once {@link #registerMBean()} is called.
+ *
+ * <p>Engines created without a {@code RoundMetrics} neither read the clock nor count anything, which
+ * is how instrumentation is switched off, for instance for benchmark runs.
+ */
+public final class RoundMetrics implements RoundMetricsMXBean {
+
+  private static final GameLogger LOGGER = LoggingUtils.getLogger(RoundMetrics.class.getName());
+
+  public static final String OBJECT_NAME = "com.cyberspeed:type=RoundMetrics";
+
+  private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+  private static final double NANOS_PER_SECOND = 1e9;
+  private static final double NANOS_PER_MICRO = 1e3;
+
+  /**
+   * Stages of a round, in the order they run.
+   */
+  public enum Stage {
+
+    /** Drawing the standard symbols of the board. */
+    MATRIX_GENERATION,
+
+    /** Drawing the bonus symbol and its cell. */
+    BONUS_PLACEMENT,
+
+    /** Detecting the win combinations and calculating the reward. */
+    EVALUATION,
+
+    /** Materialising the {@code PlayResult} of the round. */
+    RESULT,
+
+    /** Encoding the result as JSON, when the round is served over HTTP. */
+    SERIALISATION;
+
+    String label() {
+      return name().toLowerCase(Locale.ROOT);
+    }
+  }
+
+  private final LatencyHistogram[] stages = new LatencyHistogram[Stage.values().length];
+  private final LongAdder rounds = new LongAdder();
+  private final LongAdder winningRounds = new LongAdder();
+  private final ConcurrentMap<String, LongAdder> combinationWins = new ConcurrentHashMap<>();
+  private final LongAdder[] bonusImpacts = new LongAdder[SymbolImpact.values().length];
+
+  public RoundMetrics() {
+    for (int i = 0; i < stages.length; i++) {
+      stages[i] = new LatencyHistogram();
+    }
+    for (int i = 0; i < bonusImpacts.length; i++) {
+      bonusImpacts[i] = new LongAdder();
+    }
+  }
+
+  /**
+   * Creates the recorder of the rounds of an engine, with the counters of its combinations and bonus
+   * symbols resolved once so that recording a round does not look anything up.
+   *
+   * @param model the compiled model played by the engine
+   * @return the recorder feeding these metrics
+   */
+  public RoundRecorder recorderFor(GameModel model) {
+    LongAdder[] wins = model.getCombinationNames().stream()
+        .map(name -> combinationWins.computeIfAbsent(name, key -> new LongAdder()))
+        .toArray(LongAdder[]::new);
+    SymbolTable symbolTable = model.getSymbolTable();
+    LongAdder[] impacts = new LongAdder[symbolTable.size()];
+    for (int symbol = 0; symbol < impacts.length; symbol++) {
+      impacts[symbol] = bonusImpacts[symbolTable.getImpact(symbol).ordinal()];
+    }
+    return new RoundRecorder(this, wins, impacts);
+  }
+
+  /**
+   * Records the duration of a stage of a round.
+   *
+   * @param stage the stage
+   * @param nanos the duration in nanoseconds
+   */
+  public void recordStage(Stage stage, long nanos) {
+    stages[stage.ordinal()].record(nanos);
+  }
+
+  void recordRound(int reward) {
+    rounds.increment();
+    if (reward > 0) {
+      winningRounds.increment();
+    }
+  }
+
+  /**
+   * Retrieves the durations recorded for a stage.
+   *
+   * @param stage the stage
+   * @return the live histogram of the stage
+   */
+  public LatencyHistogram getStage(Stage stage) {
+    return stages[stage.ordinal()];
+  }
+
+  @Override
+  public long getRounds() {
+    return rounds.sum();
+  }
+
+  @Override
+  public long getWinningRounds() {
+    return winningRounds.sum();
+  }
+
+  @Override
+  public Map<String, Long> getCombinationWins() {
+    Map<String, Long> wins = new LinkedHashMap<>();
+    combinationWins.forEach((name, count) -> wins.put(name, count.sum()));
+    return wins;
+  }
+
+  @Override
+  public Map<String, Long> getBonusImpacts() {
+    Map<String, Long> impacts = new LinkedHashMap<>();
+    for (SymbolImpact impact : SymbolImpact.values()) {
+      if (impact != SymbolImpact.NONE) {
+        impacts.put(impact.getValue(), bonusImpacts[impact.ordinal()].sum());
+      }
+    }
+    return impacts;
+  }
+
+  @Override
+  public Map<String, Long> getStageCounts() {
+    Map<String, Long> counts = new LinkedHashMap<>();
+    for (Stage stage : Stage.values()) {
+      counts.put(stage.label(), getStage(stage).getCount());
+    }
+    return counts;
+  }
+
+  @Override
+  public Map<String, Double> getStageMeanMicros() {
+    return stageMicros(LatencyHistogram::getMean);
+  }
+
+  @Override
+  public Map<String, Double> getStageP99Micros() {
+    return stageMicros(histogram -> histogram.getValueAtPercentile(99));
+  }
+
+  @Override
+  public Map<String, Double> getStageMaxMicros() {
+    return stageMicros(LatencyHistogram::getMax);
+  }
+
+  private Map<String, Double> stageMicros(ToDoubleFunction<LatencyHistogram> nanos) {
+    Map<String, Double> micros = new LinkedHashMap<>();
+    for (Stage stage : Stage.values()) {
+      micros.put(stage.label(), nanos.applyAsDouble(getStage(stage)) / NANOS_PER_MICRO);
+    }
+    return micros;
+  }
+
+  /**
+   * Registers the metrics with the platform MBean server under {@value #OBJECT_NAME}. Failures, such
+   * as another instance being registered already, are logged and leave the metrics usable.
+   *
+   * @return whether the metrics were registered
+   */
+  public boolean registerMBean() {
+    try {
+      ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName(OBJECT_NAME));
+      return true;
+    } catch (JMException e) {
+      LOGGER.warning("Failed to register the round metrics over JMX: " + e.getMessage());
+      return false;
+    }
+  }
+
+  /**
+   * Formats the metrics in the Prometheus text exposition format (version 0.0.4). Stage durations are
+   * exported as summaries in seconds, with the quantiles read from the histograms.
+   *
+   * @return the exposition text
+   */
+  public String toPrometheusText() {
+    StringBuilder out = new StringBuilder(4096);
+    counter(out, "scratch_game_rounds_total", "Rounds played.");
+    out.append("scratch_game_rounds_total ").append(getRounds()).append('\n');
+    counter(out, "scratch_game_winning_rounds_total", "Rounds paying a reward.");
+    out.append("scratch_game_winning_rounds_total ").append(getWinningRounds()).append('\n');
+
+    counter(out, "scratch_game_combination_wins_total", "Rounds applying a win combination.");
+    getCombinationWins().forEach((name, count) -> out.append("scratch_game_combination_wins_total{combination=\"")
+        .append(escape(name)).append("\"} ").append(count).append('\n'));
+    counter(out, "scratch_game_bonus_symbols_total", "Bonus symbols placed, by impact.");
+    getBonusImpacts().forEach((impact, count) -> out.append("scratch_game_bonus_symbols_total{impact=\"")
+        .append(impact).append("\"} ").append(count).append('\n'));
+
+    String name = "scratch_game_stage_duration_seconds";
+    out.append("# HELP ").append(name).append(" Duration of the stages of a round.\n");
+    out.append("# TYPE ").append(name).append(" summary\n");
+    double[] percentiles = new double[QUANTILES.length];
+    for (int i = 0; i < QUANTILES.length; i++) {
+      percentiles[i] = QUANTILES[i] * 100;
+    }
+    for (Stage stage : Stage.values()) {
+      LatencyHistogram histogram = getStage(stage);
+      long[] values = histogram.getValuesAtPercentiles(percentiles);
+      for (int i = 0; i < QUANTILES.length; i++) {
+        out.append(name).append("{stage=\"").append(stage.label()).append("\",quantile=\"").append(QUANTILES[i])
+            .append("\"} ").append(values[i] / NANOS_PER_SECOND).append('\n');
+      }
+      out.append(name).append("_sum{stage=\"").append(stage.label()).append("\"} ")
+          .append(histogram.getSum() / NANOS_PER_SECOND).append('\n');
+      out.append(name).append("_count{stage=\"").append(stage.label()).append("\"} ")
+          .append(histogram.getCount()).append('\n');
+    }
+    return out.toString();
+  }
+
+  private static void counter(StringBuilder out, String name, String help) {
+    out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+    out.append("# TYPE ").append(name).append(" counter\n");
+  }
+
+  private static String escape(String label) {
+    return label.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+  }
+}
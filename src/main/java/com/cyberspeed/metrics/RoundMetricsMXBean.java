@@ -0,0 +1,27 @@
+package com.cyberspeed.metrics;
+
+import java.util.Map;
+
+/**
+ * The {@code RoundMetricsMXBean} interface is the JMX view of {@link RoundMetrics}, registered under
+ * {@value RoundMetrics#OBJECT_NAME}. Maps are keyed by combination name, bonus impact or stage name,
+ * and durations are reported in microseconds.
+ */
+public interface RoundMetricsMXBean {
+
+  long getRounds();
+
+  long getWinningRounds();
+
+  Map<String, Long> getCombinationWins();
+
+  Map<String, Long> getBonusImpacts();
+
+  Map<String, Long> getStageCounts();
+
+  Map<String, Double> getStageMeanMicros();
+
+  Map<String, Double> getStageP99Micros();
+
+  Map<String, Double> getStageMaxMicros();
+}
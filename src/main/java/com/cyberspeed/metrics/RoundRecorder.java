@@ -0,0 +1,53 @@
+package com.cyberspeed.metrics;
+
+import com.cyberspeed.metrics.RoundMetrics.Stage;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The {@code RoundRecorder} class records the rounds of one engine into {@link RoundMetrics}. It is
+ * created by {@link RoundMetrics#recorderFor} for the compiled model of the engine, with the counters of
+ * every combination and bonus symbol resolved into arrays indexed by their IDs, and is as thread-safe
+ * as the metrics themselves.
+ */
+public final class RoundRecorder {
+
+  private final RoundMetrics metrics;
+  private final LongAdder[] combinationWins;
+  private final LongAdder[] bonusImpacts;
+
+  RoundRecorder(RoundMetrics metrics, LongAdder[] combinationWins, LongAdder[] bonusImpacts) {
+    this.metrics = metrics;
+    this.combinationWins = combinationWins;
+    this.bonusImpacts = bonusImpacts;
+  }
+
+  /**
+   * Records the duration of a stage of a round.
+   *
+   * @param stage the stage
+   * @param nanos the duration in nanoseconds
+   */
+  public void recordStage(Stage stage, long nanos) {
+    metrics.recordStage(stage, nanos);
+  }
+
+  /**
+   * Records the outcome of a round. Its applied combinations are recorded separately.
+   *
+   * @param reward the reward paid for the round
+   * @param bonusSymbol the ID of the bonus symbol placed on the board
+   */
+  public void recordRound(int reward, int bonusSymbol) {
+    metrics.recordRound(reward);
+    bonusImpacts[bonusSymbol].increment();
+  }
+
+  /**
+   * Records a combination applied to a round.
+   *
+   * @param combination the ID of the combination
+   */
+  public void recordWin(int combination) {
+    combinationWins[combination].increment();
+  }
+}
@@ -1,11 +1,27 @@
 package com.cyberspeed.model;
 
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
-public class PlayResult {
+/**
+ * The {@code PlayResult} class is the immutable outcome of a single round: the scratched matrix, the
+ * reward, the winning combinations applied to every symbol and the bonus symbol. The matrix and the
+ * combinations are copied once on construction, so a result can be handed to other threads or cached
+ * without any risk of it being changed afterwards. JSON is written from the fields, so serialising a
+ * result allocates no copy of the matrix; {@link #getSymbol(int, int)} reads a cell without copying
+ * either, and only {@link #getMatrix()} returns a copy. Rounds played with explanations requested also
+ * carry a {@link RoundExplanation}, which is left out of the JSON otherwise.
+ */
+@JsonAutoDetect(getterVisibility = Visibility.NONE, isGetterVisibility = Visibility.NONE)
+public final class PlayResult {
 
   @JsonProperty("matrix")
   private final String[][] matrix;
@@ -19,21 +35,70 @@ public class PlayResult {
   @JsonProperty("applied_bonus_symbol")
   private final String appliedBonusSymbol;
 
+  @JsonProperty("explanation")
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private final RoundExplanation explanation;
+
   public PlayResult(
       String[][] matrix,
       int reward,
       Map<String, List<String>> appliedWinningCombinations,
       String appliedBonusSymbol
   ) {
-    this.matrix = matrix;
+    this(matrix, reward, appliedWinningCombinations, appliedBonusSymbol, null);
+  }
+
+  public PlayResult(
+      String[][] matrix,
+      int reward,
+      Map<String, List<String>> appliedWinningCombinations,
+      String appliedBonusSymbol,
+      RoundExplanation explanation
+  ) {
+    this.matrix = copyOf(Objects.requireNonNull(matrix, "Matrix cannot be null"));
     this.reward = reward;
-    this.appliedWinningCombinations = appliedWinningCombinations;
+    this.appliedWinningCombinations = copyOf(appliedWinningCombinations);
     this.appliedBonusSymbol = appliedBonusSymbol;
+    this.explanation = explanation;
+  }
+
+  private static String[][] copyOf(String[][] matrix) {
+    String[][] copy = new String[matrix.length][];
+    for (int i = 0; i < matrix.length; i++) {
+      copy[i] = matrix[i].clone();
+    }
+    return copy;
+  }
+
+  private static Map<String, List<String>> copyOf(Map<String, List<String>> combinations) {
+    if (combinations == null || combinations.isEmpty()) {
+      return Map.of();
+    }
+    Map<String, List<String>> copy = new LinkedHashMap<>();
+    combinations.forEach((symbol, names) -> copy.put(symbol, List.copyOf(names)));
+    return Collections.unmodifiableMap(copy);
   }
 
-  // Getters (required for serialization)
+  /**
+   * Retrieves a copy of the scratched matrix. The rows are mutable arrays, so handing out the matrix
+   * itself would let callers change a result shared with other threads.
+   *
+   * @return a copy of the matrix, indexed by row then column
+   */
   public String[][] getMatrix() {
-    return matrix;
+    return copyOf(matrix);
+  }
+
+  /**
+   * Retrieves the symbol of a cell of the matrix without copying it.
+   *
+   * @param row the row of the cell
+   * @param column the column of the cell
+   * @return the symbol scratched in the cell
+   * @throws ArrayIndexOutOfBoundsException if the cell is outside the matrix
+   */
+  public String getSymbol(int row, int column) {
+    return matrix[row][column];
   }
 
   public int getReward() {
@@ -48,13 +113,44 @@ public class PlayResult {
     return appliedBonusSymbol;
   }
 
+  /**
+   * Retrieves the breakdown of the reward calculation.
+   *
+   * @return the explanation, or null if the round was played without explanations
+   */
+  public RoundExplanation getExplanation() {
+    return explanation;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    PlayResult that = (PlayResult) o;
+    return reward == that.reward && Arrays.deepEquals(matrix, that.matrix)
+        && appliedWinningCombinations.equals(that.appliedWinningCombinations)
+        && Objects.equals(appliedBonusSymbol, that.appliedBonusSymbol)
+        && Objects.equals(explanation, that.explanation);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(Arrays.deepHashCode(matrix), reward, appliedWinningCombinations, appliedBonusSymbol,
+        explanation);
+  }
+
   @Override
   public String toString() {
     return "PlayResult{" +
-        "matrix=" + Arrays.toString(matrix) +
+        "matrix=" + Arrays.deepToString(matrix) +
         ", reward=" + reward +
         ", appliedWinningCombinations=" + appliedWinningCombinations +
         ", appliedBonusSymbol='" + appliedBonusSymbol + '\'' +
+        ", explanation=" + explanation +
         '}';
   }
 }
\ No newline at end of file
@@ -0,0 +1,134 @@
+package com.cyberspeed.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The {@code RoundExplanation} class is the immutable breakdown of how the reward of a round was
+ * calculated, step by step: the standard symbol counts, the best combination of every group, the
+ * multiplier and reward of every paid symbol, the base reward and the effect of the bonus symbol. It is
+ * only built when a round is played or evaluated with explanations requested, typically to answer a
+ * support ticket, and is serialised with the {@link PlayResult} it belongs to.
+ */
+public final class RoundExplanation {
+
+  @JsonProperty("symbol_counts")
+  private final Map<String, Integer> symbolCounts;
+
+  @JsonProperty("group_best_combinations")
+  private final Map<String, String> groupBestCombinations;
+
+  @JsonProperty("symbol_multipliers")
+  private final Map<String, Double> symbolMultipliers;
+
+  @JsonProperty("symbol_rewards")
+  private final Map<String, Double> symbolRewards;
+
+  @JsonProperty("base_reward")
+  private final double baseReward;
+
+  @JsonProperty("bonus_impact")
+  private final String bonusImpact;
+
+  @JsonProperty("bonus_applied")
+  private final boolean bonusApplied;
+
+  /**
+   * Constructs a {@code RoundExplanation}. The maps are copied in their iteration order.
+   *
+   * @param symbolCounts the occurrences of every standard symbol on the board
+   * @param groupBestCombinations the combination applied for every group that has one
+   * @param symbolMultipliers the product of the multipliers of the combinations applied to every paid symbol
+   * @param symbolRewards the reward of every paid symbol: the bet times its own multiplier and its
+   *     combination multipliers
+   * @param baseReward the reward before the bonus symbol, the sum of the symbol rewards
+   * @param bonusImpact the impact of the bonus symbol on the board, or null if it has none
+   * @param bonusApplied whether the bonus symbol changed the reward
+   */
+  public RoundExplanation(
+      Map<String, Integer> symbolCounts,
+      Map<String, String> groupBestCombinations,
+      Map<String, Double> symbolMultipliers,
+      Map<String, Double> symbolRewards,
+      double baseReward,
+      String bonusImpact,
+      boolean bonusApplied
+  ) {
+    this.symbolCounts = copyOf(symbolCounts);
+    this.groupBestCombinations = copyOf(groupBestCombinations);
+    this.symbolMultipliers = copyOf(symbolMultipliers);
+    this.symbolRewards = copyOf(symbolRewards);
+    this.baseReward = baseReward;
+    this.bonusImpact = bonusImpact;
+    this.bonusApplied = bonusApplied;
+  }
+
+  private static <V> Map<String, V> copyOf(Map<String, V> map) {
+    return Collections.unmodifiableMap(new LinkedHashMap<>(Objects.requireNonNull(map, "Map cannot be null")));
+  }
+
+  public Map<String, Integer> getSymbolCounts() {
+    return symbolCounts;
+  }
+
+  public Map<String, String> getGroupBestCombinations() {
+    return groupBestCombinations;
+  }
+
+  public Map<String, Double> getSymbolMultipliers() {
+    return symbolMultipliers;
+  }
+
+  public Map<String, Double> getSymbolRewards() {
+    return symbolRewards;
+  }
+
+  public double getBaseReward() {
+    return baseReward;
+  }
+
+  public String getBonusImpact() {
+    return bonusImpact;
+  }
+
+  public boolean isBonusApplied() {
+    return bonusApplied;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    RoundExplanation that = (RoundExplanation) o;
+    return Double.compare(baseReward, that.baseReward) == 0 && bonusApplied == that.bonusApplied
+        && symbolCounts.equals(that.symbolCounts) && groupBestCombinations.equals(that.groupBestCombinations)
+        && symbolMultipliers.equals(that.symbolMultipliers) && symbolRewards.equals(that.symbolRewards)
+        && Objects.equals(bonusImpact, that.bonusImpact);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(symbolCounts, groupBestCombinations, symbolMultipliers, symbolRewards, baseReward,
+        bonusImpact, bonusApplied);
+  }
+
+  @Override
+  public String toString() {
+    return "RoundExplanation{" +
+        "symbolCounts=" + symbolCounts +
+        ", groupBestCombinations=" + groupBestCombinations +
+        ", symbolMultipliers=" + symbolMultipliers +
+        ", symbolRewards=" + symbolRewards +
+        ", baseReward=" + baseReward +
+        ", bonusImpact='" + bonusImpact + '\'' +
+        ", bonusApplied=" + bonusApplied +
+        '}';
+  }
+}
@@ -0,0 +1,205 @@
+package com.cyberspeed.output;
+
+import com.cyberspeed.exception.RoundOutputException;
+import com.cyberspeed.model.PlayResult;
+import com.cyberspeed.util.GameLogger;
+import com.cyberspeed.util.LoggingUtils;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.BufferedOutputStream;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The {@code PlayResultNdjsonWriter} class streams {@link PlayResult}s as newline-delimited JSON, one
+ * compact result per line, to a file or to the standard output. Every result is serialised straight
+ * into a single {@link JsonGenerator} kept open for the life of the writer, over a buffered and
+ * optionally gzip-compressed stream, so writing a round creates no intermediate {@code String} and
+ * the output is only flushed when the buffers are full or the writer is closed. Writes are
+ * synchronized, so a writer can be shared by several threads; {@link #writeAll} writes a whole chunk
+ * of results under a single lock.
+ */
+public final class PlayResultNdjsonWriter implements AutoCloseable {
+
+  private static final GameLogger LOGGER = LoggingUtils.getLogger(PlayResultNdjsonWriter.class.getName());
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+  // Flushing is left to the buffers; by default Jackson flushes after every value
+  private static final ObjectWriter RESULT_WRITER = OBJECT_MAPPER.writerFor(PlayResult.class)
+      .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+  private static final int BUFFER_SIZE = 1 << 16;
+  private static final String GZIP_EXTENSION = ".gz";
+
+  private final JsonGenerator generator;
+  private long written;
+
+  /**
+   * Constructs a {@code PlayResultNdjsonWriter} over an output stream.
+   *
+   * @param out the stream receiving the lines, buffered by the caller if needed
+   * @param closeTarget whether closing the writer closes the stream
+   * @throws RoundOutputException if the generator cannot be created
+   */
+  public PlayResultNdjsonWriter(OutputStream out, boolean closeTarget) {
+    Objects.requireNonNull(out, "Output stream cannot be null");
+    try {
+      this.generator = OBJECT_MAPPER.getFactory().createGenerator(out, JsonEncoding.UTF8);
+    } catch (IOException e) {
+      throw new RoundOutputException("Failed to create the JSON generator: " + e.getMessage(), e);
+    }
+    generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, closeTarget);
+    // Lines are ended explicitly, so no separator is written before the next result
+    generator.setRootValueSeparator(null);
+  }
+
+  /**
+   * Opens a writer to a file, compressed with gzip if its name ends with {@value #GZIP_EXTENSION}.
+   *
+   * @param path the file to write, replaced if it exists
+   * @return the writer
+   * @throws RoundOutputException if the file cannot be created
+   */
+  public static PlayResultNdjsonWriter open(Path path) {
+    return open(path, path.getFileName().toString().endsWith(GZIP_EXTENSION));
+  }
+
+  /**
+   * Opens a writer to a file.
+   *
+   * @param path the file to write, replaced if it exists
+   * @param gzip whether to compress the output with gzip
+   * @return the writer
+   * @throws RoundOutputException if the file cannot be created
+   */
+  public static PlayResultNdjsonWriter open(Path path, boolean gzip) {
+    Objects.requireNonNull(path, "Output path cannot be null");
+    try {
+      OutputStream out = Files.newOutputStream(path);
+      if (gzip) {
+        out = gzip(out);
+      }
+      LOGGER.info("Writing rounds to " + path + (gzip ? " (gzip)" : ""));
+      return new PlayResultNdjsonWriter(new BufferedOutputStream(out, BUFFER_SIZE), true);
+    } catch (IOException e) {
+      throw new RoundOutputException("Failed to open " + path + ": " + e.getMessage(), e);
+    }
+  }
+
+  private static OutputStream gzip(OutputStream out) throws IOException {
+    try {
+      return new FastGzipOutputStream(out);
+    } catch (IOException | RuntimeException e) {
+      // The gzip header is written at once, so the file has to be closed if that fails
+      try {
+        out.close();
+      } catch (IOException closeFailure) {
+        e.addSuppressed(closeFailure);
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Opens a writer to the standard output, which is flushed but not closed with the writer.
+   *
+   * @return the writer
+   */
+  public static PlayResultNdjsonWriter toStandardOutput() {
+    return new PlayResultNdjsonWriter(
+        new BufferedOutputStream(new FileOutputStream(FileDescriptor.out), BUFFER_SIZE), false);
+  }
+
+  /**
+   * Writes a result as a line.
+   *
+   * @param result the result to write
+   * @throws RoundOutputException if the result cannot be written
+   */
+  public synchronized void write(PlayResult result) {
+    try {
+      writeLine(result);
+    } catch (IOException e) {
+      throw new RoundOutputException("Failed to write round: " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Writes the first results of an array, one per line, without letting other threads write between
+   * them.
+   *
+   * @param results the results to write
+   * @param count the number of results to write from the start of the array
+   * @throws RoundOutputException if a result cannot be written
+   */
+  public synchronized void writeAll(PlayResult[] results, int count) {
+    Objects.checkFromIndexSize(0, count, results.length);
+    try {
+      for (int i = 0; i < count; i++) {
+        writeLine(results[i]);
+      }
+    } catch (IOException e) {
+      throw new RoundOutputException("Failed to write rounds: " + e.getMessage(), e);
+    }
+  }
+
+  private void writeLine(PlayResult result) throws IOException {
+    RESULT_WRITER.writeValue(generator, result);
+    generator.writeRaw('\n');
+    written++;
+  }
+
+  /**
+   * Retrieves the number of results written so far.
+   *
+   * @return the number of lines
+   */
+  public synchronized long getWritten() {
+    return written;
+  }
+
+  /**
+   * Flushes the buffered lines to the underlying stream.
+   *
+   * @throws RoundOutputException if the lines cannot be flushed
+   */
+  public synchronized void flush() {
+    try {
+      generator.flush();
+    } catch (IOException e) {
+      throw new RoundOutputException("Failed to flush rounds: " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Flushes the remaining lines and closes the output, finishing the gzip stream if any.
+   *
+   * @throws RoundOutputException if the output cannot be closed
+   */
+  @Override
+  public synchronized void close() {
+    try {
+      generator.close();
+    } catch (IOException e) {
+      throw new RoundOutputException("Failed to close round output: " + e.getMessage(), e);
+    }
+  }
+
+  // The default compression level costs more than playing the rounds; the fastest still shrinks the
+  // repetitive lines about eightfold
+  private static final class FastGzipOutputStream extends GZIPOutputStream {
+
+    private FastGzipOutputStream(OutputStream out) throws IOException {
+      super(out, BUFFER_SIZE);
+      def.setLevel(Deflater.BEST_SPEED);
+    }
+  }
+}
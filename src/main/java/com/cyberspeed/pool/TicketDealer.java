@@ -0,0 +1,141 @@
+package com.cyberspeed.pool;
+
+import com.cyberspeed.exception.TicketPoolException;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The {@code TicketDealer} class hands out the tickets of a {@link TicketPool}, each exactly once. A
+ * sequential dealer serves them in the order they were generated. A shuffled dealer serves them in a
+ * pseudo-random order derived from a seed, computed on the fly by a keyed Feistel permutation of the
+ * ticket indices, so the order is reproducible and needs no memory however large the pool. Dealing is
+ * a single atomic increment, so one dealer can be shared by any number of threads.
+ */
+public final class TicketDealer {
+
+  private static final int ROUNDS = 4;
+
+  private final long size;
+  private final AtomicLong dealt;
+  private final long[] keys;
+  private final int halfBits;
+  private final long halfMask;
+
+  private TicketDealer(long size, long dealt, long[] keys) {
+    if (dealt < 0 || dealt > size) {
+      throw new IllegalArgumentException("Number of dealt tickets must be between 0 and " + size);
+    }
+    this.size = size;
+    this.dealt = new AtomicLong(dealt);
+    this.keys = keys;
+    int bits = Math.max(2, Long.SIZE - Long.numberOfLeadingZeros(size - 1));
+    this.halfBits = (bits + 1) / 2;
+    this.halfMask = (1L << halfBits) - 1;
+  }
+
+  /**
+   * Creates a dealer serving the tickets of a pool in the order they were generated.
+   *
+   * @param pool the ticket pool
+   * @return the sequential dealer
+   */
+  public static TicketDealer sequential(TicketPool pool) {
+    return sequential(pool, 0);
+  }
+
+  /**
+   * Creates a sequential dealer resuming after the given number of dealt tickets.
+   *
+   * @param pool the ticket pool
+   * @param dealt the number of tickets already dealt
+   * @return the sequential dealer
+   */
+  public static TicketDealer sequential(TicketPool pool, long dealt) {
+    return new TicketDealer(Objects.requireNonNull(pool, "Ticket pool cannot be null").size(), dealt, null);
+  }
+
+  /**
+   * Creates a dealer serving the tickets of a pool in a pseudo-random order.
+   *
+   * @param pool the ticket pool
+   * @param seed the seed of the order
+   * @return the shuffled dealer
+   */
+  public static TicketDealer shuffled(TicketPool pool, long seed) {
+    return shuffled(pool, seed, 0);
+  }
+
+  /**
+   * Creates a shuffled dealer resuming after the given number of dealt tickets. The same seed always
+   * yields the same order, so a dealer can be resumed from the seed and the number of dealt tickets.
+   *
+   * @param pool the ticket pool
+   * @param seed the seed of the order
+   * @param dealt the number of tickets already dealt
+   * @return the shuffled dealer
+   */
+  public static TicketDealer shuffled(TicketPool pool, long seed, long dealt) {
+    Objects.requireNonNull(pool, "Ticket pool cannot be null");
+    SplittableRandom rand = new SplittableRandom(seed);
+    long[] keys = new long[ROUNDS];
+    for (int i = 0; i < ROUNDS; i++) {
+      keys[i] = rand.nextLong();
+    }
+    return new TicketDealer(pool.size(), dealt, keys);
+  }
+
+  /**
+   * Deals the next ticket.
+   *
+   * @return the index of the ticket in the pool
+   * @throws TicketPoolException if every ticket of the pool has been dealt
+   */
+  public long next() {
+    long position = dealt.getAndIncrement();
+    if (position >= size) {
+      dealt.set(size);
+      throw new TicketPoolException("Ticket pool exhausted after " + size + " tickets");
+    }
+    return keys == null ? position : permute(position);
+  }
+
+  public long getDealt() {
+    return Math.min(dealt.get(), size);
+  }
+
+  public long remaining() {
+    return size - getDealt();
+  }
+
+  public boolean isShuffled() {
+    return keys != null;
+  }
+
+  // Cycle-walking: the Feistel network permutes [0, 2^(2 * halfBits)), which holds at most four times
+  // the pool size, so re-applying it until the index falls within the pool takes a few rounds at most
+  private long permute(long position) {
+    long index = position;
+    do {
+      index = feistel(index);
+    } while (index >= size);
+    return index;
+  }
+
+  private long feistel(long index) {
+    long left = index >>> halfBits;
+    long right = index & halfMask;
+    for (long key : keys) {
+      long next = left ^ (mix(right ^ key) & halfMask);
+      left = right;
+      right = next;
+    }
+    return (left << halfBits) | right;
+  }
+
+  private static long mix(long z) {
+    z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+    z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+    return z ^ (z >>> 31);
+  }
+}
@@ -0,0 +1,436 @@
+package com.cyberspeed.pool;
+
+import com.cyberspeed.engine.ScratchGameEngine;
+import com.cyberspeed.engine.SymbolTable;
+import com.cyberspeed.exception.TicketPoolException;
+import com.cyberspeed.model.PlayResult;
+import com.cyberspeed.simulation.SimulationStatistics;
+import com.cyberspeed.util.GameLogger;
+import com.cyberspeed.util.LoggingUtils;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The {@code TicketPool} class gives read access to a ticket pool written by {@link TicketPoolWriter}.
+ * The records are memory-mapped read-only in segments of a whole number of records, so pools larger
+ * than the 2 GB limit of a single mapping can be read, opening a pool does not read its records, and
+ * reading ticket {@code i} is a shift, a mask and a few reads of the mapping, without any heap copy.
+ * Ranges of tickets can be scanned and summarised into {@link SimulationStatistics} by streaming over
+ * the mapping, and the full {@link PlayResult} of a ticket can be rebuilt by evaluating its stored
+ * board. Tickets are usually handed out by a {@link TicketDealer}. Instances are immutable once opened
+ * and can be read by any number of threads; they must be closed to release the file.
+ */
+public final class TicketPool implements AutoCloseable {
+
+  private static final GameLogger LOGGER = LoggingUtils.getLogger(TicketPool.class.getName());
+
+  /** Default size of a mapped segment, rounded down to a power of two number of records. */
+  public static final int DEFAULT_SEGMENT_SIZE = 1 << 30;
+
+  private final Path path;
+  private final FileChannel channel;
+  private final MappedByteBuffer[] segments;
+  private final int segmentShift;
+  private final long segmentMask;
+
+  private final int rows;
+  private final int columns;
+  private final int cells;
+  private final int bettingAmount;
+  private final long size;
+  private final int recordSize;
+  private final int combinationsOffset;
+  private final int combinationWords;
+  private final List<String> symbolNames;
+  private final List<String> combinationNames;
+  private final List<String> bonusSymbolNames;
+
+  private TicketPool(Path path, FileChannel channel, int segmentSize) throws IOException {
+    this.path = path;
+    this.channel = channel;
+
+    ByteBuffer header = read(channel, 0, TicketPoolFormat.FIXED_HEADER_SIZE);
+    if (header.getInt(0) != TicketPoolFormat.MAGIC) {
+      throw new TicketPoolException("Not a ticket pool file: " + path);
+    }
+    short version = header.getShort(4);
+    if (version != TicketPoolFormat.VERSION) {
+      throw new TicketPoolException("Unsupported ticket pool version " + version + " in " + path);
+    }
+    this.rows = header.getShort(6);
+    this.columns = header.getShort(8);
+    this.cells = rows * columns;
+    this.bettingAmount = header.getInt(12);
+    this.size = header.getLong(16);
+    long recordsOffset = header.getLong(24);
+    this.recordSize = header.getInt(32);
+    this.combinationWords = header.getShort(36);
+    this.combinationsOffset = TicketPoolFormat.combinationsOffset(cells);
+
+    if (size < 0 || recordSize != TicketPoolFormat.recordSize(cells, combinationWords)
+        || recordsOffset < TicketPoolFormat.FIXED_HEADER_SIZE || recordsOffset > Integer.MAX_VALUE
+        || fileSize(recordsOffset, size, recordSize) != channel.size()) {
+      throw new TicketPoolException("Corrupted or truncated ticket pool file: " + path);
+    }
+
+    ByteBuffer names = read(channel, TicketPoolFormat.FIXED_HEADER_SIZE,
+        (int) recordsOffset - TicketPoolFormat.FIXED_HEADER_SIZE);
+    DataInputStream in = new DataInputStream(new ByteArrayInputStream(names.array()));
+    this.symbolNames = readNames(in, header.getShort(38));
+    this.combinationNames = readNames(in, header.getShort(40));
+    this.bonusSymbolNames = readNames(in, header.getShort(10));
+
+    // A power of two number of records per segment turns the segment lookup into a shift and a mask
+    int segmentTickets = Integer.highestOneBit(Math.max(1, segmentSize / recordSize));
+    this.segmentShift = Integer.numberOfTrailingZeros(segmentTickets);
+    this.segmentMask = segmentTickets - 1;
+    this.segments = new MappedByteBuffer[(int) ((size + segmentMask) >>> segmentShift)];
+    for (int segment = 0; segment < segments.length; segment++) {
+      long first = (long) segment << segmentShift;
+      long tickets = Math.min(segmentTickets, size - first);
+      segments[segment] = channel.map(FileChannel.MapMode.READ_ONLY, recordsOffset + first * recordSize,
+          tickets * recordSize);
+    }
+  }
+
+  /**
+   * Opens and maps a ticket pool file in segments of the default size.
+   *
+   * @param path the file written by {@link TicketPoolWriter}
+   * @return the opened pool
+   * @throws TicketPoolException if the file cannot be read or is not a valid ticket pool
+   */
+  public static TicketPool open(Path path) {
+    return open(path, DEFAULT_SEGMENT_SIZE);
+  }
+
+  /**
+   * Opens and maps a ticket pool file in segments of at most the given size. A segment always holds
+   * a power of two number of records, and at least one.
+   *
+   * @param path the file written by {@link TicketPoolWriter}
+   * @param segmentSize the maximum size of a mapped segment in bytes
+   * @return the opened pool
+   * @throws IllegalArgumentException if the segment size is not positive
+   * @throws TicketPoolException if the file cannot be read or is not a valid ticket pool
+   */
+  public static TicketPool open(Path path, int segmentSize) {
+    Objects.requireNonNull(path, "Pool path cannot be null");
+    if (segmentSize <= 0) {
+      throw new IllegalArgumentException("Segment size must be greater than 0");
+    }
+    FileChannel channel = null;
+    try {
+      channel = FileChannel.open(path, StandardOpenOption.READ);
+      TicketPool pool = new TicketPool(path, channel, segmentSize);
+      LOGGER.info(String.format("Opened ticket pool %s with %,d tickets in %d segment(s)",
+          path, pool.size(), pool.segments.length));
+      return pool;
+    } catch (IOException e) {
+      closeQuietly(channel);
+      throw new TicketPoolException("Failed to open ticket pool " + path + ": " + e.getMessage(), e);
+    } catch (RuntimeException e) {
+      closeQuietly(channel);
+      throw e;
+    }
+  }
+
+  /**
+   * Computes the size of a pool file from its header.
+   *
+   * @return the size in bytes, or -1 if it overflows, which no file can match
+   */
+  private static long fileSize(long recordsOffset, long size, int recordSize) {
+    try {
+      return Math.addExact(recordsOffset, Math.multiplyExact(size, recordSize));
+    } catch (ArithmeticException e) {
+      return -1;
+    }
+  }
+
+  private static ByteBuffer read(FileChannel channel, long position, int length) throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(length);
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer, position + buffer.position()) < 0) {
+        throw new IOException("Unexpected end of file");
+      }
+    }
+    return buffer;
+  }
+
+  private static List<String> readNames(DataInputStream in, int count) throws IOException {
+    List<String> names = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      names.add(in.readUTF());
+    }
+    return List.copyOf(names);
+  }
+
+  private static void closeQuietly(FileChannel channel) {
+    if (channel == null) {
+      return;
+    }
+    try {
+      channel.close();
+    } catch (IOException e) {
+      LOGGER.warning("Failed to close ticket pool file: " + e.getMessage());
+    }
+  }
+
+  private MappedByteBuffer segmentOf(long ticket) {
+    return segments[(int) (Objects.checkIndex(ticket, size) >>> segmentShift)];
+  }
+
+  private int offsetOf(long ticket) {
+    return (int) (ticket & segmentMask) * recordSize;
+  }
+
+  public Path getPath() {
+    return path;
+  }
+
+  public int getRows() {
+    return rows;
+  }
+
+  public int getColumns() {
+    return columns;
+  }
+
+  public int getBettingAmount() {
+    return bettingAmount;
+  }
+
+  /**
+   * Retrieves the number of tickets of the pool.
+   *
+   * @return the number of tickets
+   */
+  public long size() {
+    return size;
+  }
+
+  /**
+   * Retrieves the names of the symbols, indexed by the symbol IDs stored in the tickets.
+   *
+   * @return the symbol names
+   */
+  public List<String> getSymbolNames() {
+    return symbolNames;
+  }
+
+  /**
+   * Retrieves the names of the win combinations, indexed like the combination bits of the tickets.
+   *
+   * @return the combination names in configuration order
+   */
+  public List<String> getCombinationNames() {
+    return combinationNames;
+  }
+
+  /**
+   * Retrieves the names of the bonus symbols of the configuration the pool was generated with.
+   *
+   * @return the bonus symbol names
+   */
+  public List<String> getBonusSymbolNames() {
+    return bonusSymbolNames;
+  }
+
+  public int getReward(long ticket) {
+    return segmentOf(ticket).getInt(offsetOf(ticket) + TicketPoolFormat.REWARD_OFFSET);
+  }
+
+  public int getBonusSymbol(long ticket) {
+    return segmentOf(ticket).getShort(offsetOf(ticket) + TicketPoolFormat.BONUS_OFFSET) & 0xFFFF;
+  }
+
+  /**
+   * Retrieves the symbol ID of a cell of a ticket.
+   *
+   * @param ticket the index of the ticket
+   * @param cell the row-major offset of the cell
+   * @return the symbol ID
+   */
+  public int getSymbol(long ticket, int cell) {
+    Objects.checkIndex(cell, cells);
+    return segmentOf(ticket).get(offsetOf(ticket) + TicketPoolFormat.BOARD_OFFSET + cell) & 0xFF;
+  }
+
+  /**
+   * Copies the board of a ticket into the given array.
+   *
+   * @param ticket the index of the ticket
+   * @param board the array receiving the symbol IDs of the cells (row-major)
+   * @return the given array
+   */
+  public int[] getBoard(long ticket, int[] board) {
+    MappedByteBuffer segment = segmentOf(ticket);
+    int offset = offsetOf(ticket) + TicketPoolFormat.BOARD_OFFSET;
+    for (int cell = 0; cell < cells; cell++) {
+      board[cell] = segment.get(offset + cell) & 0xFF;
+    }
+    return board;
+  }
+
+  /**
+   * Checks whether a win combination was applied to a ticket.
+   *
+   * @param ticket the index of the ticket
+   * @param combination the index of the win combination
+   * @return true if the combination was applied to at least one symbol of the ticket
+   */
+  public boolean hasCombination(long ticket, int combination) {
+    Objects.checkIndex(combination, combinationNames.size());
+    long word = segmentOf(ticket).getLong(offsetOf(ticket) + combinationsOffset + (combination >>> 6) * Long.BYTES);
+    return (word & (1L << combination)) != 0;
+  }
+
+  /**
+   * Builds the scratched matrix of a ticket.
+   *
+   * @param ticket the index of the ticket
+   * @return a new matrix of symbol names
+   */
+  public String[][] getMatrix(long ticket) {
+    int[] board = getBoard(ticket, new int[cells]);
+    String[][] matrix = new String[rows][columns];
+    for (int row = 0; row < rows; row++) {
+      for (int column = 0; column < columns; column++) {
+        matrix[row][column] = symbolNames.get(board[row * columns + column]);
+      }
+    }
+    return matrix;
+  }
+
+  public String getBonusSymbolName(long ticket) {
+    return symbolNames.get(getBonusSymbol(ticket));
+  }
+
+  /**
+   * Rebuilds the full result of a ticket, including the win combinations applied to every symbol, by
+   * evaluating its stored board. The engine must be created from the configuration the pool was
+   * generated with: its grid, symbol names and win combination names are checked against the ones
+   * stored in the pool, so a pool is never decoded with the names of another configuration.
+   *
+   * @param ticket the index of the ticket
+   * @param engine the engine evaluating the board
+   * @return the result of the ticket
+   * @throws TicketPoolException if the engine does not match the grid, symbols or combinations of the pool
+   */
+  public PlayResult getPlayResult(long ticket, ScratchGameEngine engine) {
+    return getPlayResult(ticket, engine, false);
+  }
+
+  /**
+   * Rebuilds the full result of a ticket like {@link #getPlayResult(long, ScratchGameEngine)}, optionally
+   * with the explanation of its reward, for instance to answer a support ticket.
+   *
+   * @param ticket the index of the ticket
+   * @param engine the engine evaluating the board
+   * @param explain whether to attach the explanation of the reward to the result
+   * @return the result of the ticket
+   * @throws TicketPoolException if the engine does not match the grid, symbols or combinations of the pool
+   */
+  public PlayResult getPlayResult(long ticket, ScratchGameEngine engine, boolean explain) {
+    checkConfiguration(engine);
+    return engine.evaluate(getBoard(ticket, new int[cells]), getBonusSymbol(ticket), bettingAmount, explain);
+  }
+
+  private void checkConfiguration(ScratchGameEngine engine) {
+    if (engine.getRows() != rows || engine.getColumns() != columns) {
+      throw new TicketPoolException(String.format("Engine plays a %dx%d grid, ticket pool %s holds %dx%d boards",
+          engine.getRows(), engine.getColumns(), path, rows, columns));
+    }
+    SymbolTable symbolTable = engine.getSymbolTable();
+    if (symbolTable.size() != symbolNames.size()) {
+      throw new TicketPoolException(String.format("Engine has %d symbols, ticket pool %s was generated with %d",
+          symbolTable.size(), path, symbolNames.size()));
+    }
+    for (int id = 0; id < symbolNames.size(); id++) {
+      if (!symbolNames.get(id).equals(symbolTable.nameOf(id))) {
+        throw new TicketPoolException(String.format("Engine has symbol '%s' where ticket pool %s has '%s'",
+            symbolTable.nameOf(id), path, symbolNames.get(id)));
+      }
+    }
+    List<String> engineCombinations = engine.getModel().getCombinationNames();
+    if (!engineCombinations.equals(combinationNames)) {
+      throw new TicketPoolException(String.format("Engine has win combinations %s, ticket pool %s was generated with %s",
+          engineCombinations, path, combinationNames));
+    }
+  }
+
+  /**
+   * Streams the tickets of a range to a visitor, in pool order.
+   *
+   * @param from the index of the first ticket, inclusive
+   * @param to the index of the last ticket, exclusive
+   * @param visitor the visitor receiving every ticket
+   */
+  public void scan(long from, long to, TicketVisitor visitor) {
+    Objects.checkFromToIndex(from, to, size);
+    Objects.requireNonNull(visitor, "Ticket visitor cannot be null");
+    long ticket = from;
+    while (ticket < to) {
+      MappedByteBuffer segment = segments[(int) (ticket >>> segmentShift)];
+      long segmentEnd = Math.min(to, ((ticket >>> segmentShift) + 1) << segmentShift);
+      for (int offset = offsetOf(ticket); ticket < segmentEnd; ticket++, offset += recordSize) {
+        visitor.visit(ticket, segment.getInt(offset + TicketPoolFormat.REWARD_OFFSET),
+            segment.getShort(offset + TicketPoolFormat.BONUS_OFFSET) & 0xFFFF);
+      }
+    }
+  }
+
+  /**
+   * Computes the statistics of the whole pool.
+   *
+   * @return the statistics of every ticket
+   */
+  public SimulationStatistics statistics() {
+    return statistics(0, size);
+  }
+
+  /**
+   * Computes the statistics of a range of tickets by streaming over the mapping.
+   *
+   * @param from the index of the first ticket, inclusive
+   * @param to the index of the last ticket, exclusive
+   * @return the statistics of the range
+   */
+  public SimulationStatistics statistics(long from, long to) {
+    Objects.checkFromToIndex(from, to, size);
+    SimulationStatistics statistics = new SimulationStatistics(combinationNames, bonusSymbolNames);
+    long[] combinations = new long[combinationWords];
+    long ticket = from;
+    while (ticket < to) {
+      MappedByteBuffer segment = segments[(int) (ticket >>> segmentShift)];
+      long segmentEnd = Math.min(to, ((ticket >>> segmentShift) + 1) << segmentShift);
+      for (int offset = offsetOf(ticket); ticket < segmentEnd; ticket++, offset += recordSize) {
+        for (int word = 0; word < combinationWords; word++) {
+          combinations[word] = segment.getLong(offset + combinationsOffset + word * Long.BYTES);
+        }
+        statistics.record(bettingAmount, segment.getInt(offset + TicketPoolFormat.REWARD_OFFSET), combinations, 0,
+            symbolNames.get(segment.getShort(offset + TicketPoolFormat.BONUS_OFFSET) & 0xFFFF));
+      }
+    }
+    return statistics;
+  }
+
+  @Override
+  public void close() {
+    try {
+      channel.close();
+    } catch (IOException e) {
+      throw new TicketPoolException("Failed to close ticket pool " + path + ": " + e.getMessage(), e);
+    }
+  }
+}
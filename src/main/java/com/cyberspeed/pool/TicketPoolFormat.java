@@ -0,0 +1,54 @@
+package com.cyberspeed.pool;
+
+/**
+ * The {@code TicketPoolFormat} class describes the binary layout of a ticket pool file. A file starts
+ * with a fixed header, followed by the symbol and win combination names and then by one fixed-width
+ * record per ticket, so ticket {@code i} starts at {@code recordsOffset + i * recordSize}. All numbers
+ * are big-endian. Records never straddle the segments a reader maps the file in, since a reader
+ * always maps a whole number of records.
+ *
+ * <pre>
+ * header   magic (int) | version (short) | rows (short) | columns (short) | bonus symbol count (short)
+ *          betting amount (int) | ticket count (long) | records offset (long) | record size (int)
+ *          combination words (short) | symbol count (short) | combination count (short)
+ * names    symbol names, combination names, then bonus symbol names, each as modified UTF-8
+ *          ({@code DataOutput.writeUTF})
+ * record   reward (int) | bonus symbol ID (short) | one symbol ID byte per cell (row-major)
+ *          | padding to 8 bytes | applied combination bitset (combination words longs)
+ * </pre>
+ */
+final class TicketPoolFormat {
+
+  static final int MAGIC = 0x53475450; // "SGTP"
+  static final short VERSION = 1;
+  static final int FIXED_HEADER_SIZE = 42;
+
+  static final int REWARD_OFFSET = 0;
+  static final int BONUS_OFFSET = 4;
+  static final int BOARD_OFFSET = 6;
+
+  private TicketPoolFormat() {
+    throw new AssertionError("Utility class should not be instantiated");
+  }
+
+  /**
+   * Computes the offset of the combination bitset within a record.
+   *
+   * @param cells the number of cells of a board
+   * @return the offset, aligned to 8 bytes
+   */
+  static int combinationsOffset(int cells) {
+    return (BOARD_OFFSET + cells + Long.BYTES - 1) & -Long.BYTES;
+  }
+
+  /**
+   * Computes the size of a record.
+   *
+   * @param cells the number of cells of a board
+   * @param combinationWords the number of longs of the combination bitset
+   * @return the record size in bytes
+   */
+  static int recordSize(int cells, int combinationWords) {
+    return combinationsOffset(cells) + combinationWords * Long.BYTES;
+  }
+}
@@ -0,0 +1,143 @@
+package com.cyberspeed.pool;
+
+import com.cyberspeed.engine.RoundBatch;
+import com.cyberspeed.engine.ScratchGameEngine;
+import com.cyberspeed.engine.SymbolTable;
+import com.cyberspeed.exception.TicketPoolException;
+import com.cyberspeed.util.GameLogger;
+import com.cyberspeed.util.LoggingUtils;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+/**
+ * The {@code TicketPoolWriter} class generates a finite pool of tickets with a {@link ScratchGameEngine}
+ * and persists it in the binary {@link TicketPoolFormat}. Tickets are played in batches and their
+ * records are written through a direct buffer, so generating a pool of millions of tickets costs little
+ * more than playing them. Once written, the prize structure of the pool is fixed: the total reward it
+ * pays out is known before a single ticket is dealt.
+ */
+public final class TicketPoolWriter {
+
+  private static final GameLogger LOGGER = LoggingUtils.getLogger(TicketPoolWriter.class.getName());
+  private static final int BATCH_SIZE = 4096;
+
+  private final ScratchGameEngine engine;
+
+  /**
+   * Constructs a {@code TicketPoolWriter} generating tickets with the given engine.
+   *
+   * @param engine the engine playing the tickets
+   */
+  public TicketPoolWriter(ScratchGameEngine engine) {
+    this.engine = Objects.requireNonNull(engine, "Game engine cannot be null");
+  }
+
+  /**
+   * Generates a pool of tickets and writes it to the given file, replacing any existing file.
+   *
+   * @param path the file to write
+   * @param tickets the number of tickets of the pool
+   * @param bettingAmount the price of a ticket
+   * @param rand the random number generator of the tickets
+   * @return the total reward paid out by the pool
+   * @throws IllegalArgumentException if the number of tickets is not positive
+   * @throws TicketPoolException if the file cannot be written
+   */
+  public long write(Path path, long tickets, int bettingAmount, RandomGenerator rand) {
+    Objects.requireNonNull(path, "Pool path cannot be null");
+    Objects.requireNonNull(rand, "Random generator cannot be null");
+    if (tickets <= 0) {
+      throw new IllegalArgumentException("Number of tickets must be greater than 0");
+    }
+
+    RoundBatch batch = engine.newBatch(BATCH_SIZE, true);
+    int cells = batch.getCells();
+    int combinationWords = batch.getCombinationWords();
+    int recordSize = TicketPoolFormat.recordSize(cells, combinationWords);
+    int combinationsOffset = TicketPoolFormat.combinationsOffset(cells);
+    List<String> bonusSymbols = engine.getModel().getBonusSymbols();
+    byte[] names = encodeNames(engine.getSymbolTable(), batch.getCombinationNames(), bonusSymbols);
+    long recordsOffset = TicketPoolFormat.FIXED_HEADER_SIZE + names.length;
+
+    long totalReward = 0;
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+        StandardOpenOption.TRUNCATE_EXISTING)) {
+      ByteBuffer header = ByteBuffer.allocate((int) recordsOffset);
+      header.putInt(TicketPoolFormat.MAGIC)
+          .putShort(TicketPoolFormat.VERSION)
+          .putShort((short) engine.getRows())
+          .putShort((short) engine.getColumns())
+          .putShort((short) bonusSymbols.size())
+          .putInt(bettingAmount)
+          .putLong(tickets)
+          .putLong(recordsOffset)
+          .putInt(recordSize)
+          .putShort((short) combinationWords)
+          .putShort((short) engine.getSymbolTable().size())
+          .putShort((short) batch.getCombinationNames().size())
+          .put(names)
+          .flip();
+      writeFully(channel, header);
+
+      ByteBuffer records = ByteBuffer.allocateDirect(BATCH_SIZE * recordSize);
+      byte[] boards = batch.getBoards();
+      long[] combinations = batch.getCombinations();
+      for (long written = 0; written < tickets; written += batch.size()) {
+        engine.playBatch(rand, bettingAmount, batch, (int) Math.min(BATCH_SIZE, tickets - written));
+
+        records.clear();
+        for (int i = 0; i < batch.size(); i++) {
+          int start = i * recordSize;
+          records.putInt(start + TicketPoolFormat.REWARD_OFFSET, batch.getRewards()[i]);
+          records.putShort(start + TicketPoolFormat.BONUS_OFFSET, (short) batch.getBonusSymbols()[i]);
+          records.put(start + TicketPoolFormat.BOARD_OFFSET, boards, i * cells, cells);
+          for (int word = 0; word < combinationWords; word++) {
+            records.putLong(start + combinationsOffset + word * Long.BYTES, combinations[i * combinationWords + word]);
+          }
+          totalReward += batch.getRewards()[i];
+        }
+        records.limit(batch.size() * recordSize);
+        writeFully(channel, records);
+      }
+    } catch (IOException e) {
+      throw new TicketPoolException("Failed to write ticket pool " + path + ": " + e.getMessage(), e);
+    }
+
+    LOGGER.info(String.format("Wrote %,d tickets (%,d bytes per ticket) paying %,d in total to %s",
+        tickets, recordSize, totalReward, path));
+    return totalReward;
+  }
+
+  private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+  }
+
+  private static byte[] encodeNames(SymbolTable symbolTable, List<String> combinationNames,
+      List<String> bonusSymbols) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      for (int id = 0; id < symbolTable.size(); id++) {
+        out.writeUTF(symbolTable.nameOf(id));
+      }
+      for (String combinationName : combinationNames) {
+        out.writeUTF(combinationName);
+      }
+      for (String bonusSymbol : bonusSymbols) {
+        out.writeUTF(bonusSymbol);
+      }
+    } catch (IOException e) {
+      throw new TicketPoolException("Failed to encode the ticket pool header", e);
+    }
+    return bytes.toByteArray();
+  }
+}
@@ -0,0 +1,20 @@
+package com.cyberspeed.pool;
+
+/**
+ * The {@code TicketVisitor} interface receives the tickets of a range scanned by
+ * {@link TicketPool#scan(long, long, TicketVisitor)}. Only the primitive fields of every ticket are
+ * passed, so a scan does not create an object per ticket; the board and combinations of a ticket can
+ * still be read from the pool by its index.
+ */
+@FunctionalInterface
+public interface TicketVisitor {
+
+  /**
+   * Visits a ticket of the scanned range.
+   *
+   * @param ticket the index of the ticket in the pool
+   * @param reward the reward of the ticket
+   * @param bonusSymbol the ID of the bonus symbol of the ticket
+   */
+  void visit(long ticket, int reward, int bonusSymbol);
+}
@@ -0,0 +1,50 @@
+package com.cyberspeed.server;
+
+import com.cyberspeed.metrics.RoundMetrics;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The {@code MetricsHandler} class serves {@code GET /metrics}: the {@link RoundMetrics} of the server
+ * in the Prometheus text exposition format, for a Prometheus server to scrape.
+ */
+final class MetricsHandler implements HttpHandler {
+
+  private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+  private final RoundMetrics metrics;
+
+  MetricsHandler(RoundMetrics metrics) {
+    this.metrics = metrics;
+  }
+
+  @Override
+  public void handle(HttpExchange exchange) throws IOException {
+    try {
+      if (!ScratchGameServer.METRICS_PATH.equals(exchange.getRequestURI().getPath())) {
+        send(exchange, 404, "Not found: " + exchange.getRequestURI().getPath() + "\n");
+        return;
+      }
+      if (!"GET".equals(exchange.getRequestMethod())) {
+        exchange.getResponseHeaders().set("Allow", "GET");
+        send(exchange, 405, "Method not allowed: " + exchange.getRequestMethod() + "\n");
+        return;
+      }
+      send(exchange, 200, metrics.toPrometheusText());
+    } finally {
+      exchange.close();
+    }
+  }
+
+  private static void send(HttpExchange exchange, int status, String text) throws IOException {
+    byte[] body = text.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+    exchange.sendResponseHeaders(status, body.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(body);
+    }
+  }
+}
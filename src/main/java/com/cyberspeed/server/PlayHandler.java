@@ -0,0 +1,180 @@
+package com.cyberspeed.server;
+
+import com.cyberspeed.engine.ScratchGameEngine;
+import com.cyberspeed.exception.InvalidBettingAmountException;
+import com.cyberspeed.metrics.RoundMetrics;
+import com.cyberspeed.model.PlayResult;
+import com.cyberspeed.util.GameLogger;
+import com.cyberspeed.util.LoggingUtils;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGenerator.SplittableGenerator;
+
+/**
+ * The {@code PlayHandler} class serves {@code POST /play}. The optional JSON body holds the
+ * {@code betting_amount} of the round, which defaults to the betting amount of the server, and an
+ * {@code explain} flag requesting the explanation of the reward. The response is the
+ * {@link PlayResult} of the round as JSON. Every request plays on the engine current when it arrives
+ * with its own generator, split from the generator of the server: splitting is the only step taken
+ * under a lock, and the rounds themselves share no mutable state. A request takes its generator only
+ * once it is validated, and rounds are numbered from 0 in the order their generators are split. The
+ * number of a played round is returned in the {@value #ROUND_HEADER} header, so round {@code n} of a
+ * server started with a given seed and algorithm can be replayed with the generator split from a
+ * generator created with them after {@code n} earlier splits. A round failing with {@code 500} once
+ * its generator is split leaves its number unused. Bodies larger than
+ * {@value #MAX_BODY_BYTES} bytes are answered with {@code 413} without being read, and other invalid
+ * requests with {@code 400}, both with a JSON {@code error} message. When the server has metrics, the
+ * time spent encoding the result is recorded as its serialisation.
+ */
+final class PlayHandler implements HttpHandler {
+
+  private static final GameLogger LOGGER = LoggingUtils.getLogger(PlayHandler.class.getName());
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+  private static final ObjectReader REQUEST_READER = OBJECT_MAPPER.readerFor(PlayRequest.class);
+  private static final ObjectWriter RESULT_WRITER = OBJECT_MAPPER.writerFor(PlayResult.class);
+  private static final ObjectWriter ERROR_WRITER = OBJECT_MAPPER.writerFor(Map.class);
+  private static final String CONTENT_TYPE = "application/json";
+
+  static final String ROUND_HEADER = "X-Round-Number";
+
+  // A bet and a flag fit in a few dozen bytes; anything larger is not a play request
+  static final int MAX_BODY_BYTES = 4096;
+
+  private final Supplier<ScratchGameEngine> engines;
+  private final int defaultBettingAmount;
+  private final RoundMetrics metrics;
+  private final SplittableGenerator generator;
+  private long rounds;
+
+  PlayHandler(Supplier<ScratchGameEngine> engines, int defaultBettingAmount, RoundMetrics metrics,
+      SplittableGenerator generator) {
+    this.engines = engines;
+    this.defaultBettingAmount = defaultBettingAmount;
+    this.metrics = metrics;
+    this.generator = generator;
+  }
+
+  /**
+   * Body of a play request.
+   */
+  static final class PlayRequest {
+
+    @JsonProperty("betting_amount")
+    Integer bettingAmount;
+
+    @JsonProperty("explain")
+    boolean explain;
+  }
+
+  @Override
+  public void handle(HttpExchange exchange) throws IOException {
+    try {
+      if (!ScratchGameServer.PLAY_PATH.equals(exchange.getRequestURI().getPath())) {
+        sendError(exchange, 404, "Not found: " + exchange.getRequestURI().getPath());
+        return;
+      }
+      if (!"POST".equals(exchange.getRequestMethod())) {
+        exchange.getResponseHeaders().set("Allow", "POST");
+        sendError(exchange, 405, "Method not allowed: " + exchange.getRequestMethod());
+        return;
+      }
+
+      byte[] body = readBody(exchange);
+      if (body == null) {
+        sendError(exchange, 413, "Request body exceeds " + MAX_BODY_BYTES + " bytes");
+        return;
+      }
+
+      final PlayResult result;
+      final long round;
+      try {
+        PlayRequest request = body.length == 0 ? null : REQUEST_READER.readValue(body);
+        if (request == null) {
+          request = new PlayRequest();
+        }
+        int bettingAmount = request.bettingAmount == null ? defaultBettingAmount : request.bettingAmount;
+        // Rejected requests must not take a generator, so that round numbers follow the splits
+        if (bettingAmount <= 0) {
+          throw new InvalidBettingAmountException("Betting amount must be greater than 0");
+        }
+        final RandomGenerator rand;
+        synchronized (generator) {
+          rand = generator.split();
+          round = rounds++;
+        }
+        result = engines.get().play(rand, bettingAmount, request.explain);
+      } catch (JsonProcessingException e) {
+        sendError(exchange, 400, "Malformed request: " + e.getOriginalMessage());
+        return;
+      } catch (InvalidBettingAmountException e) {
+        sendError(exchange, 400, e.getMessage());
+        return;
+      } catch (RuntimeException e) {
+        LOGGER.log(Level.SEVERE, "Failed to play round", e);
+        sendError(exchange, 500, "Failed to play round");
+        return;
+      }
+      exchange.getResponseHeaders().set(ROUND_HEADER, Long.toString(round));
+      send(exchange, 200, serialise(result));
+    } finally {
+      exchange.close();
+    }
+  }
+
+  private byte[] serialise(PlayResult result) throws JsonProcessingException {
+    if (metrics == null) {
+      return RESULT_WRITER.writeValueAsBytes(result);
+    }
+    long start = System.nanoTime();
+    byte[] json = RESULT_WRITER.writeValueAsBytes(result);
+    metrics.recordStage(RoundMetrics.Stage.SERIALISATION, System.nanoTime() - start);
+    return json;
+  }
+
+  /**
+   * Reads the request body, up to {@value #MAX_BODY_BYTES} bytes.
+   *
+   * @return the body, or null if it is larger than allowed
+   */
+  private static byte[] readBody(HttpExchange exchange) throws IOException {
+    String length = exchange.getRequestHeaders().getFirst("Content-Length");
+    if (length != null) {
+      try {
+        if (Long.parseLong(length.trim()) > MAX_BODY_BYTES) {
+          return null;
+        }
+      } catch (NumberFormatException e) {
+        // Left to the server, which rejects malformed lengths before calling handlers
+      }
+    }
+    // Chunked bodies have no length, so one byte past the limit is read to detect them. The rest of a
+    // body too large is left to the exchange, which drains a bounded amount or drops the connection.
+    InputStream body = exchange.getRequestBody();
+    byte[] bytes = body.readNBytes(MAX_BODY_BYTES + 1);
+    return bytes.length > MAX_BODY_BYTES ? null : bytes;
+  }
+
+  private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+    send(exchange, status, ERROR_WRITER.writeValueAsBytes(Map.of("error", message)));
+  }
+
+  private static void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+    exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+    exchange.sendResponseHeaders(status, body.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(body);
+    }
+  }
+}
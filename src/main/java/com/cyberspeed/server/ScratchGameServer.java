@@ -0,0 +1,187 @@
+package com.cyberspeed.server;
+
+import com.cyberspeed.engine.ScratchGameEngine;
+import com.cyberspeed.exception.PlayServerException;
+import com.cyberspeed.metrics.RoundMetrics;
+import com.cyberspeed.util.GameLogger;
+import com.cyberspeed.util.LoggingUtils;
+import com.cyberspeed.util.RandomUtils;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator.SplittableGenerator;
+
+/**
+ * The {@code ScratchGameServer} class is the headless play service: an embedded JDK {@link HttpServer}
+ * exposing {@code POST /play} (see {@link PlayHandler}) over a shared, thread-safe engine. The engine is
+ * obtained from a supplier for every request, so a {@link com.cyberspeed.config.ConfigReloader} can
+ * swap configurations while the server runs. Requests are handled on virtual threads when the runtime
+ * provides them (JDK 21 and later), found by reflection so the project still builds for JDK 17, and on
+ * a fixed pool of platform threads otherwise. Platform threads also keep the scratch round of the engine
+ * from one request to the next, while every virtual thread allocates its own. Every round is drawn
+ * from a generator split from the generator of the server, so the rounds of a server given a seeded
+ * generator can be replayed. Servers given
+ * {@link RoundMetrics} also expose them on {@code GET /metrics} (see {@link MetricsHandler}).
+ */
+public final class ScratchGameServer implements AutoCloseable {
+
+  private static final GameLogger LOGGER = LoggingUtils.getLogger(ScratchGameServer.class.getName());
+
+  public static final String PLAY_PATH = "/play";
+  public static final String METRICS_PATH = "/metrics";
+
+  // Pending connections queued by the kernel while every thread is busy
+  private static final int BACKLOG = 1024;
+
+  // The JDK server writes headers and body separately, which Nagle's algorithm holds back for the
+  // delayed ACK of the client (about 40 ms per response) unless TCP_NODELAY is set. The property is read
+  // once when the first server is created, so it is set here unless the command line already did.
+  private static final String NODELAY_PROPERTY = "sun.net.httpserver.nodelay";
+
+  static {
+    if (System.getProperty(NODELAY_PROPERTY) == null) {
+      System.setProperty(NODELAY_PROPERTY, "true");
+    }
+  }
+
+  private final HttpServer server;
+  private final ExecutorService executor;
+  private final boolean virtualThreads;
+
+  /**
+   * Constructs a {@code ScratchGameServer} bound to the given address. The server does not accept
+   * requests until it is started.
+   *
+   * @param engines the supplier of the engine playing each request
+   * @param bettingAmount the betting amount of requests that do not specify one
+   * @param address the address to bind, with port 0 for any free port
+   * @param workers the number of request threads when virtual threads are not available
+   * @throws PlayServerException if the address cannot be bound
+   * @throws IllegalArgumentException if the number of workers is not positive
+   */
+  public ScratchGameServer(Supplier<ScratchGameEngine> engines, int bettingAmount, InetSocketAddress address,
+      int workers) {
+    this(engines, bettingAmount, address, workers, null);
+  }
+
+  /**
+   * Constructs a {@code ScratchGameServer} exposing the given metrics, which should be the metrics the
+   * supplied engines record into, so that the serialisation of their results is recorded alongside.
+   *
+   * @param engines the supplier of the engine playing each request
+   * @param bettingAmount the betting amount of requests that do not specify one
+   * @param address the address to bind, with port 0 for any free port
+   * @param workers the number of request threads when virtual threads are not available
+   * @param metrics the metrics to expose, or null to serve rounds only
+   * @throws PlayServerException if the address cannot be bound
+   * @throws IllegalArgumentException if the number of workers is not positive
+   */
+  public ScratchGameServer(Supplier<ScratchGameEngine> engines, int bettingAmount, InetSocketAddress address,
+      int workers, RoundMetrics metrics) {
+    this(engines, bettingAmount, address, workers, metrics,
+        RandomUtils.createSplittable(RandomUtils.DEFAULT_ALGORITHM, new SplittableRandom().nextLong()));
+  }
+
+  /**
+   * Constructs a {@code ScratchGameServer} drawing its rounds from generators split from the given one,
+   * in the order the requests arrive.
+   *
+   * @param engines the supplier of the engine playing each request
+   * @param bettingAmount the betting amount of requests that do not specify one
+   * @param address the address to bind, with port 0 for any free port
+   * @param workers the number of request threads when virtual threads are not available
+   * @param metrics the metrics to expose, or null to serve rounds only
+   * @param generator the generator the generator of every round is split from
+   * @throws PlayServerException if the address cannot be bound
+   * @throws IllegalArgumentException if the number of workers is not positive
+   */
+  public ScratchGameServer(Supplier<ScratchGameEngine> engines, int bettingAmount, InetSocketAddress address,
+      int workers, RoundMetrics metrics, SplittableGenerator generator) {
+    Objects.requireNonNull(engines, "Engine supplier cannot be null");
+    Objects.requireNonNull(address, "Address cannot be null");
+    Objects.requireNonNull(generator, "Random generator cannot be null");
+    if (workers <= 0) {
+      throw new IllegalArgumentException("Number of workers must be greater than 0");
+    }
+    try {
+      this.server = HttpServer.create(address, BACKLOG);
+    } catch (IOException e) {
+      throw new PlayServerException("Failed to bind " + address + ": " + e.getMessage(), e);
+    }
+    ExecutorService virtual = newVirtualThreadExecutor();
+    this.virtualThreads = virtual != null;
+    this.executor = virtualThreads ? virtual : Executors.newFixedThreadPool(workers, runnable -> {
+      Thread thread = new Thread(runnable, "play-worker");
+      thread.setDaemon(true);
+      return thread;
+    });
+    server.setExecutor(executor);
+    server.createContext(PLAY_PATH, new PlayHandler(engines, bettingAmount, metrics, generator));
+    if (metrics != null) {
+      server.createContext(METRICS_PATH, new MetricsHandler(metrics));
+    }
+  }
+
+  /**
+   * Creates an executor starting a virtual thread per task, if the runtime supports them.
+   *
+   * @return the executor, or null before JDK 21
+   */
+  private static ExecutorService newVirtualThreadExecutor() {
+    try {
+      Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+      return (ExecutorService) factory.invoke(null);
+    } catch (NoSuchMethodException e) {
+      return null;
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      // Preview-only runtimes refuse to create virtual threads unless enabled
+      LOGGER.warning("Virtual threads are not available, using platform threads: " + e);
+      return null;
+    }
+  }
+
+  /**
+   * Starts accepting requests.
+   */
+  public void start() {
+    server.start();
+    LOGGER.info(String.format("Serving POST %s on port %d with %s", PLAY_PATH, getPort(),
+        virtualThreads ? "virtual threads" : "a pool of platform threads"));
+  }
+
+  /**
+   * Retrieves the port the server is bound to, useful when it was started on port 0.
+   *
+   * @return the local port
+   */
+  public int getPort() {
+    return server.getAddress().getPort();
+  }
+
+  public boolean isVirtualThreads() {
+    return virtualThreads;
+  }
+
+  /**
+   * Stops accepting requests, lets the requests being handled finish for up to a second and releases
+   * the request threads.
+   */
+  @Override
+  public void close() {
+    server.stop(1);
+    executor.shutdown();
+    try {
+      executor.awaitTermination(1, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    LOGGER.info("Play server stopped");
+  }
+}
@@ -0,0 +1,226 @@
+package com.cyberspeed.simulation;
+
+import com.cyberspeed.engine.RoundBatch;
+import com.cyberspeed.engine.ScratchGameEngine;
+import com.cyberspeed.model.PlayResult;
+import com.cyberspeed.model.ScratchGameConfiguration;
+import com.cyberspeed.output.PlayResultNdjsonWriter;
+import com.cyberspeed.util.GameLogger;
+import com.cyberspeed.util.LoggingUtils;
+import com.cyberspeed.util.RandomUtils;
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.random.RandomGenerator.SplittableGenerator;
+
+/**
+ * The {@code SimulationRunner} class plays a number of rounds of the Scratch Game without any user
+ * interface and collects their outcome into {@link SimulationStatistics}. It is used to estimate the
+ * return to player and the hit frequency of a game configuration by Monte Carlo simulation.
+ * The round budget can be split across several workers of a {@link ForkJoinPool}. All workers play
+ * their share on a single shared {@link ScratchGameEngine}, each with an independent random stream
+ * split from a single seeded generator, and the per-worker statistics are merged at the end, so a run
+ * is reproducible for a given seed, number of workers and random generator algorithm. Any splittable
+ * algorithm known to {@link java.util.random.RandomGeneratorFactory} can be used. Every played round
+ * can also be written to a {@link PlayResultNdjsonWriter} for auditing, in which case the rounds are
+ * played one result at a time from the same random streams, so the statistics do not change.
+ */
+public class SimulationRunner {
+
+  private static final GameLogger LOGGER = LoggingUtils.getLogger(SimulationRunner.class.getName());
+  private static final int BATCH_SIZE = 4096;
+
+  private final ScratchGameConfiguration gameConfig;
+  private final int bettingAmount;
+  private final ScratchGameEngine engine;
+
+  /**
+   * Constructs a {@code SimulationRunner} for the given configuration and betting amount.
+   * The configuration is validated immediately, exactly as it would be for the graphical game.
+   *
+   * @param gameConfig the game configuration to simulate
+   * @param bettingAmount the amount bet on every round
+   */
+  public SimulationRunner(ScratchGameConfiguration gameConfig, int bettingAmount) {
+    this.gameConfig = Objects.requireNonNull(gameConfig, "Game configuration cannot be null");
+    this.bettingAmount = bettingAmount;
+
+    // Fail fast on an invalid configuration or bet instead of failing inside the workers
+    this.engine = new ScratchGameEngine(gameConfig, bettingAmount);
+  }
+
+  /**
+   * Plays the given number of rounds on a single worker with an unseeded random stream.
+   *
+   * @param rounds the number of rounds to play
+   * @return the statistics of the simulated rounds
+   * @throws IllegalArgumentException if the number of rounds is not positive
+   */
+  public SimulationStatistics run(long rounds) {
+    return run(rounds, 1, new SplittableRandom().nextLong());
+  }
+
+  /**
+   * Plays the given number of rounds split across the given number of workers, drawing from generators
+   * of the {@value RandomUtils#DEFAULT_ALGORITHM} algorithm, the default of every entry point.
+   *
+   * @param rounds the number of rounds to play
+   * @param workers the number of workers sharing the rounds
+   * @param seed the seed of the random stream the worker streams are split from
+   * @return the merged statistics of the simulated rounds
+   * @throws IllegalArgumentException if the number of rounds or workers is not positive
+   */
+  public SimulationStatistics run(long rounds, int workers, long seed) {
+    return run(rounds, workers, seed, RandomUtils.DEFAULT_ALGORITHM);
+  }
+
+  /**
+   * Plays the given number of rounds split across the given number of workers, drawing from generators
+   * of the given algorithm.
+   *
+   * @param rounds the number of rounds to play
+   * @param workers the number of workers sharing the rounds
+   * @param seed the seed of the random stream the worker streams are split from
+   * @param algorithm the name of a splittable random number generator algorithm
+   * @return the merged statistics of the simulated rounds
+   * @throws IllegalArgumentException if the number of rounds or workers is not positive, or the
+   *     algorithm is unknown or not splittable
+   */
+  public SimulationStatistics run(long rounds, int workers, long seed, String algorithm) {
+    return run(rounds, workers, seed, algorithm, null);
+  }
+
+  /**
+   * Plays the given number of rounds split across the given number of workers, writing every round to
+   * the given output. The rounds of different workers are interleaved in chunks in the output.
+   *
+   * @param rounds the number of rounds to play
+   * @param workers the number of workers sharing the rounds
+   * @param seed the seed of the random stream the worker streams are split from
+   * @param algorithm the name of a splittable random number generator algorithm
+   * @param output the writer receiving every round, or null to only collect statistics
+   * @return the merged statistics of the simulated rounds
+   * @throws IllegalArgumentException if the number of rounds or workers is not positive, or the
+   *     algorithm is unknown or not splittable
+   */
+  public SimulationStatistics run(long rounds, int workers, long seed, String algorithm,
+      PlayResultNdjsonWriter output) {
+    if (rounds <= 0) {
+      throw new IllegalArgumentException("Number of rounds must be greater than 0");
+    }
+    if (workers <= 0) {
+      throw new IllegalArgumentException("Number of workers must be greater than 0");
+    }
+
+    SplittableGenerator rand = RandomUtils.createSplittable(algorithm, seed);
+
+    LOGGER.info(String.format("Simulating %,d rounds with betting amount %d on %d worker(s), seed %d (%s)",
+        rounds, bettingAmount, workers, seed, algorithm));
+    SimulationTask root = new SimulationTask(rounds, workers, rand, output);
+    if (workers == 1) {
+      return root.compute();
+    }
+
+    ForkJoinPool pool = new ForkJoinPool(workers);
+    try {
+      return pool.invoke(root);
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  /**
+   * Plays a share of the rounds on the shared engine, in batches.
+   *
+   * @param rounds the number of rounds to play
+   * @param rand the random stream of the worker
+   * @return the statistics of the played rounds
+   */
+  private SimulationStatistics playRounds(long rounds, SplittableGenerator rand) {
+    SimulationStatistics statistics = newStatistics(gameConfig);
+    RoundBatch batch = engine.newBatch(BATCH_SIZE, false);
+    for (long played = 0; played < rounds; played += batch.size()) {
+      engine.playBatch(rand, bettingAmount, batch, (int) Math.min(BATCH_SIZE, rounds - played));
+      statistics.record(batch);
+    }
+    return statistics;
+  }
+
+  /**
+   * Plays a share of the rounds on the shared engine one result at a time, writing them to the output
+   * in chunks.
+   *
+   * @param rounds the number of rounds to play
+   * @param rand the random stream of the worker
+   * @param output the writer receiving every round
+   * @return the statistics of the played rounds
+   */
+  private SimulationStatistics playRounds(long rounds, SplittableGenerator rand, PlayResultNdjsonWriter output) {
+    SimulationStatistics statistics = newStatistics(gameConfig);
+    PlayResult[] results = new PlayResult[BATCH_SIZE];
+    long played = 0;
+    while (played < rounds) {
+      int chunk = (int) Math.min(BATCH_SIZE, rounds - played);
+      for (int i = 0; i < chunk; i++) {
+        PlayResult result = engine.play(rand, bettingAmount);
+        statistics.record(bettingAmount, result.getReward(), result.getAppliedWinningCombinations(),
+            result.getAppliedBonusSymbol());
+        results[i] = result;
+      }
+      output.writeAll(results, chunk);
+      played += chunk;
+    }
+    return statistics;
+  }
+
+  /**
+   * Creates empty statistics tracking the win combinations and bonus symbols of a configuration.
+   *
+   * @param gameConfig the game configuration
+   * @return the empty statistics
+   */
+  static SimulationStatistics newStatistics(ScratchGameConfiguration gameConfig) {
+    return new SimulationStatistics(
+        new ArrayList<>(gameConfig.getWinCombinations().keySet()),
+        new ArrayList<>(gameConfig.getProbabilities().getBonusSymbols().getSymbols().keySet()));
+  }
+
+  /**
+   * Splits the round budget in halves until every task stands for a single worker. The random stream of
+   * the left half is split off before forking, so the stream of every worker only depends on the seed
+   * and the number of workers.
+   */
+  private final class SimulationTask extends RecursiveTask<SimulationStatistics> {
+
+    private final long rounds;
+    private final int workers;
+    private final SplittableGenerator rand;
+    private final PlayResultNdjsonWriter output;
+
+    private SimulationTask(long rounds, int workers, SplittableGenerator rand, PlayResultNdjsonWriter output) {
+      this.rounds = rounds;
+      this.workers = workers;
+      this.rand = rand;
+      this.output = output;
+    }
+
+    @Override
+    protected SimulationStatistics compute() {
+      if (workers == 1) {
+        return output == null ? playRounds(rounds, rand) : playRounds(rounds, rand, output);
+      }
+
+      int leftWorkers = workers / 2;
+      long leftRounds = rounds * leftWorkers / workers;
+      SimulationTask left = new SimulationTask(leftRounds, leftWorkers, rand.split(), output);
+      SimulationTask right = new SimulationTask(rounds - leftRounds, workers - leftWorkers, rand, output);
+
+      left.fork();
+      SimulationStatistics statistics = right.compute();
+      statistics.merge(left.join());
+      return statistics;
+    }
+  }
+}
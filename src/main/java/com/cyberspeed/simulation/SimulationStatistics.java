@@ -0,0 +1,307 @@
+package com.cyberspeed.simulation;
+
+import com.cyberspeed.engine.RoundBatch;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The {@code SimulationStatistics} class accumulates the outcome of simulated rounds and derives the
+ * figures used to certify a game configuration: return to player (RTP), hit frequency, the reward
+ * distribution expressed as multiples of the bet, and how often each win combination and bonus symbol
+ * was part of a round. Counters are primitive arrays indexed by combination and bonus symbol, so
+ * recording a round does not box any values. Statistics of independent runs over the same configuration can
+ * be merged. Instances are not thread-safe; each worker should record into its own instance.
+ */
+public final class SimulationStatistics {
+
+  // Upper bounds (exclusive) of the payout buckets, expressed as multiples of the bet
+  private static final double[] PAYOUT_BUCKET_LIMITS = {1, 2, 5, 10, 20, 50, 100, 500, 1000, Double.POSITIVE_INFINITY};
+  private static final String[] PAYOUT_BUCKET_LABELS = {
+      "< 1x", "1x - 2x", "2x - 5x", "5x - 10x", "10x - 20x", "20x - 50x", "50x - 100x", "100x - 500x",
+      "500x - 1000x", ">= 1000x"};
+
+  private final String[] combinationNames;
+  private final String[] bonusSymbols;
+  private final Map<String, Integer> combinationIndex = new HashMap<>();
+  private final Map<String, Integer> bonusIndex = new HashMap<>();
+
+  private long rounds;
+  private long totalBet;
+  private long totalReward;
+  private long winningRounds;
+  private long maxReward;
+  private final long[] payoutBuckets = new long[PAYOUT_BUCKET_LIMITS.length];
+  private final long[] combinationTriggers;
+  private final long[] bonusOccurrences;
+
+  // Marks the combinations already counted for the round being recorded
+  private final long[] combinationSeenInRound;
+
+  /**
+   * Constructs an empty {@code SimulationStatistics} for the given win combinations and bonus symbols.
+   *
+   * @param combinationNames the names of the configured win combinations
+   * @param bonusSymbols the names of the configured bonus symbols
+   */
+  public SimulationStatistics(List<String> combinationNames, List<String> bonusSymbols) {
+    Objects.requireNonNull(combinationNames, "Combination names cannot be null");
+    Objects.requireNonNull(bonusSymbols, "Bonus symbols cannot be null");
+    this.combinationNames = combinationNames.toArray(new String[0]);
+    this.bonusSymbols = bonusSymbols.toArray(new String[0]);
+    for (int i = 0; i < this.combinationNames.length; i++) {
+      combinationIndex.put(this.combinationNames[i], i);
+    }
+    for (int i = 0; i < this.bonusSymbols.length; i++) {
+      bonusIndex.put(this.bonusSymbols[i], i);
+    }
+    this.combinationTriggers = new long[this.combinationNames.length];
+    this.combinationSeenInRound = new long[this.combinationNames.length];
+    this.bonusOccurrences = new long[this.bonusSymbols.length];
+  }
+
+  /**
+   * Records the outcome of a single round.
+   *
+   * @param bettingAmount the amount bet on the round
+   * @param reward the reward paid for the round
+   * @param appliedWinningCombinations the win combinations applied per symbol
+   * @param appliedBonusSymbol the bonus symbol placed on the board, may be null
+   */
+  public void record(int bettingAmount, int reward, Map<String, List<String>> appliedWinningCombinations,
+      String appliedBonusSymbol) {
+    recordReward(bettingAmount, reward);
+
+    for (List<String> combinations : appliedWinningCombinations.values()) {
+      for (String combination : combinations) {
+        Integer index = combinationIndex.get(combination);
+        // A combination applied to several symbols only counts once per round
+        if (index != null && combinationSeenInRound[index] != rounds) {
+          combinationSeenInRound[index] = rounds;
+          combinationTriggers[index]++;
+        }
+      }
+    }
+
+    recordBonusSymbol(appliedBonusSymbol);
+  }
+
+  /**
+   * Records the outcome of all rounds of a batch.
+   *
+   * @param batch the batch of played rounds
+   */
+  public void record(RoundBatch batch) {
+    // Combination bits of the batch mapped to the counters of these statistics
+    List<String> batchCombinations = batch.getCombinationNames();
+    int[] indexes = new int[batchCombinations.size()];
+    for (int i = 0; i < indexes.length; i++) {
+      indexes[i] = combinationIndex.getOrDefault(batchCombinations.get(i), -1);
+    }
+
+    int[] rewards = batch.getRewards();
+    int[] bonuses = batch.getBonusSymbols();
+    for (int round = 0; round < batch.size(); round++) {
+      recordReward(batch.getBettingAmount(), rewards[round]);
+      for (int combination = 0; combination < indexes.length; combination++) {
+        if (indexes[combination] >= 0 && batch.hasCombination(round, combination)) {
+          combinationTriggers[indexes[combination]]++;
+        }
+      }
+      recordBonusSymbol(batch.getSymbolName(bonuses[round]));
+    }
+  }
+
+  /**
+   * Records the outcome of a single round whose applied win combinations are given as a bitset, bit
+   * {@code n} of the words starting at {@code offset} standing for the n-th combination tracked by these
+   * statistics, as stored by a ticket pool.
+   *
+   * @param bettingAmount the amount bet on the round
+   * @param reward the reward paid for the round
+   * @param combinations the words holding the combination bitset
+   * @param offset the index of the first word of the round
+   * @param appliedBonusSymbol the bonus symbol placed on the board, may be null
+   */
+  public void record(int bettingAmount, int reward, long[] combinations, int offset, String appliedBonusSymbol) {
+    recordReward(bettingAmount, reward);
+    for (int combination = 0; combination < combinationTriggers.length; combination++) {
+      if ((combinations[offset + (combination >>> 6)] & (1L << combination)) != 0) {
+        combinationTriggers[combination]++;
+      }
+    }
+    recordBonusSymbol(appliedBonusSymbol);
+  }
+
+  private void recordReward(int bettingAmount, int reward) {
+    rounds++;
+    totalBet += bettingAmount;
+    totalReward += reward;
+
+    if (reward > 0) {
+      winningRounds++;
+      maxReward = Math.max(maxReward, reward);
+      payoutBuckets[bucketOf(reward / (double) bettingAmount)]++;
+    }
+  }
+
+  private void recordBonusSymbol(String appliedBonusSymbol) {
+    if (appliedBonusSymbol != null) {
+      Integer index = bonusIndex.get(appliedBonusSymbol);
+      if (index != null) {
+        bonusOccurrences[index]++;
+      }
+    }
+  }
+
+  private static int bucketOf(double payout) {
+    int bucket = 0;
+    while (payout >= PAYOUT_BUCKET_LIMITS[bucket]) {
+      bucket++;
+    }
+    return bucket;
+  }
+
+  /**
+   * Adds the counters of another run over the same configuration to this one.
+   *
+   * @param other the statistics to merge
+   * @throws IllegalArgumentException if the statistics were collected for different combinations or bonus symbols
+   */
+  public void merge(SimulationStatistics other) {
+    if (!Arrays.equals(combinationNames, other.combinationNames)
+        || !Arrays.equals(bonusSymbols, other.bonusSymbols)) {
+      throw new IllegalArgumentException("Cannot merge statistics collected for different configurations");
+    }
+    rounds += other.rounds;
+    totalBet += other.totalBet;
+    totalReward += other.totalReward;
+    winningRounds += other.winningRounds;
+    maxReward = Math.max(maxReward, other.maxReward);
+    for (int i = 0; i < payoutBuckets.length; i++) {
+      payoutBuckets[i] += other.payoutBuckets[i];
+    }
+    for (int i = 0; i < combinationTriggers.length; i++) {
+      combinationTriggers[i] += other.combinationTriggers[i];
+    }
+    for (int i = 0; i < bonusOccurrences.length; i++) {
+      bonusOccurrences[i] += other.bonusOccurrences[i];
+    }
+  }
+
+  public long getRounds() {
+    return rounds;
+  }
+
+  public long getTotalBet() {
+    return totalBet;
+  }
+
+  public long getTotalReward() {
+    return totalReward;
+  }
+
+  public long getWinningRounds() {
+    return winningRounds;
+  }
+
+  public long getMaxReward() {
+    return maxReward;
+  }
+
+  /**
+   * Retrieves the return to player, the share of the total bet paid back as rewards.
+   *
+   * @return the RTP as a ratio (1.0 means 100%)
+   */
+  public double getReturnToPlayer() {
+    return totalBet == 0 ? 0 : totalReward / (double) totalBet;
+  }
+
+  /**
+   * Retrieves the hit frequency, the share of rounds that paid a reward.
+   *
+   * @return the hit frequency as a ratio
+   */
+  public double getHitFrequency() {
+    return rounds == 0 ? 0 : winningRounds / (double) rounds;
+  }
+
+  /**
+   * Retrieves the number of rounds in which the given win combination was applied.
+   *
+   * @param combination the name of the win combination
+   * @return the number of rounds, or 0 if the combination is unknown
+   */
+  public long getCombinationTriggers(String combination) {
+    Integer index = combinationIndex.get(combination);
+    return index == null ? 0 : combinationTriggers[index];
+  }
+
+  /**
+   * Retrieves the number of rounds in which the given bonus symbol was placed on the board.
+   *
+   * @param bonusSymbol the name of the bonus symbol
+   * @return the number of rounds, or 0 if the symbol is unknown
+   */
+  public long getBonusOccurrences(String bonusSymbol) {
+    Integer index = bonusIndex.get(bonusSymbol);
+    return index == null ? 0 : bonusOccurrences[index];
+  }
+
+  /**
+   * Renders the statistics as a human-readable report.
+   *
+   * @return the report text
+   */
+  public String toReport() {
+    StringBuilder report = new StringBuilder();
+    report.append("Scratch Game simulation report").append(System.lineSeparator());
+    appendLine(report, "Rounds", String.format("%,d", rounds));
+    appendLine(report, "Total bet", String.format("%,d", totalBet));
+    appendLine(report, "Total reward", String.format("%,d", totalReward));
+    appendLine(report, "Return to player", String.format("%.4f %%", getReturnToPlayer() * 100));
+    appendLine(report, "Hit frequency", String.format("%.4f %%", getHitFrequency() * 100));
+    appendLine(report, "Max reward", String.format("%,d", maxReward));
+
+    report.append(System.lineSeparator()).append("Reward distribution (payout as a multiple of the bet)")
+        .append(System.lineSeparator());
+    appendRate(report, "no win", rounds - winningRounds);
+    for (int i = 0; i < payoutBuckets.length; i++) {
+      appendRate(report, PAYOUT_BUCKET_LABELS[i], payoutBuckets[i]);
+    }
+
+    report.append(System.lineSeparator()).append("Win combination trigger rates").append(System.lineSeparator());
+    for (int i = 0; i < combinationNames.length; i++) {
+      appendRate(report, combinationNames[i], combinationTriggers[i]);
+    }
+
+    report.append(System.lineSeparator()).append("Bonus symbols").append(System.lineSeparator());
+    for (int i = 0; i < bonusSymbols.length; i++) {
+      appendRate(report, bonusSymbols[i], bonusOccurrences[i]);
+    }
+    return report.toString();
+  }
+
+  private static void appendLine(StringBuilder report, String label, String value) {
+    report.append(String.format("  %-40s %s", label + ":", value)).append(System.lineSeparator());
+  }
+
+  private void appendRate(StringBuilder report, String label, long count) {
+    double rate = rounds == 0 ? 0 : count / (double) rounds;
+    report.append(String.format("  %-40s %,16d  %9.4f %%", label, count, rate * 100)).append(System.lineSeparator());
+  }
+
+  @Override
+  public String toString() {
+    return "SimulationStatistics{" +
+        "rounds=" + rounds +
+        ", totalBet=" + totalBet +
+        ", totalReward=" + totalReward +
+        ", winningRounds=" + winningRounds +
+        ", maxReward=" + maxReward +
+        '}';
+  }
+}
@@ -4,6 +4,7 @@ import com.cyberspeed.model.PlayResult;
 import com.cyberspeed.engine.ScratchGameEngine;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import java.awt.BorderLayout;
 import java.awt.Color;
@@ -12,8 +13,10 @@ import java.awt.FlowLayout;
 import java.awt.Font;
 import java.awt.GridLayout;
 import java.util.Objects;
+import java.util.function.Supplier;
 import javax.swing.BorderFactory;
 import javax.swing.JButton;
+import javax.swing.JComponent;
 import javax.swing.JLabel;
 import javax.swing.JOptionPane;
 import javax.swing.JPanel;
@@ -28,11 +31,24 @@ import javax.swing.JTextField;
  * for starting the game, displaying the current bet amount, and showing the reward. It also
  * provides a text area to display the output JSON representation of the game result. The class
  * handles the layout and styling of the UI components and updates the display based on the
- * game state.
+ * game state. The engine is obtained from a supplier at the start of every game, so a panel fed by a
+ * {@link com.cyberspeed.config.ConfigReloader} plays each game on the latest configuration and
+ * rebuilds its grid when the dimensions change.
  */
 public class ScratchGamePanel extends JPanel {
 
+  // Mappers are thread-safe and costly to build, so a single pretty-printing writer is shared
+  private static final ObjectWriter OBJECT_WRITER = new ObjectMapper().writer(SerializationFeature.INDENT_OUTPUT);
+
+  // Cells shrink so that larger cards fit the same area as the 3x3 one; below the minimum size the
+  // grid keeps readable cells and scrolls instead
+  private static final int GRID_EXTENT = 300;
+  private static final int MAX_CELL_SIZE = 100;
+  private static final int MIN_CELL_SIZE = 36;
+
+  private Supplier<ScratchGameEngine> engineSupplier;
   private ScratchGameEngine gameEngine;
+  private JComponent gameGridComponent;
   private JButton[][] buttons;
   private JTextField betAmountField;
   private JLabel rewardLabel;
@@ -42,12 +58,22 @@ public class ScratchGamePanel extends JPanel {
   public ScratchGamePanel() {}
 
   public ScratchGamePanel(ScratchGameEngine gameEngine, int bettingAmount) {
-    Objects.requireNonNull(gameEngine, "Game engine must not be null");
-    this.gameEngine = gameEngine;
+    this(supplierOf(gameEngine), bettingAmount);
+  }
+
+  public ScratchGamePanel(Supplier<ScratchGameEngine> engineSupplier, int bettingAmount) {
+    Objects.requireNonNull(engineSupplier, "Game engine supplier must not be null");
+    this.engineSupplier = engineSupplier;
+    this.gameEngine = Objects.requireNonNull(engineSupplier.get(), "Game engine must not be null");
     this.initialBetAmount = bettingAmount;
     initializeUI();
   }
 
+  private static Supplier<ScratchGameEngine> supplierOf(ScratchGameEngine gameEngine) {
+    Objects.requireNonNull(gameEngine, "Game engine must not be null");
+    return () -> gameEngine;
+  }
+
   private void initializeUI() {
     setLayout(new BorderLayout(10, 10));
     setBackground(new Color(245, 245, 245)); // Light background
@@ -89,6 +115,10 @@ public class ScratchGamePanel extends JPanel {
     int rows = gameEngine.getRows();
     int cols = gameEngine.getColumns();
 
+    int fittedCellSize = GRID_EXTENT / Math.max(rows, cols);
+    int cellSize = Math.max(MIN_CELL_SIZE, Math.min(MAX_CELL_SIZE, fittedCellSize));
+    Font cellFont = new Font("Arial", Font.BOLD, Math.max(10, cellSize * 6 / 25));
+
     JPanel gameGridPanel = new JPanel(new GridLayout(rows, cols, 3, 3));
     gameGridPanel.setBackground(new Color(192,192,192));
     buttons = new JButton[rows][cols];
@@ -96,8 +126,8 @@ public class ScratchGamePanel extends JPanel {
     for (int i = 0; i < rows; i++) {
       for (int j = 0; j < cols; j++) {
         JButton btn = new JButton("");
-        btn.setPreferredSize(new Dimension(100, 100));
-        btn.setFont(new Font("Arial", Font.BOLD, 24));
+        btn.setPreferredSize(new Dimension(cellSize, cellSize));
+        btn.setFont(cellFont);
         btn.setBackground(new Color(169,169,169)); // White background
         btn.setBorder(BorderFactory.createLineBorder(Color.GRAY));
         buttons[i][j] = btn;
@@ -105,7 +135,8 @@ public class ScratchGamePanel extends JPanel {
       }
     }
 
-    add(gameGridPanel, BorderLayout.CENTER);
+    gameGridComponent = fittedCellSize < MIN_CELL_SIZE ? new JScrollPane(gameGridPanel) : gameGridPanel;
+    add(gameGridComponent, BorderLayout.CENTER);
   }
 
   private void createInfoPanel() {
@@ -149,31 +180,34 @@ public class ScratchGamePanel extends JPanel {
   }
 
   private void startGame() {
+    // The game is played and displayed on the engine current when it starts, even if it is reloaded meanwhile
+    ScratchGameEngine engine = engineSupplier.get();
+    boolean resized = engine.getRows() != gameEngine.getRows() || engine.getColumns() != gameEngine.getColumns();
+    gameEngine = engine;
+    if (resized) {
+      remove(gameGridComponent);
+      createGameGrid();
+      revalidate();
+      repaint();
+    }
     gameEngine.startGame();
     updateGameUI();
   }
 
   private String generateOutputJson() {
-    PlayResult result = new PlayResult(
-        gameEngine.getMatrix(),
-        gameEngine.getReward(),
-        gameEngine.getAppliedWinningCombinations(),
-        gameEngine.getAppliedBonusSymbol()
-    );
+    PlayResult result = gameEngine.getLastResult();
     try {
-      ObjectMapper mapper = new ObjectMapper();
-      mapper.enable(SerializationFeature.INDENT_OUTPUT);
-      return mapper.writeValueAsString(result);
+      return OBJECT_WRITER.writeValueAsString(result);
     } catch (JsonProcessingException e) {
       return "{ \"error\": \"Failed to generate JSON\" }";
     }
   }
 
   private void updateGameUI() {
-    String[][] matrix = gameEngine.getMatrix();
+    PlayResult result = gameEngine.getLastResult();
     for (int i = 0; i < gameEngine.getRows(); i++) {
       for (int j = 0; j < gameEngine.getColumns(); j++) {
-        buttons[i][j].setText(matrix[i][j]);
+        buttons[i][j].setText(result.getSymbol(i, j));
         buttons[i][j].setEnabled(true);
       }
     }
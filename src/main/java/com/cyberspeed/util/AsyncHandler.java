@@ -0,0 +1,131 @@
+package com.cyberspeed.util;
+
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * The {@code AsyncHandler} class publishes log records to another {@link Handler} on a daemon thread,
+ * so that the threads logging never wait for the console or a file. Records are queued in a bounded
+ * queue; when it is full the record is dropped and counted rather than blocking the caller, and the
+ * number of dropped records is reported when the handler is closed. Closing the handler, which the
+ * {@link java.util.logging.LogManager} does on shutdown, publishes the records still queued first.
+ */
+public final class AsyncHandler extends Handler {
+
+  private static final long POLL_MILLIS = 100;
+  private static final long CLOSE_TIMEOUT_MILLIS = 1000;
+
+  private final Handler delegate;
+  private final BlockingQueue<LogRecord> queue;
+  private final LongAdder dropped = new LongAdder();
+  private final Thread publisher;
+  private volatile boolean closed;
+
+  /**
+   * Constructs an {@code AsyncHandler} and starts its publishing thread. The handler takes the level,
+   * formatter and encoding of the delegate.
+   *
+   * @param delegate the handler publishing the records
+   * @param capacity the maximum number of records waiting to be published
+   * @throws IllegalArgumentException if the capacity is not positive
+   */
+  public AsyncHandler(Handler delegate, int capacity) {
+    this.delegate = Objects.requireNonNull(delegate, "Delegate handler cannot be null");
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Capacity must be greater than 0");
+    }
+    this.queue = new ArrayBlockingQueue<>(capacity);
+    setLevel(delegate.getLevel());
+    if (delegate.getFormatter() != null) {
+      setFormatter(delegate.getFormatter());
+    }
+    this.publisher = new Thread(this::publishQueued, "async-log-publisher");
+    publisher.setDaemon(true);
+    publisher.start();
+  }
+
+  /**
+   * Queues a record without blocking, or drops it if the queue is full.
+   *
+   * @param record the record to publish
+   */
+  @Override
+  public void publish(LogRecord record) {
+    if (closed || !isLoggable(record)) {
+      return;
+    }
+    // The caller is inferred from the stack of the logging thread, so it has to be resolved here
+    record.getSourceClassName();
+    if (!queue.offer(record)) {
+      dropped.increment();
+    }
+  }
+
+  private void publishQueued() {
+    while (!closed || !queue.isEmpty()) {
+      final LogRecord record;
+      try {
+        record = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+      try {
+        if (record != null) {
+          delegate.publish(record);
+        } else {
+          delegate.flush();
+        }
+      } catch (RuntimeException e) {
+        // A failing record must not stop the records behind it
+        reportError("Failed to publish a log record", e, ErrorManager.WRITE_FAILURE);
+      }
+    }
+  }
+
+  /**
+   * Retrieves the number of records dropped because the queue was full.
+   *
+   * @return the number of dropped records
+   */
+  public long getDroppedRecords() {
+    return dropped.sum();
+  }
+
+  /**
+   * Flushes the delegate. Records still queued are not waited for.
+   */
+  @Override
+  public void flush() {
+    delegate.flush();
+  }
+
+  /**
+   * Publishes the records still queued, waiting for up to a second, and closes the delegate.
+   */
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    try {
+      publisher.join(CLOSE_TIMEOUT_MILLIS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    long lost = dropped.sum();
+    if (lost > 0) {
+      delegate.publish(new LogRecord(Level.WARNING,
+          "Dropped " + lost + " log record(s) while the log queue was full"));
+    }
+    delegate.close();
+  }
+}
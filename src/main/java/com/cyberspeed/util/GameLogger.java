@@ -0,0 +1,189 @@
+package com.cyberspeed.util;
+
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The {@code GameLogger} class is the logging facade of the application, over a
+ * {@link java.util.logging.Logger} of the same name. Messages are only built once the level is known to
+ * be enabled: they are either given as a {@link Supplier}, or as a {@link String#format} pattern with up
+ * to three arguments, which are formatted behind the level guard without allocating a varargs array.
+ * Integral arguments have {@code long} overloads, which {@code int} arguments widen to, so they are only
+ * boxed behind the guard too; {@code boolean} ones are boxed to cached constants. A disabled message
+ * therefore costs a level check. Records carry the logger name as their source
+ * class, since loggers are named after their classes, so the caller does not have to be found by
+ * walking the stack.
+ */
+public final class GameLogger {
+
+  private final Logger logger;
+  private final String name;
+
+  GameLogger(Logger logger) {
+    this.logger = logger;
+    this.name = logger.getName();
+  }
+
+  /**
+   * Retrieves the underlying logger, for instance to change its level.
+   *
+   * @return the {@code java.util.logging} logger
+   */
+  public Logger getLogger() {
+    return logger;
+  }
+
+  public boolean isLoggable(Level level) {
+    return logger.isLoggable(level);
+  }
+
+  public boolean isFineEnabled() {
+    return logger.isLoggable(Level.FINE);
+  }
+
+  public boolean isInfoEnabled() {
+    return logger.isLoggable(Level.INFO);
+  }
+
+  /**
+   * Logs a message at the given level.
+   *
+   * @param level the level of the message
+   * @param message the message
+   */
+  public void log(Level level, String message) {
+    if (logger.isLoggable(level)) {
+      logger.logp(level, name, null, message);
+    }
+  }
+
+  /**
+   * Logs a message and the exception it relates to at the given level.
+   *
+   * @param level the level of the message
+   * @param message the message
+   * @param thrown the exception
+   */
+  public void log(Level level, String message, Throwable thrown) {
+    if (logger.isLoggable(level)) {
+      logger.logp(level, name, null, message, thrown);
+    }
+  }
+
+  /**
+   * Logs a message built only if the level is enabled.
+   *
+   * @param level the level of the message
+   * @param message the supplier of the message
+   */
+  public void log(Level level, Supplier<String> message) {
+    if (logger.isLoggable(level)) {
+      logger.logp(level, name, null, message.get());
+    }
+  }
+
+  private void format(Level level, String format, Object... args) {
+    logger.logp(level, name, null, String.format(format, args));
+  }
+
+  public void fine(String message) {
+    log(Level.FINE, message);
+  }
+
+  public void fine(Supplier<String> message) {
+    log(Level.FINE, message);
+  }
+
+  public void fine(String format, Object arg) {
+    if (logger.isLoggable(Level.FINE)) {
+      format(Level.FINE, format, arg);
+    }
+  }
+
+  public void fine(String format, long arg) {
+    if (logger.isLoggable(Level.FINE)) {
+      format(Level.FINE, format, arg);
+    }
+  }
+
+  public void fine(String format, Object arg1, long arg2) {
+    if (logger.isLoggable(Level.FINE)) {
+      format(Level.FINE, format, arg1, arg2);
+    }
+  }
+
+  public void fine(String format, long arg1, Object arg2) {
+    if (logger.isLoggable(Level.FINE)) {
+      format(Level.FINE, format, arg1, arg2);
+    }
+  }
+
+  public void fine(String format, Object arg1, Object arg2) {
+    if (logger.isLoggable(Level.FINE)) {
+      format(Level.FINE, format, arg1, arg2);
+    }
+  }
+
+  public void fine(String format, Object arg1, Object arg2, Object arg3) {
+    if (logger.isLoggable(Level.FINE)) {
+      format(Level.FINE, format, arg1, arg2, arg3);
+    }
+  }
+
+  public void info(String message) {
+    log(Level.INFO, message);
+  }
+
+  public void info(Supplier<String> message) {
+    log(Level.INFO, message);
+  }
+
+  public void info(String format, Object arg) {
+    if (logger.isLoggable(Level.INFO)) {
+      format(Level.INFO, format, arg);
+    }
+  }
+
+  public void info(String format, long arg) {
+    if (logger.isLoggable(Level.INFO)) {
+      format(Level.INFO, format, arg);
+    }
+  }
+
+  public void info(String format, Object arg1, long arg2) {
+    if (logger.isLoggable(Level.INFO)) {
+      format(Level.INFO, format, arg1, arg2);
+    }
+  }
+
+  public void info(String format, long arg1, Object arg2) {
+    if (logger.isLoggable(Level.INFO)) {
+      format(Level.INFO, format, arg1, arg2);
+    }
+  }
+
+  public void info(String format, Object arg1, Object arg2) {
+    if (logger.isLoggable(Level.INFO)) {
+      format(Level.INFO, format, arg1, arg2);
+    }
+  }
+
+  public void info(String format, Object arg1, Object arg2, Object arg3) {
+    if (logger.isLoggable(Level.INFO)) {
+      format(Level.INFO, format, arg1, arg2, arg3);
+    }
+  }
+
+  public void warning(String message) {
+    log(Level.WARNING, message);
+  }
+
+  public void warning(Supplier<String> message) {
+    log(Level.WARNING, message);
+  }
+
+  public void severe(String message) {
+    log(Level.SEVERE, message);
+  }
+}
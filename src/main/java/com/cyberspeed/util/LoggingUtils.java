@@ -1,35 +1,46 @@
 package com.cyberspeed.util;
 
-import java.util.logging.ConsoleHandler;
-import java.util.logging.Level;
+import java.util.logging.Handler;
 import java.util.logging.Logger;
-import java.util.logging.SimpleFormatter;
 
 /**
- * The {@code LoggingUtils} class provides utility methods for configuring and accessing
- * the global logger used throughout the application. It sets up a console handler with
- * a simple text formatter and ensures that log messages are output at the INFO level.
- * The class offers a static method to retrieve a logger instance by name, allowing
- * consistent logging practices across different components of the application.
+ * The {@code LoggingUtils} class provides utility methods for accessing the loggers used throughout
+ * the application. Loggers are returned as {@link GameLogger} facades, which only build the messages
+ * of enabled levels. Output goes through the handlers of the root logger, by default a console
+ * handler at the INFO level, and is configured the standard {@code java.util.logging} way; no handler
+ * is added here, so every record is printed once. Services logging from request threads can call
+ * {@link #useAsyncHandlers(int)} so that logging never blocks them.
  */
 public final class LoggingUtils {
 
+    /**
+     * Default number of records an asynchronous handler queues before dropping new ones.
+     */
+    public static final int DEFAULT_ASYNC_CAPACITY = 8192;
+
     private LoggingUtils() {
         throw new AssertionError("Utility class should not be instantiated");
     }
 
-    // Configure the logger for the console output with INFO level
-    static {
-        ConsoleHandler consoleHandler = new ConsoleHandler();
-        consoleHandler.setLevel(Level.INFO);  // Set log level to INFO
-        consoleHandler.setFormatter(new SimpleFormatter());  // Use simple text format
-        Logger logger = Logger.getLogger(Logger.GLOBAL_LOGGER_NAME);  // Use the global logger
-        logger.addHandler(consoleHandler);
-        logger.setLevel(Level.INFO);  // Ensure the logger is set to INFO level
+    // Provide access to the logger facade of the given name
+    public static GameLogger getLogger(String name) {
+        return new GameLogger(Logger.getLogger(name));
     }
 
-    // Provide access to the global logger
-    public static Logger getLogger(String name) {
-        return Logger.getLogger(name);
+    /**
+     * Wraps every handler of the root logger in an {@link AsyncHandler}, so that records are published
+     * on a background thread and dropped rather than blocking when the queue is full. Handlers already
+     * asynchronous are left as they are.
+     *
+     * @param capacity the maximum number of records queued per handler
+     */
+    public static synchronized void useAsyncHandlers(int capacity) {
+        Logger root = Logger.getLogger("");
+        for (Handler handler : root.getHandlers()) {
+            if (!(handler instanceof AsyncHandler)) {
+                root.removeHandler(handler);
+                root.addHandler(new AsyncHandler(handler, capacity));
+            }
+        }
     }
 }
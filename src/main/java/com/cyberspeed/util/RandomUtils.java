@@ -0,0 +1,72 @@
+package com.cyberspeed.util;
+
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGenerator.SplittableGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * The {@code RandomUtils} class provides utility methods for creating the random number generators
+ * used to play rounds. Generators are looked up by their algorithm name through
+ * {@link RandomGeneratorFactory} (for example {@code L64X128MixRandom}, {@code Xoshiro256PlusPlus} or
+ * {@code SplittableRandom}), so the generator can be chosen per deployment or per simulation without
+ * code changes. A generator created with an explicit seed produces the same stream on every run, which
+ * makes any round replayable from the algorithm name and the seed alone.
+ */
+public final class RandomUtils {
+
+  public static final String DEFAULT_ALGORITHM = "L64X128MixRandom";
+
+  private RandomUtils() {
+    throw new AssertionError("Utility class should not be instantiated");
+  }
+
+  /**
+   * Creates an unseeded generator of the given algorithm.
+   *
+   * @param algorithm the name of the random number generator algorithm
+   * @return the generator
+   * @throws IllegalArgumentException if the algorithm is not available
+   */
+  public static RandomGenerator create(String algorithm) {
+    return factoryOf(algorithm).create();
+  }
+
+  /**
+   * Creates a generator of the given algorithm seeded with the given seed.
+   *
+   * @param algorithm the name of the random number generator algorithm
+   * @param seed the seed of the generator
+   * @return the generator
+   * @throws IllegalArgumentException if the algorithm is not available
+   */
+  public static RandomGenerator create(String algorithm, long seed) {
+    return factoryOf(algorithm).create(seed);
+  }
+
+  /**
+   * Creates a splittable generator of the given algorithm seeded with the given seed.
+   *
+   * @param algorithm the name of a splittable random number generator algorithm
+   * @param seed the seed of the generator
+   * @return the generator
+   * @throws IllegalArgumentException if the algorithm is not available or not splittable
+   */
+  public static SplittableGenerator createSplittable(String algorithm, long seed) {
+    RandomGeneratorFactory<RandomGenerator> factory = factoryOf(algorithm);
+    if (!factory.isSplittable()) {
+      throw new IllegalArgumentException("Random generator algorithm is not splittable: " + algorithm);
+    }
+    return (SplittableGenerator) factory.create(seed);
+  }
+
+  private static RandomGeneratorFactory<RandomGenerator> factoryOf(String algorithm) {
+    if (algorithm == null || algorithm.isBlank()) {
+      throw new IllegalArgumentException("Random generator algorithm cannot be null or empty");
+    }
+    try {
+      return RandomGeneratorFactory.of(algorithm);
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Unknown random generator algorithm: " + algorithm, e);
+    }
+  }
+}
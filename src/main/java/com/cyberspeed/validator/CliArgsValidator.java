@@ -2,9 +2,11 @@ package com.cyberspeed.validator;
 
 import com.cyberspeed.exception.CliArgumentException;
 import com.cyberspeed.exception.InvalidBettingAmountException;
+import com.cyberspeed.util.GameLogger;
 import com.cyberspeed.util.LoggingUtils;
-import java.util.Arrays;
-import java.util.logging.Logger;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * The {@code CliArgsValidator} class provides utility methods for validating command-line arguments.
@@ -15,8 +17,8 @@ import java.util.logging.Logger;
  */
 public class CliArgsValidator {
 
-  private static final Logger LOGGER = LoggingUtils.getLogger(CliArgsValidator.class.getName());
-  private static final String[] ALLOWED_KEYS = {"config", "betting-amount"};
+  private static final GameLogger LOGGER = LoggingUtils.getLogger(CliArgsValidator.class.getName());
+  public static final List<String> DEFAULT_ALLOWED_KEYS = List.of("config", "betting-amount");
 
   public static void validateFormat(String arg, int index) {
     if (!arg.startsWith("--")) {
@@ -24,8 +26,7 @@ public class CliArgsValidator {
       LOGGER.warning(message);
       throw new CliArgumentException(message);
     }
-    String message = String.format("Validated format for argument: '%s' at position %d", arg, index);
-    LOGGER.info(message);
+    LOGGER.fine("Validated format for argument: '%s' at position %d", arg, index);
   }
 
   public static void validateKeyPartNotEmpty(String keyPart, int index) {
@@ -34,8 +35,7 @@ public class CliArgsValidator {
       LOGGER.warning(message);
       throw new CliArgumentException(message);
     }
-    String message = String.format("Validated non-empty key part at position %d", index);
-    LOGGER.info(message);
+    LOGGER.fine("Validated non-empty key part at position %d", index);
   }
 
   public static void validateKeyNotEmpty(String key, String arg, int index) {
@@ -44,18 +44,21 @@ public class CliArgsValidator {
       LOGGER.warning(message);
       throw new CliArgumentException(message);
     }
-    String message = String.format("Validated non-empty key for argument '%s' at position %d", arg, index);
-    LOGGER.info(message);
+    LOGGER.fine("Validated non-empty key for argument '%s' at position %d", arg, index);
   }
 
   public static void validateKeyAllowed(String key, int index) {
-    if (!Arrays.asList(ALLOWED_KEYS).contains(key)) {
-      String message = String.format("Invalid key '%s' at position %d. Allowed keys: --config, --betting-amount", key, index);
+    validateKeyAllowed(key, DEFAULT_ALLOWED_KEYS, index);
+  }
+
+  public static void validateKeyAllowed(String key, Collection<String> allowedKeys, int index) {
+    if (!allowedKeys.contains(key)) {
+      String allowed = allowedKeys.stream().map(k -> "--" + k).collect(Collectors.joining(", "));
+      String message = String.format("Invalid key '%s' at position %d. Allowed keys: %s", key, index, allowed);
       LOGGER.warning(message);
       throw new CliArgumentException(message);
     }
-    String message = String.format("Validated allowed key '%s' at position %d", key, index);
-    LOGGER.info(message);
+    LOGGER.fine("Validated allowed key '%s' at position %d", key, index);
   }
 
   public static String resolveValue(String[] args, int currentIndex, String[] keyValueParts) {
@@ -65,8 +68,7 @@ public class CliArgsValidator {
     } else if (currentIndex + 1 < args.length && !args[currentIndex + 1].startsWith("--")) {
       value = args[currentIndex + 1];
     }
-    String message = String.format("Resolved value: '%s' for argument at index %d", value, currentIndex);
-    LOGGER.info(message);
+    LOGGER.fine("Resolved value: '%s' for argument at index %d", value, currentIndex);
     return value;
   }
 
@@ -76,7 +78,6 @@ public class CliArgsValidator {
       LOGGER.warning(message);
         throw new InvalidBettingAmountException("Betting amount must be a non-negative integer");
     }
-    String message = String.format("Validated betting amount: %d", bettingAmount);
-    LOGGER.info(message);
+    LOGGER.fine("Validated betting amount: %d", bettingAmount);
   }
 }
\ No newline at end of file
@@ -0,0 +1,127 @@
+package com.cyberspeed.test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.cyberspeed.config.ConfigReloader;
+import com.cyberspeed.engine.ScratchGameEngine;
+import com.cyberspeed.util.RandomUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ConfigReloaderTest {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+  private static final String CONFIG_PATH = "json/valid/config.json";
+  private static final int BET_AMOUNT = 100;
+  private static final long WATCH_TIMEOUT_MILLIS = 10_000;
+  private static final long SEED = 42L;
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  @DisplayName("Should swap in a valid configuration and keep the current engine for an invalid one")
+  void givenChangedConfiguration_whenReloading_thenOnlyValidConfigurationsAreSwappedIn() throws IOException {
+    // Given
+    final Path path = tempDir.resolve("config.json");
+    writeConfig(path, 3);
+    final ConfigReloader reloader = new ConfigReloader(path.toString(), BET_AMOUNT);
+    final ScratchGameEngine initial = reloader.get();
+
+    // When & Then
+    writeConfig(path, 1);
+    assertAll(
+        () -> assertFalse(reloader.reload(), "An invalid grid should be rejected"),
+        () -> assertSame(initial, reloader.get(), "The current engine should be kept")
+    );
+
+    Files.writeString(path, "{ \"columns\": ");
+    assertAll(
+        () -> assertFalse(reloader.reload(), "Malformed JSON should be rejected"),
+        () -> assertSame(initial, reloader.get(), "The current engine should be kept")
+    );
+
+    writeConfig(path, 5);
+    assertAll(
+        () -> assertTrue(reloader.reload(), "A valid configuration should be swapped in"),
+        () -> assertNotSame(initial, reloader.get()),
+        () -> assertEquals(5, reloader.get().getRows()),
+        () -> assertEquals(1, reloader.getReloads()),
+        () -> assertEquals(3, initial.play(new SplittableRandom(7L), BET_AMOUNT).getMatrix().length,
+            "Rounds on the previous engine should keep its configuration")
+    );
+  }
+
+  @Test
+  @DisplayName("Should draw the rounds of reloaded engines from the given random generator factory")
+  void givenRandomFactory_whenReloading_thenReloadedEngineDrawsFromIt() throws IOException {
+    // Given
+    final Path path = tempDir.resolve("config.json");
+    writeConfig(path, 3);
+    final AtomicInteger created = new AtomicInteger();
+    final ConfigReloader reloader = new ConfigReloader(path.toString(), BET_AMOUNT, null, () -> {
+      created.incrementAndGet();
+      return RandomUtils.create("Xoshiro256PlusPlus", SEED);
+    });
+
+    // When
+    writeConfig(path, 4);
+    reloader.reload();
+    final ScratchGameEngine reloaded = reloader.get();
+    reloaded.startGame();
+
+    // Then
+    final ScratchGameEngine expected = new ScratchGameEngine(reloaded.getModel(), BET_AMOUNT,
+        RandomUtils.create("Xoshiro256PlusPlus", SEED));
+    expected.startGame();
+    assertAll(
+        () -> assertEquals(2, created.get(), "Every load should create a generator"),
+        () -> assertEquals(expected.getLastResult(), reloaded.getLastResult())
+    );
+  }
+
+  @Test
+  @DisplayName("Should reload the engine when the watched configuration file changes")
+  void givenWatchedConfiguration_whenFileChanges_thenEngineIsReloaded() throws Exception {
+    // Given
+    final Path path = tempDir.resolve("config.json");
+    writeConfig(path, 3);
+
+    try (ConfigReloader reloader = new ConfigReloader(path.toString(), BET_AMOUNT)) {
+      reloader.start();
+
+      // When
+      writeConfig(path, 4);
+
+      // Then
+      final long deadline = System.currentTimeMillis() + WATCH_TIMEOUT_MILLIS;
+      while (reloader.get().getRows() != 4 && System.currentTimeMillis() < deadline) {
+        Thread.sleep(20);
+      }
+      assertEquals(4, reloader.get().getRows(), "The watcher should swap in the changed configuration");
+    }
+  }
+
+  private static void writeConfig(Path path, int gridSize) throws IOException {
+    try (InputStream in = ConfigReloaderTest.class.getClassLoader().getResourceAsStream(CONFIG_PATH)) {
+      final ObjectNode config = (ObjectNode) OBJECT_MAPPER.readTree(in);
+      config.put("rows", gridSize);
+      config.put("columns", gridSize);
+      OBJECT_MAPPER.writeValue(path.toFile(), config);
+    }
+  }
+}
@@ -0,0 +1,153 @@
+package com.cyberspeed.test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import com.cyberspeed.config.ConfigParser;
+import com.cyberspeed.engine.ExactRtpCalculator;
+import com.cyberspeed.engine.RewardDistribution;
+import com.cyberspeed.model.BonusSymbolProbability;
+import com.cyberspeed.model.ScratchGameConfiguration;
+import com.cyberspeed.model.SymbolDefinition;
+import com.cyberspeed.simulation.SimulationRunner;
+import com.cyberspeed.simulation.SimulationStatistics;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ExactRtpCalculatorTest {
+
+  private static final String CONFIG_PATH = "json/valid/config.json";
+  private static final String TEST_A_MULTIPLY_REWARD_CONFIG_TEN_X_PATH = "json/deterministic/test-symbol_A_deterministic-win-with-multiply_reward_10x.json";
+  private static final int BET_AMOUNT = 100;
+  private static final int SIMULATED_ROUNDS = 200_000;
+  private static final long SEED = 42L;
+  private static final int LARGE_GRID = 4;
+  private static final Duration LARGE_GRID_BOUND = Duration.ofSeconds(20);
+
+  @Test
+  @DisplayName("Should compute a single certain reward for a deterministic configuration")
+  void givenDeterministicConfig_whenCalculating_thenRewardIsCertain() {
+    // Given
+    final ScratchGameConfiguration config = new ConfigParser(TEST_A_MULTIPLY_REWARD_CONFIG_TEN_X_PATH).load();
+    final int expectedReward = BET_AMOUNT * 5 * 10 * 2 * 2 * 10;
+
+    // When
+    final RewardDistribution distribution = new ExactRtpCalculator(config, BET_AMOUNT).calculate();
+
+    // Then
+    assertAll(
+        () -> assertEquals(1, distribution.getRewardProbabilities().size(), "Only one reward should be possible"),
+        () -> assertEquals(1.0, distribution.getProbability(expectedReward), 1e-12),
+        () -> assertEquals(expectedReward / (double) BET_AMOUNT, distribution.getReturnToPlayer(), 1e-9),
+        () -> assertEquals(1.0, distribution.getHitFrequency(), 1e-12),
+        () -> assertEquals(1.0, distribution.getCombinationProbability("same_symbol_8_times"), 1e-12),
+        () -> assertEquals(0.0, distribution.getCombinationProbability("same_symbol_9_times"), 1e-12)
+    );
+  }
+
+  @Test
+  @DisplayName("Should weight every bonus symbol by its probability")
+  void givenMixedBonusSymbols_whenCalculating_thenExpectedRewardIsExact() {
+    // Given
+    final ScratchGameConfiguration config = new ConfigParser(TEST_A_MULTIPLY_REWARD_CONFIG_TEN_X_PATH).load();
+    config.getSymbols().put("+500", bonusSymbol("extra_bonus", 500));
+    config.getSymbols().put("MISS", bonusSymbol("miss", null));
+    final Map<String, Integer> bonusWeights = new LinkedHashMap<>();
+    bonusWeights.put("10x", 1);
+    bonusWeights.put("+500", 1);
+    bonusWeights.put("MISS", 2);
+    config.getProbabilities().setBonusSymbols(new BonusSymbolProbability(bonusWeights));
+    final int baseReward = BET_AMOUNT * 5 * 10 * 2 * 2;
+
+    // When
+    final RewardDistribution distribution = new ExactRtpCalculator(config, BET_AMOUNT).calculate();
+
+    // Then
+    assertAll(
+        () -> assertEquals(0.25, distribution.getProbability(baseReward * 10), 1e-12),
+        () -> assertEquals(0.25, distribution.getProbability(baseReward + 500), 1e-12),
+        () -> assertEquals(0.5, distribution.getProbability(baseReward), 1e-12),
+        () -> assertEquals((baseReward * 10 + baseReward + 500 + 2.0 * baseReward) / 4,
+            distribution.getExpectedReward(), 1e-6)
+    );
+  }
+
+  @Test
+  @DisplayName("Should agree with a Monte Carlo simulation of the same configuration")
+  void givenConfig_whenCalculatingAndSimulating_thenFiguresAgree() {
+    // Given
+    final ScratchGameConfiguration config = new ConfigParser(CONFIG_PATH).load();
+
+    // When
+    final RewardDistribution distribution = new ExactRtpCalculator(config, BET_AMOUNT).calculate(2);
+    final SimulationStatistics statistics = new SimulationRunner(config, BET_AMOUNT).run(SIMULATED_ROUNDS, 1, SEED);
+
+    // Then
+    assertAll(
+        () -> assertEquals(1.0, distribution.getTotalProbability(), 1e-9, "Probabilities should sum to 1"),
+        () -> assertEquals(distribution.getHitFrequency(), statistics.getHitFrequency(), 0.005),
+        () -> assertEquals(distribution.getReturnToPlayer(), statistics.getReturnToPlayer(),
+            distribution.getReturnToPlayer() * 0.05),
+        () -> assertEquals(distribution.getCombinationProbability("same_symbol_3_times"),
+            statistics.getCombinationTriggers("same_symbol_3_times") / (double) SIMULATED_ROUNDS, 0.005)
+    );
+  }
+
+  @Test
+  @DisplayName("Should compute a 4x4 grid within a bounded time and agree with a Monte Carlo simulation")
+  void givenLargerGrid_whenCalculatingAndSimulating_thenFiguresAgreeInBoundedTime() {
+    // Given
+    final ScratchGameConfiguration config = new ConfigParser(CONFIG_PATH).load();
+    config.setRows(LARGE_GRID);
+    config.setColumns(LARGE_GRID);
+
+    // When
+    final RewardDistribution distribution = assertTimeoutPreemptively(LARGE_GRID_BOUND,
+        () -> new ExactRtpCalculator(config, BET_AMOUNT).calculate(2));
+    final SimulationStatistics statistics = new SimulationRunner(config, BET_AMOUNT).run(SIMULATED_ROUNDS, 1, SEED);
+
+    // Then
+    assertAll(
+        () -> assertEquals(1.0, distribution.getTotalProbability(), 1e-9, "Probabilities should sum to 1"),
+        () -> assertEquals(distribution.getHitFrequency(), statistics.getHitFrequency(), 0.005),
+        () -> assertEquals(distribution.getReturnToPlayer(), statistics.getReturnToPlayer(),
+            distribution.getReturnToPlayer() * 0.05),
+        () -> assertEquals(distribution.getCombinationProbability("same_symbol_5_times"),
+            statistics.getCombinationTriggers("same_symbol_5_times") / (double) SIMULATED_ROUNDS, 0.005)
+    );
+  }
+
+  @Test
+  @DisplayName("Should compute the same distribution on one or several threads")
+  void givenConfig_whenCalculatingInParallel_thenDistributionIsIdentical() {
+    // Given
+    final ScratchGameConfiguration config = new ConfigParser(CONFIG_PATH).load();
+    final ExactRtpCalculator calculator = new ExactRtpCalculator(config, BET_AMOUNT);
+
+    // When & Then
+    assertEquals(calculator.calculate(1).getRewardProbabilities(), calculator.calculate(4).getRewardProbabilities());
+  }
+
+  @Test
+  @DisplayName("Should reject a non-positive parallelism")
+  void givenZeroParallelism_whenCalculating_thenIllegalArgumentExceptionIsThrown() {
+    // Given
+    final ExactRtpCalculator calculator = new ExactRtpCalculator(new ConfigParser(CONFIG_PATH).load(), BET_AMOUNT);
+
+    // When & Then
+    assertThrows(IllegalArgumentException.class, () -> calculator.calculate(0));
+  }
+
+  private static SymbolDefinition bonusSymbol(String impact, Integer extra) {
+    final SymbolDefinition definition = new SymbolDefinition();
+    definition.setType("bonus");
+    definition.setImpact(impact);
+    definition.setExtra(extra);
+    return definition;
+  }
+}
@@ -0,0 +1,66 @@
+package com.cyberspeed.test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.cyberspeed.config.ConfigParser;
+import com.cyberspeed.engine.GameModel;
+import com.cyberspeed.engine.ScratchGameEngine;
+import com.cyberspeed.engine.SymbolImpact;
+import com.cyberspeed.exception.InvalidGameConfigurationException;
+import com.cyberspeed.model.PlayResult;
+import com.cyberspeed.model.ScratchGameConfiguration;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class GameModelTest {
+
+  private static final String CONFIG_PATH = "json/valid/config.json";
+  private static final int BET_AMOUNT = 100;
+
+  @Test
+  @DisplayName("Should keep playing the compiled configuration when the configuration is changed afterwards")
+  void givenCompiledModel_whenConfigurationChanges_thenEngineIsUnaffected() {
+    // Given
+    final ScratchGameConfiguration config = new ConfigParser(CONFIG_PATH).load();
+    final GameModel model = GameModel.compile(config);
+    final PlayResult expected = new ScratchGameEngine(model, BET_AMOUNT, new SplittableRandom())
+        .play(new SplittableRandom(7L), BET_AMOUNT);
+
+    // When
+    config.setRows(5);
+    config.getSymbols().get("A").setRewardMultiplier(1000);
+    config.getWinCombinations().clear();
+
+    // Then
+    final ScratchGameEngine engine = new ScratchGameEngine(model, BET_AMOUNT, new SplittableRandom());
+    assertAll(
+        () -> assertEquals(3, model.getRows()),
+        () -> assertEquals(11, model.getCombinationNames().size()),
+        () -> assertEquals(expected, engine.play(new SplittableRandom(7L), BET_AMOUNT))
+    );
+  }
+
+  @Test
+  @DisplayName("Should resolve impacts to enums and reject unknown win conditions")
+  void givenConfiguration_whenCompiling_thenStringFieldsAreResolved() {
+    // Given
+    final ScratchGameConfiguration config = new ConfigParser(CONFIG_PATH).load();
+    final GameModel model = GameModel.compile(config);
+
+    // When & Then
+    assertAll(
+        () -> assertEquals(SymbolImpact.MULTIPLY_REWARD, model.getSymbolTable().getImpact(model.getSymbolTable().idOf("10x"))),
+        () -> assertEquals(SymbolImpact.EXTRA_BONUS, model.getSymbolTable().getImpact(model.getSymbolTable().idOf("+500"))),
+        () -> assertEquals(SymbolImpact.MISS, model.getSymbolTable().getImpact(model.getSymbolTable().idOf("MISS"))),
+        () -> assertEquals(SymbolImpact.NONE, model.getSymbolTable().getImpact(model.getSymbolTable().idOf("A"))),
+        () -> assertEquals(List.of("10x", "5x", "+1000", "+500", "MISS"), model.getBonusSymbols())
+    );
+
+    config.getWinCombinations().get("same_symbol_3_times").setWhen("same_symbol");
+    assertThrows(InvalidGameConfigurationException.class, () -> GameModel.compile(config));
+  }
+}
@@ -0,0 +1,149 @@
+package com.cyberspeed.test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.cyberspeed.util.AsyncHandler;
+import com.cyberspeed.util.GameLogger;
+import com.cyberspeed.util.LoggingUtils;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LoggingTest {
+
+  private static final int CAPACITY = 4;
+
+  @Test
+  @DisplayName("Should neither build nor publish messages below the level of the logger")
+  void givenDisabledLevel_whenLogging_thenMessageIsNotBuilt() {
+    // Given
+    final GameLogger logger = LoggingUtils.getLogger(LoggingTest.class.getName() + ".disabled");
+    final RecordingHandler handler = new RecordingHandler();
+    final Logger julLogger = logger.getLogger();
+    julLogger.setUseParentHandlers(false);
+    julLogger.addHandler(handler);
+    julLogger.setLevel(Level.WARNING);
+    final AtomicInteger built = new AtomicInteger();
+    final Object argument = new Object() {
+      @Override
+      public String toString() {
+        built.incrementAndGet();
+        return "argument";
+      }
+    };
+
+    // When
+    logger.info(() -> "supplied " + built.incrementAndGet());
+    logger.info("formatted %s", argument);
+    logger.fine("formatted %s and %s", argument, argument);
+    logger.warning(() -> "published " + argument);
+
+    // Then
+    assertAll(
+        () -> assertFalse(logger.isInfoEnabled()),
+        () -> assertEquals(1, built.get(), "Only the enabled message should be built"),
+        () -> assertEquals(List.of("published argument"), handler.messages()),
+        () -> assertEquals(LoggingTest.class.getName() + ".disabled", handler.records.get(0).getSourceClassName())
+    );
+  }
+
+  @Test
+  @DisplayName("Should publish records in order and drain the queue when closed")
+  void givenAsyncHandler_whenClosed_thenQueuedRecordsArePublishedInOrder() {
+    // Given
+    final RecordingHandler delegate = new RecordingHandler();
+    final AsyncHandler handler = new AsyncHandler(delegate, 1024);
+
+    // When
+    for (int i = 0; i < 100; i++) {
+      handler.publish(new LogRecord(Level.INFO, "record " + i));
+    }
+    handler.close();
+
+    // Then
+    final List<String> messages = delegate.messages();
+    assertAll(
+        () -> assertEquals(100, messages.size()),
+        () -> assertEquals("record 0", messages.get(0)),
+        () -> assertEquals("record 99", messages.get(99)),
+        () -> assertEquals(0, handler.getDroppedRecords()),
+        () -> assertTrue(delegate.closed)
+    );
+  }
+
+  @Test
+  @DisplayName("Should drop records rather than block when the queue is full")
+  void givenBlockedDelegate_whenQueueIsFull_thenRecordsAreDropped() throws Exception {
+    // Given
+    final CountDownLatch publishing = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    final RecordingHandler delegate = new RecordingHandler() {
+      @Override
+      public void publish(LogRecord record) {
+        publishing.countDown();
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        super.publish(record);
+      }
+    };
+    final AsyncHandler handler = new AsyncHandler(delegate, CAPACITY);
+    handler.publish(new LogRecord(Level.INFO, "blocking"));
+    assertTrue(publishing.await(5, TimeUnit.SECONDS));
+
+    // When
+    final long start = System.nanoTime();
+    for (int i = 0; i < CAPACITY + 10; i++) {
+      handler.publish(new LogRecord(Level.INFO, "record " + i));
+    }
+    final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    final long dropped = handler.getDroppedRecords();
+    release.countDown();
+    handler.close();
+
+    // Then
+    assertAll(
+        () -> assertEquals(10, dropped),
+        () -> assertTrue(elapsedMillis < 1000, "Publishing should not wait for the delegate"),
+        () -> assertEquals(1 + CAPACITY + 1, delegate.messages().size(),
+            "The queued records and the dropped count should be published")
+    );
+  }
+
+  private static class RecordingHandler extends Handler {
+
+    final List<LogRecord> records = new CopyOnWriteArrayList<>();
+    volatile boolean closed;
+
+    @Override
+    public void publish(LogRecord record) {
+      records.add(record);
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void close() {
+      closed = true;
+    }
+
+    List<String> messages() {
+      return records.stream().map(LogRecord::getMessage).toList();
+    }
+  }
+}
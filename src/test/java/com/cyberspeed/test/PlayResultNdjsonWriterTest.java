@@ -0,0 +1,105 @@
+package com.cyberspeed.test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.cyberspeed.config.ConfigParser;
+import com.cyberspeed.engine.ScratchGameEngine;
+import com.cyberspeed.model.PlayResult;
+import com.cyberspeed.model.ScratchGameConfiguration;
+import com.cyberspeed.output.PlayResultNdjsonWriter;
+import com.cyberspeed.simulation.SimulationRunner;
+import com.cyberspeed.simulation.SimulationStatistics;
+import com.cyberspeed.util.RandomUtils;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PlayResultNdjsonWriterTest {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+  private static final String CONFIG_PATH = "json/valid/config.json";
+  private static final int BET_AMOUNT = 100;
+  private static final int ROUNDS = 1_000;
+  private static final long SEED = 42L;
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  @DisplayName("Should write one compact JSON result per line, gzip-compressed for .gz files")
+  void givenResults_whenWritingGzip_thenEveryLineIsAResult() throws IOException {
+    // Given
+    final ScratchGameConfiguration config = new ConfigParser(CONFIG_PATH).load();
+    final ScratchGameEngine engine = new ScratchGameEngine(config, BET_AMOUNT);
+    final SplittableRandom rand = new SplittableRandom(SEED);
+    final List<PlayResult> results = new ArrayList<>();
+    final Path path = tempDir.resolve("rounds.ndjson.gz");
+
+    // When
+    try (PlayResultNdjsonWriter writer = PlayResultNdjsonWriter.open(path)) {
+      for (int i = 0; i < ROUNDS; i++) {
+        final PlayResult result = engine.play(rand, BET_AMOUNT);
+        results.add(result);
+        writer.write(result);
+      }
+    }
+
+    // Then
+    final List<String> lines = readLines(path, true);
+    assertEquals(ROUNDS, lines.size(), "Should write one line per result");
+    for (int i = 0; i < ROUNDS; i++) {
+      final JsonNode expected = OBJECT_MAPPER.valueToTree(results.get(i));
+      assertEquals(expected, OBJECT_MAPPER.readTree(lines.get(i)));
+    }
+  }
+
+  @Test
+  @DisplayName("Should write every simulated round without changing the statistics")
+  void givenOutput_whenSimulating_thenEveryRoundIsWrittenAndStatisticsAreUnchanged() throws IOException {
+    // Given
+    final ScratchGameConfiguration config = new ConfigParser(CONFIG_PATH).load();
+    final SimulationRunner runner = new SimulationRunner(config, BET_AMOUNT);
+    final Path path = tempDir.resolve("rounds.ndjson");
+
+    // When
+    final SimulationStatistics expected = runner.run(ROUNDS, 2, SEED);
+    final SimulationStatistics statistics;
+    try (PlayResultNdjsonWriter writer = PlayResultNdjsonWriter.open(path)) {
+      statistics = runner.run(ROUNDS, 2, SEED, RandomUtils.DEFAULT_ALGORITHM, writer);
+    }
+
+    // Then
+    final List<String> lines = readLines(path, false);
+    long writtenReward = 0;
+    for (String line : lines) {
+      writtenReward += OBJECT_MAPPER.readTree(line).get("reward").asLong();
+    }
+    final long totalReward = writtenReward;
+    assertAll(
+        () -> assertEquals(ROUNDS, lines.size(), "Should write every round"),
+        () -> assertEquals(statistics.getTotalReward(), totalReward),
+        () -> assertEquals(expected.toReport(), statistics.toReport())
+    );
+  }
+
+  private static List<String> readLines(Path path, boolean gzip) throws IOException {
+    try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+        gzip ? new GZIPInputStream(Files.newInputStream(path)) : Files.newInputStream(path),
+        StandardCharsets.UTF_8))) {
+      return reader.lines().toList();
+    }
+  }
+}
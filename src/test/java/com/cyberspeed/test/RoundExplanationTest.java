@@ -0,0 +1,85 @@
+package com.cyberspeed.test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.cyberspeed.config.ConfigParser;
+import com.cyberspeed.engine.ScratchGameEngine;
+import com.cyberspeed.model.PlayResult;
+import com.cyberspeed.model.RoundExplanation;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RoundExplanationTest {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+  private static final String CONFIG_PATH = "json/valid/config.json";
+  private static final String DETERMINISTIC_CONFIG_PATH =
+      "json/deterministic/test-symbol_A_deterministic-win-with-multiply_reward_10x.json";
+  private static final int BET_AMOUNT = 100;
+
+  @Test
+  @DisplayName("Should explain every step of the reward calculation when requested")
+  void givenDeterministicWin_whenPlayingWithExplanation_thenEveryStepIsExplained() throws Exception {
+    // Given
+    final ScratchGameEngine engine = new ScratchGameEngine(new ConfigParser(DETERMINISTIC_CONFIG_PATH).load(), BET_AMOUNT);
+
+    // When
+    final PlayResult result = engine.play(42L, BET_AMOUNT, true);
+
+    // Then
+    final RoundExplanation explanation = result.getExplanation();
+    final JsonNode json = OBJECT_MAPPER.readTree(OBJECT_MAPPER.writeValueAsString(result)).get("explanation");
+    assertAll(
+        () -> assertEquals(Map.of("A", 8), explanation.getSymbolCounts(), "The bonus symbol replaces one A"),
+        () -> assertEquals(Map.of(
+            "same_symbols", "same_symbol_8_times",
+            "horizontally_linear_symbols", "same_symbols_horizontally",
+            "vertically_linear_symbols", "same_symbols_vertically"), explanation.getGroupBestCombinations()),
+        () -> assertEquals(Map.of("A", 10.0 * 2 * 2), explanation.getSymbolMultipliers()),
+        () -> assertEquals(Map.of("A", 100.0 * 5 * 40), explanation.getSymbolRewards()),
+        () -> assertEquals(20_000, explanation.getBaseReward(), 1e-9),
+        () -> assertEquals("multiply_reward", explanation.getBonusImpact()),
+        () -> assertTrue(explanation.isBonusApplied()),
+        () -> assertEquals(200_000, result.getReward()),
+        () -> assertEquals(8, json.get("symbol_counts").get("A").asInt()),
+        () -> assertEquals(20_000, json.get("base_reward").asDouble(), 1e-9),
+        () -> assertEquals("multiply_reward", json.get("bonus_impact").asText())
+    );
+  }
+
+  @Test
+  @DisplayName("Should play the same round with or without an explanation and leave it out by default")
+  void givenSameSeed_whenPlayingWithAndWithoutExplanation_thenRoundIsTheSame() throws Exception {
+    // Given
+    final ScratchGameEngine engine = new ScratchGameEngine(new ConfigParser(CONFIG_PATH).load(), BET_AMOUNT);
+
+    for (long seed = 0; seed < 200; seed++) {
+      // When
+      final PlayResult plain = engine.play(seed, BET_AMOUNT);
+      final PlayResult explained = engine.play(seed, BET_AMOUNT, true);
+
+      // Then
+      final RoundExplanation explanation = explained.getExplanation();
+      final double symbolRewards = explanation.getSymbolRewards().values().stream().mapToDouble(Double::doubleValue).sum();
+      assertAll(
+          () -> assertNull(plain.getExplanation()),
+          () -> assertFalse(OBJECT_MAPPER.writeValueAsString(plain).contains("explanation")),
+          () -> assertArrayEquals(plain.getMatrix(), explained.getMatrix()),
+          () -> assertEquals(plain.getReward(), explained.getReward()),
+          () -> assertEquals(plain.getAppliedWinningCombinations(), explained.getAppliedWinningCombinations()),
+          () -> assertEquals(plain.getAppliedWinningCombinations().keySet(), explanation.getSymbolRewards().keySet()),
+          () -> assertEquals(explanation.getBaseReward(), symbolRewards, 1e-6),
+          () -> assertTrue(explanation.isBonusApplied() || plain.getReward() == Math.round(explanation.getBaseReward()),
+              "A bonus symbol that is not applied should leave the base reward unchanged")
+      );
+    }
+  }
+}
@@ -0,0 +1,115 @@
+package com.cyberspeed.test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.cyberspeed.config.ConfigParser;
+import com.cyberspeed.engine.GameModel;
+import com.cyberspeed.engine.RoundBatch;
+import com.cyberspeed.engine.ScratchGameEngine;
+import com.cyberspeed.metrics.LatencyHistogram;
+import com.cyberspeed.metrics.RoundMetrics;
+import com.cyberspeed.metrics.RoundMetrics.Stage;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.SplittableRandom;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RoundMetricsTest {
+
+  private static final String DETERMINISTIC_CONFIG_PATH =
+      "json/deterministic/test-symbol_A_deterministic-win-with-multiply_reward_10x.json";
+  private static final int BET_AMOUNT = 100;
+
+  @Test
+  @DisplayName("Should report percentiles within the relative error of the histogram buckets")
+  void givenRecordedDurations_whenReadingPercentiles_thenValuesAreWithinBucketError() {
+    // Given
+    final LatencyHistogram histogram = new LatencyHistogram();
+    for (long nanos = 1; nanos <= 100_000; nanos++) {
+      histogram.record(nanos);
+    }
+
+    // When
+    final long[] values = histogram.getValuesAtPercentiles(50, 99, 100);
+
+    // Then
+    assertAll(
+        () -> assertEquals(100_000, histogram.getCount()),
+        () -> assertEquals(100_000, histogram.getMax()),
+        () -> assertEquals(50_000.5, histogram.getMean(), 1e-9),
+        () -> assertEquals(50_000, values[0], 50_000 / 32.0),
+        () -> assertEquals(99_000, values[1], 99_000 / 32.0),
+        () -> assertEquals(100_000, values[2], "The highest percentile should be capped at the maximum"),
+        () -> assertEquals(0, new LatencyHistogram().getValueAtPercentile(99))
+    );
+  }
+
+  @Test
+  @DisplayName("Should count rounds, wins and bonus impacts and time every engine stage")
+  void givenInstrumentedEngine_whenPlaying_thenRoundsAreRecorded() {
+    // Given
+    final RoundMetrics metrics = new RoundMetrics();
+    final GameModel model = GameModel.compile(new ConfigParser(DETERMINISTIC_CONFIG_PATH).load());
+    final ScratchGameEngine engine = new ScratchGameEngine(model, BET_AMOUNT, new SplittableRandom(1L), metrics);
+    final SplittableRandom rand = new SplittableRandom(42L);
+
+    // When
+    for (int i = 0; i < 100; i++) {
+      engine.play(rand, BET_AMOUNT);
+    }
+    final RoundBatch batch = engine.newBatch(50, false);
+    engine.playBatch(rand, BET_AMOUNT, batch, 50);
+
+    // Then
+    final String text = metrics.toPrometheusText();
+    assertAll(
+        () -> assertEquals(150, metrics.getRounds()),
+        () -> assertEquals(150, metrics.getWinningRounds(), "Every round of the configuration wins"),
+        () -> assertEquals(150, metrics.getCombinationWins().get("same_symbol_8_times"),
+            "The bonus symbol leaves eight A symbols on the board"),
+        () -> assertEquals(0, metrics.getCombinationWins().get("same_symbol_9_times")),
+        () -> assertEquals(150, metrics.getBonusImpacts().get("multiply_reward")),
+        () -> assertEquals(150, metrics.getStage(Stage.MATRIX_GENERATION).getCount()),
+        () -> assertEquals(150, metrics.getStage(Stage.EVALUATION).getCount()),
+        () -> assertEquals(100, metrics.getStage(Stage.RESULT).getCount(), "Batches do not build results"),
+        () -> assertTrue(text.contains("scratch_game_rounds_total 150\n"), text),
+        () -> assertTrue(text.contains("scratch_game_combination_wins_total{combination=\"same_symbol_8_times\"} 150\n"),
+            text),
+        () -> assertTrue(text.contains("# TYPE scratch_game_stage_duration_seconds summary\n"), text),
+        () -> assertTrue(text.contains("scratch_game_stage_duration_seconds_count{stage=\"evaluation\"} 150\n"), text)
+    );
+  }
+
+  @Test
+  @DisplayName("Should expose the metrics as an MXBean")
+  void givenRegisteredMetrics_whenReadingOverJmx_thenCountersAreExposed() throws Exception {
+    // Given
+    final RoundMetrics metrics = new RoundMetrics();
+    final GameModel model = GameModel.compile(new ConfigParser(DETERMINISTIC_CONFIG_PATH).load());
+    final ScratchGameEngine engine = new ScratchGameEngine(model, BET_AMOUNT, new SplittableRandom(1L), metrics);
+    final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    final ObjectName name = new ObjectName(RoundMetrics.OBJECT_NAME);
+
+    // When
+    engine.play(new SplittableRandom(42L), BET_AMOUNT);
+    assertTrue(metrics.registerMBean());
+
+    // Then
+    try {
+      assertAll(
+          () -> assertEquals(1L, server.getAttribute(name, "Rounds")),
+          () -> assertEquals(1L, server.getAttribute(name, "WinningRounds")),
+          () -> assertTrue(server.getAttribute(name, "StageP99Micros") instanceof TabularData),
+          () -> assertEquals(Map.of("multiply_reward", 1L, "extra_bonus", 0L, "miss", 0L), metrics.getBonusImpacts())
+      );
+    } finally {
+      server.unregisterMBean(name);
+    }
+  }
+}
@@ -4,12 +4,18 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertIterableEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.cyberspeed.config.ConfigParser;
 import com.cyberspeed.engine.ScratchGameEngine;
+import com.cyberspeed.model.PlayResult;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -234,6 +240,33 @@ class ScratchGameEngineDeterministicTest {
             "Should calculate correct reward based on configuration");
     }
 
+    @Test
+    @DisplayName("Should play concurrent rounds with different bets on a single engine")
+    void givenSharedEngine_whenPlayingConcurrently_thenEveryResultMatchesItsBet() throws Exception {
+        // Given
+        final var config = new ConfigParser(TEST_A_EXTRA_BONUS_PLUS500_CONFIG_PATH).load();
+        final var engine = new ScratchGameEngine(config, BET_AMOUNT);
+        final var executor = Executors.newFixedThreadPool(4);
+
+        // When
+        final List<Future<PlayResult>> results = new ArrayList<>();
+        try {
+            for (int bet = 1; bet <= 200; bet++) {
+                final int roundBet = bet;
+                results.add(executor.submit(() -> engine.play(new SplittableRandom(roundBet), roundBet)));
+            }
+
+            // Then
+            for (int bet = 1; bet <= 200; bet++) {
+                final var result = results.get(bet - 1).get();
+                assertEquals(bet * 5 * 10 * 2 * 2 + 500, result.getReward(), "Reward should follow the bet of its round");
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertNull(engine.getLastResult(), "Playing a round should not change the engine");
+    }
+
     private long countSymbol(String[][] matrix, String symbol) {
         return Arrays.stream(matrix)
             .flatMap(Arrays::stream)
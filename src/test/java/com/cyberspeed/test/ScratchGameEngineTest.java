@@ -1,17 +1,27 @@
 package com.cyberspeed.test;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.cyberspeed.config.ConfigParser;
+import com.cyberspeed.engine.RoundBatch;
 import com.cyberspeed.engine.ScratchGameEngine;
 import com.cyberspeed.exception.InvalidBettingAmountException;
 import com.cyberspeed.exception.InvalidGameConfigurationException;
+import com.cyberspeed.model.PlayResult;
 import com.cyberspeed.model.ScratchGameConfiguration;
+import com.cyberspeed.model.WinCombination;
+import com.cyberspeed.util.RandomUtils;
 import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -21,6 +31,7 @@ class ScratchGameEngineTest {
   private static final String MISSING_BONUS_SYMBOLS_CONFIG_PATH = "json/invalid/missing-bonus-symbols-config.json";
   private static final String MISSING_STANDARD_SYMBOLS_CONFIG_PATH = "json/invalid/missing-standard-symbols-config.json";
   private static final String CONFIG_PATH = "json/valid/config.json";
+  private static final String TEST_A_MULTIPLY_REWARD_CONFIG_TEN_X_PATH = "json/deterministic/test-symbol_A_deterministic-win-with-multiply_reward_10x.json";
   private static final int BET_AMOUNT = 100;
   private static final int BET_AMOUNT_ZERO = 0;
 
@@ -112,4 +123,221 @@ class ScratchGameEngineTest {
     );
   }
 
-}
\ No newline at end of file
+  @Test
+  @DisplayName("Should throw InvalidGameConfigurationException for a malformed covered area")
+  void givenMalformedCoveredArea_whenCreatingEngine_thenInvalidGameConfigurationExceptionIsThrown() {
+    // Given
+    final ScratchGameConfiguration config = new ConfigParser(CONFIG_PATH).load();
+    config.getWinCombinations().get("same_symbols_horizontally")
+        .setCoveredAreas(List.of(List.of("0:0", "0-1", "0:2")));
+
+    // When & Then
+    assertThrows(InvalidGameConfigurationException.class, () -> {
+      new ScratchGameEngine(config, BET_AMOUNT);
+    });
+  }
+
+  @Test
+  @DisplayName("Should throw InvalidGameConfigurationException for a covered area outside the grid")
+  void givenCoveredAreaOutsideGrid_whenCreatingEngine_thenInvalidGameConfigurationExceptionIsThrown() {
+    // Given
+    final ScratchGameConfiguration config = new ConfigParser(CONFIG_PATH).load();
+    config.getWinCombinations().get("same_symbols_horizontally")
+        .setCoveredAreas(List.of(List.of("0:0", "0:1", "0:2"), List.of("3:0", "3:1", "3:2")));
+
+    // When
+    final InvalidGameConfigurationException exception = assertThrows(InvalidGameConfigurationException.class,
+        () -> new ScratchGameEngine(config, BET_AMOUNT));
+
+    // Then
+    assertAll(
+        () -> assertTrue(exception.getMessage().contains("'same_symbols_horizontally'"), exception.getMessage()),
+        () -> assertTrue(exception.getMessage().contains("'3:0'"), exception.getMessage())
+    );
+  }
+
+  @Test
+  @DisplayName("Should replay a round from the seed of its generator")
+  void givenSameSeed_whenPlayingRounds_thenResultsAreEqual() {
+    // Given
+    final ScratchGameConfiguration config = new ConfigParser(CONFIG_PATH).load();
+    final ScratchGameEngine first = new ScratchGameEngine(config, BET_AMOUNT,
+        RandomUtils.create("Xoshiro256PlusPlus", 7L));
+    final ScratchGameEngine second = new ScratchGameEngine(config, BET_AMOUNT,
+        RandomUtils.create("Xoshiro256PlusPlus", 7L));
+
+    // When
+    first.startGame();
+    second.startGame();
+
+    // Then
+    assertAll(
+        () -> assertEquals(first.getLastResult(), second.getLastResult(), "Seeded engines should play the same round"),
+        () -> assertEquals(first.play(42L, BET_AMOUNT), second.play(42L, BET_AMOUNT), "Round should be replayed")
+    );
+  }
+
+  @Test
+  @DisplayName("Should fill a batch with the same rounds as played one by one")
+  void givenSameSeed_whenPlayingBatch_thenRoundsMatchSinglePlays() {
+    // Given
+    final ScratchGameConfiguration config = new ConfigParser(CONFIG_PATH).load();
+    final ScratchGameEngine engine = new ScratchGameEngine(config, BET_AMOUNT);
+    final RoundBatch batch = engine.newBatch(256, true);
+    final RandomGenerator batchRand = new SplittableRandom(7L);
+    final RandomGenerator singleRand = new SplittableRandom(7L);
+
+    // When
+    engine.playBatch(batchRand, BET_AMOUNT, batch, 200);
+
+    // Then
+    assertEquals(200, batch.size(), "Should fill the requested number of rounds");
+    final List<String> combinationNames = batch.getCombinationNames();
+    for (int round = 0; round < batch.size(); round++) {
+      final PlayResult result = engine.play(singleRand, BET_AMOUNT);
+      final int index = round;
+      assertEquals(result.getReward(), batch.getRewards()[index], "Reward of round " + index);
+      assertEquals(result.getAppliedBonusSymbol(), batch.getSymbolName(batch.getBonusSymbols()[index]));
+      assertEquals(result.getMatrix()[2][1], batch.getSymbolName(batch.getSymbol(index, 7)));
+      for (int combination = 0; combination < combinationNames.size(); combination++) {
+        final String name = combinationNames.get(combination);
+        final boolean applied = result.getAppliedWinningCombinations().values().stream()
+            .anyMatch(names -> names.contains(name));
+        assertEquals(applied, batch.hasCombination(index, combination), name + " of round " + index);
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("Should play a batch straight into arrays supplied by the caller")
+  void givenCallerArrays_whenPlayingBatch_thenArraysHoldTheRounds() {
+    // Given
+    final ScratchGameConfiguration config = new ConfigParser(CONFIG_PATH).load();
+    final ScratchGameEngine engine = new ScratchGameEngine(config, BET_AMOUNT);
+    final int cells = engine.getRows() * engine.getColumns();
+    final int words = engine.getCombinationWords();
+    final int[] rewards = new int[100];
+    final int[] bonusSymbols = new int[100];
+    final long[] combinations = new long[100 * words];
+    final byte[] boards = new byte[100 * cells];
+    final RoundBatch owned = engine.newBatch(100, true);
+
+    // When
+    final RoundBatch supplied = engine.newBatch(rewards, bonusSymbols, combinations, boards);
+    engine.playBatch(new SplittableRandom(7L), BET_AMOUNT, supplied, 100);
+    engine.playBatch(new SplittableRandom(7L), BET_AMOUNT, owned, 100);
+
+    // Then
+    assertAll(
+        () -> assertSame(rewards, supplied.getRewards()),
+        () -> assertArrayEquals(owned.getRewards(), rewards),
+        () -> assertArrayEquals(owned.getBonusSymbols(), bonusSymbols),
+        () -> assertArrayEquals(owned.getCombinations(), combinations),
+        () -> assertArrayEquals(owned.getBoards(), boards),
+        () -> assertThrows(IllegalArgumentException.class,
+            () -> engine.newBatch(rewards, new int[99], combinations, boards)),
+        () -> assertThrows(IllegalArgumentException.class,
+            () -> engine.newBatch(rewards, bonusSymbols, new long[100 * words - 1], null)),
+        () -> assertThrows(IllegalArgumentException.class,
+            () -> engine.newBatch(rewards, bonusSymbols, combinations, new byte[100 * cells - 1])),
+        () -> assertThrows(IllegalArgumentException.class,
+            () -> engine.newBatch(new int[0], bonusSymbols, combinations, null))
+    );
+  }
+
+  @Test
+  @DisplayName("Should apply the first configured combination of a group when counts are tied")
+  void givenTiedCombinationsInGroup_whenPlaying_thenFirstConfiguredCombinationIsApplied() {
+    // Given
+    final ScratchGameConfiguration config = new ConfigParser(TEST_A_MULTIPLY_REWARD_CONFIG_TEN_X_PATH).load();
+    final WinCombination tied = new WinCombination();
+    tied.setWhen("same_symbols");
+    tied.setCount(8);
+    tied.setGroup("same_symbols");
+    tied.setRewardMultiplier(1000);
+    config.getWinCombinations().put("same_symbol_8_times_tied", tied);
+    final ScratchGameEngine engine = new ScratchGameEngine(config, BET_AMOUNT);
+
+    // When
+    final PlayResult result = engine.play(new SplittableRandom(7L), BET_AMOUNT);
+
+    // Then
+    assertAll(
+        () -> assertEquals(BET_AMOUNT * 5 * 10 * 2 * 2 * 10, result.getReward()),
+        () -> assertEquals(List.of("same_symbol_8_times", "same_symbols_horizontally", "same_symbols_vertically"),
+            result.getAppliedWinningCombinations().get("A"), "Combinations should follow configuration order")
+    );
+  }
+
+  @Test
+  @DisplayName("Should play grids larger than 3x3, on and beyond a single-word bitboard")
+  void givenLargerGrids_whenPlaying_thenMatrixAndRewardFollowTheGrid() {
+    for (int[] dimensions : new int[][] {{5, 5}, {6, 8}, {10, 10}}) {
+      // Given
+      final ScratchGameConfiguration config = new ConfigParser(TEST_A_MULTIPLY_REWARD_CONFIG_TEN_X_PATH).load();
+      config.setRows(dimensions[0]);
+      config.setColumns(dimensions[1]);
+      final ScratchGameEngine engine = new ScratchGameEngine(config, BET_AMOUNT);
+
+      // When
+      final PlayResult result = engine.play(new SplittableRandom(7L), BET_AMOUNT);
+
+      // Then
+      assertAll(
+          () -> assertEquals(dimensions[0], result.getMatrix().length, "Should have the configured rows"),
+          () -> assertEquals(dimensions[1], result.getMatrix()[0].length, "Should have the configured columns"),
+          () -> assertEquals(BET_AMOUNT * 5 * 20 * 2 * 2 * 10, result.getReward()),
+          () -> assertEquals(List.of("same_symbol_9_times", "same_symbols_horizontally", "same_symbols_vertically"),
+              result.getAppliedWinningCombinations().get("A"))
+      );
+    }
+  }
+
+  @Test
+  @DisplayName("Should evaluate a stored board into the result of the round it was played in")
+  void givenPlayedBoard_whenEvaluating_thenResultIsEqual() {
+    // Given
+    final ScratchGameConfiguration config = new ConfigParser(CONFIG_PATH).load();
+    final ScratchGameEngine engine = new ScratchGameEngine(config, BET_AMOUNT);
+    final RoundBatch batch = engine.newBatch(100, true);
+    engine.playBatch(new SplittableRandom(7L), BET_AMOUNT, batch, 100);
+    final RandomGenerator rand = new SplittableRandom(7L);
+
+    // When & Then
+    for (int round = 0; round < batch.size(); round++) {
+      final int[] board = new int[batch.getCells()];
+      for (int cell = 0; cell < board.length; cell++) {
+        board[cell] = batch.getSymbol(round, cell);
+      }
+      assertEquals(engine.play(rand, BET_AMOUNT), engine.evaluate(board, batch.getBonusSymbols()[round], BET_AMOUNT));
+    }
+  }
+
+  @Test
+  @DisplayName("Should throw IllegalArgumentException for an unknown random generator algorithm")
+  void givenUnknownAlgorithm_whenCreatingGenerator_thenIllegalArgumentExceptionIsThrown() {
+    // When & Then
+    assertThrows(IllegalArgumentException.class, () -> RandomUtils.create("NoSuchRandom", 7L));
+  }
+
+  @Test
+  @DisplayName("Should read cells without copying and hand out copies of the matrix")
+  void givenPlayResult_whenReadingMatrix_thenResultCannotBeChanged() {
+    // Given
+    final ScratchGameEngine engine = new ScratchGameEngine(new ConfigParser(CONFIG_PATH).load(), BET_AMOUNT);
+    final PlayResult result = engine.play(42L, BET_AMOUNT);
+    final String symbol = result.getSymbol(1, 2);
+
+    // When
+    final String[][] matrix = result.getMatrix();
+    matrix[1][2] = "changed";
+
+    // Then
+    assertAll(
+        () -> assertEquals(symbol, result.getSymbol(1, 2)),
+        () -> assertEquals(symbol, result.getMatrix()[1][2]),
+        () -> assertEquals(engine.play(42L, BET_AMOUNT), result)
+    );
+  }
+
+}
@@ -0,0 +1,217 @@
+package com.cyberspeed.test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.cyberspeed.config.ConfigParser;
+import com.cyberspeed.engine.GameModel;
+import com.cyberspeed.engine.ScratchGameEngine;
+import com.cyberspeed.metrics.RoundMetrics;
+import com.cyberspeed.server.ScratchGameServer;
+import com.cyberspeed.util.RandomUtils;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator.SplittableGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ScratchGameServerTest {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+  private static final String CONFIG_PATH = "json/valid/config.json";
+  private static final int BET_AMOUNT = 100;
+  private static final long SEED = 42L;
+
+  private final HttpClient client = HttpClient.newHttpClient();
+  private ScratchGameServer server;
+
+  @BeforeEach
+  void setUp() {
+    final ScratchGameEngine engine = new ScratchGameEngine(new ConfigParser(CONFIG_PATH).load(), BET_AMOUNT);
+    server = new ScratchGameServer(() -> engine, BET_AMOUNT,
+        new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 2);
+    server.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.close();
+  }
+
+  @Test
+  @DisplayName("Should play a round for a valid play request")
+  void givenValidRequest_whenPlaying_thenRoundIsReturned() throws Exception {
+    // Given
+    final HttpRequest request = post(ScratchGameServer.PLAY_PATH, "{\"betting_amount\": 250}");
+
+    // When
+    final HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+
+    // Then
+    final JsonNode result = OBJECT_MAPPER.readTree(response.body());
+    assertAll(
+        () -> assertEquals(200, response.statusCode()),
+        () -> assertEquals("application/json", response.headers().firstValue("Content-Type").orElse(null)),
+        () -> assertEquals(3, result.get("matrix").size()),
+        () -> assertTrue(result.get("reward").asInt() % 25 == 0,
+            "The reward should be computed on the requested bet")
+    );
+  }
+
+  @Test
+  @DisplayName("Should play on the default betting amount when the request has no body")
+  void givenEmptyRequest_whenPlaying_thenDefaultBettingAmountIsUsed() throws Exception {
+    // Given
+    final HttpRequest request = post(ScratchGameServer.PLAY_PATH, "");
+
+    // When
+    final HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+
+    // Then
+    assertAll(
+        () -> assertEquals(200, response.statusCode()),
+        () -> assertNotNull(OBJECT_MAPPER.readTree(response.body()).get("matrix"))
+    );
+  }
+
+  @Test
+  @DisplayName("Should reject invalid play requests with an error message")
+  void givenInvalidRequests_whenPlaying_thenErrorsAreReturned() throws Exception {
+    // Given
+    final HttpRequest negativeBet = post(ScratchGameServer.PLAY_PATH, "{\"betting_amount\": -5}");
+    final HttpRequest malformed = post(ScratchGameServer.PLAY_PATH, "{\"betting_amount\": ");
+    final HttpRequest wrongMethod = HttpRequest.newBuilder(uri(ScratchGameServer.PLAY_PATH)).GET().build();
+    final HttpRequest wrongPath = post("/play/again", "");
+    final HttpRequest oversized = post(ScratchGameServer.PLAY_PATH, "{\"betting_amount\": 100" + " ".repeat(8192) + "}");
+
+    // When & Then
+    final HttpResponse<String> negativeBetResponse = client.send(negativeBet, HttpResponse.BodyHandlers.ofString());
+    final HttpResponse<String> malformedResponse = client.send(malformed, HttpResponse.BodyHandlers.ofString());
+    final HttpResponse<String> wrongMethodResponse = client.send(wrongMethod, HttpResponse.BodyHandlers.ofString());
+    final HttpResponse<String> wrongPathResponse = client.send(wrongPath, HttpResponse.BodyHandlers.ofString());
+    final HttpResponse<String> oversizedResponse = client.send(oversized, HttpResponse.BodyHandlers.ofString());
+    assertAll(
+        () -> assertEquals(400, negativeBetResponse.statusCode()),
+        () -> assertEquals("Betting amount must be greater than 0",
+            OBJECT_MAPPER.readTree(negativeBetResponse.body()).get("error").asText()),
+        () -> assertEquals(400, malformedResponse.statusCode()),
+        () -> assertEquals(405, wrongMethodResponse.statusCode()),
+        () -> assertEquals("POST", wrongMethodResponse.headers().firstValue("Allow").orElse(null)),
+        () -> assertEquals(404, wrongPathResponse.statusCode()),
+        () -> assertEquals(413, oversizedResponse.statusCode())
+    );
+  }
+
+  @Test
+  @DisplayName("Should expose the round metrics in the Prometheus text format")
+  void givenServerWithMetrics_whenScraping_thenRoundsAreExported() throws Exception {
+    // Given
+    final RoundMetrics metrics = new RoundMetrics();
+    final GameModel model = GameModel.compile(new ConfigParser(CONFIG_PATH).load());
+    final ScratchGameEngine engine = new ScratchGameEngine(model, BET_AMOUNT, new SplittableRandom(1L), metrics);
+    try (ScratchGameServer metricsServer = new ScratchGameServer(() -> engine, BET_AMOUNT,
+        new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 2, metrics)) {
+      metricsServer.start();
+      final URI base = URI.create("http://localhost:" + metricsServer.getPort());
+      for (int i = 0; i < 3; i++) {
+        client.send(HttpRequest.newBuilder(base.resolve(ScratchGameServer.PLAY_PATH))
+            .POST(HttpRequest.BodyPublishers.noBody()).build(), HttpResponse.BodyHandlers.discarding());
+      }
+
+      // When
+      final HttpResponse<String> response = client.send(
+          HttpRequest.newBuilder(base.resolve(ScratchGameServer.METRICS_PATH)).GET().build(),
+          HttpResponse.BodyHandlers.ofString());
+
+      // Then
+      assertAll(
+          () -> assertEquals(200, response.statusCode()),
+          () -> assertTrue(response.headers().firstValue("Content-Type").orElse("").startsWith("text/plain")),
+          () -> assertTrue(response.body().contains("scratch_game_rounds_total 3\n"), response.body()),
+          () -> assertTrue(response.body().contains("scratch_game_stage_duration_seconds_count{stage=\"serialisation\"} 3\n"),
+              response.body())
+      );
+    }
+  }
+
+  @Test
+  @DisplayName("Should draw every round from a generator split from the seeded generator of the server")
+  void givenSeededServer_whenPlaying_thenRoundsCanBeReplayed() throws Exception {
+    // Given
+    final ScratchGameEngine engine = new ScratchGameEngine(new ConfigParser(CONFIG_PATH).load(), BET_AMOUNT);
+    final SplittableGenerator replay = RandomUtils.createSplittable(RandomUtils.DEFAULT_ALGORITHM, SEED);
+    try (ScratchGameServer seededServer = new ScratchGameServer(() -> engine, BET_AMOUNT,
+        new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 2, null,
+        RandomUtils.createSplittable(RandomUtils.DEFAULT_ALGORITHM, SEED))) {
+      seededServer.start();
+      final URI playUri = URI.create("http://localhost:" + seededServer.getPort() + ScratchGameServer.PLAY_PATH);
+
+      for (int round = 0; round < 3; round++) {
+        // When
+        final HttpResponse<String> response = client.send(HttpRequest.newBuilder(playUri)
+            .POST(HttpRequest.BodyPublishers.noBody()).build(), HttpResponse.BodyHandlers.ofString());
+
+        // Then
+        final String expected = OBJECT_MAPPER.writeValueAsString(engine.play(replay.split(), BET_AMOUNT));
+        final String number = String.valueOf(round);
+        assertAll(
+            () -> assertEquals(number, response.headers().firstValue("X-Round-Number").orElse(null)),
+            () -> assertEquals(expected, response.body())
+        );
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("Should number and draw only the rounds of valid requests")
+  void givenInvalidRequestFirst_whenPlaying_thenValidRoundIsTheFirst() throws Exception {
+    // Given
+    final ScratchGameEngine engine = new ScratchGameEngine(new ConfigParser(CONFIG_PATH).load(), BET_AMOUNT);
+    final SplittableGenerator replay = RandomUtils.createSplittable(RandomUtils.DEFAULT_ALGORITHM, SEED);
+    try (ScratchGameServer seededServer = new ScratchGameServer(() -> engine, BET_AMOUNT,
+        new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 2, null,
+        RandomUtils.createSplittable(RandomUtils.DEFAULT_ALGORITHM, SEED))) {
+      seededServer.start();
+      final URI playUri = URI.create("http://localhost:" + seededServer.getPort() + ScratchGameServer.PLAY_PATH);
+
+      // When
+      final HttpResponse<String> rejected = client.send(HttpRequest.newBuilder(playUri)
+          .POST(HttpRequest.BodyPublishers.ofString("{\"betting_amount\": -5}")).build(),
+          HttpResponse.BodyHandlers.ofString());
+      final HttpResponse<String> played = client.send(HttpRequest.newBuilder(playUri)
+          .POST(HttpRequest.BodyPublishers.noBody()).build(), HttpResponse.BodyHandlers.ofString());
+
+      // Then
+      final String expected = OBJECT_MAPPER.writeValueAsString(engine.play(replay.split(), BET_AMOUNT));
+      assertAll(
+          () -> assertEquals(400, rejected.statusCode()),
+          () -> assertTrue(rejected.headers().firstValue("X-Round-Number").isEmpty()),
+          () -> assertEquals(200, played.statusCode()),
+          () -> assertEquals("0", played.headers().firstValue("X-Round-Number").orElse(null)),
+          () -> assertEquals(expected, played.body())
+      );
+    }
+  }
+
+  private HttpRequest post(String path, String body) {
+    return HttpRequest.newBuilder(uri(path))
+        .header("Content-Type", "application/json")
+        .POST(HttpRequest.BodyPublishers.ofString(body))
+        .build();
+  }
+
+  private URI uri(String path) {
+    return URI.create("http://localhost:" + server.getPort() + path);
+  }
+}
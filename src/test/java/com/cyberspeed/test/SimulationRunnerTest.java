@@ -0,0 +1,99 @@
+package com.cyberspeed.test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.cyberspeed.config.ConfigParser;
+import com.cyberspeed.model.ScratchGameConfiguration;
+import com.cyberspeed.simulation.SimulationRunner;
+import com.cyberspeed.simulation.SimulationStatistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SimulationRunnerTest {
+
+  private static final String CONFIG_PATH = "json/valid/config.json";
+  private static final String TEST_A_MULTIPLY_REWARD_CONFIG_TEN_X_PATH = "json/deterministic/test-symbol_A_deterministic-win-with-multiply_reward_10x.json";
+  private static final int BET_AMOUNT = 100;
+  private static final int ROUNDS = 1_000;
+  private static final long SEED = 42L;
+
+  @Test
+  @DisplayName("Should report exact statistics for a deterministic configuration")
+  void givenDeterministicConfig_whenSimulating_thenStatisticsAreExact() {
+    // Given
+    final ScratchGameConfiguration config = new ConfigParser(TEST_A_MULTIPLY_REWARD_CONFIG_TEN_X_PATH).load();
+    final SimulationRunner runner = new SimulationRunner(config, BET_AMOUNT);
+    final long expectedReward = BET_AMOUNT * 5 * 10 * 2 * 2 * 10;
+
+    // When
+    final SimulationStatistics statistics = runner.run(ROUNDS);
+
+    // Then
+    assertAll(
+        () -> assertEquals(ROUNDS, statistics.getRounds(), "Should play every round"),
+        () -> assertEquals((long) ROUNDS * BET_AMOUNT, statistics.getTotalBet(), "Should sum the bets"),
+        () -> assertEquals(ROUNDS * expectedReward, statistics.getTotalReward(), "Should sum the rewards"),
+        () -> assertEquals(1.0, statistics.getHitFrequency(), "Every round should win"),
+        () -> assertEquals(expectedReward / (double) BET_AMOUNT, statistics.getReturnToPlayer(), 1e-9),
+        () -> assertEquals(ROUNDS, statistics.getCombinationTriggers("same_symbol_8_times")),
+        () -> assertEquals(ROUNDS, statistics.getCombinationTriggers("same_symbols_horizontally")),
+        () -> assertEquals(0, statistics.getCombinationTriggers("same_symbol_9_times")),
+        () -> assertEquals(ROUNDS, statistics.getBonusOccurrences("10x"))
+    );
+  }
+
+  @Test
+  @DisplayName("Should merge statistics of independent runs")
+  void givenTwoRuns_whenMerging_thenCountersAreAdded() {
+    // Given
+    final ScratchGameConfiguration config = new ConfigParser(CONFIG_PATH).load();
+    final SimulationStatistics first = new SimulationRunner(config, BET_AMOUNT).run(ROUNDS);
+    final SimulationStatistics second = new SimulationRunner(config, BET_AMOUNT).run(ROUNDS);
+    final long totalReward = first.getTotalReward() + second.getTotalReward();
+
+    // When
+    first.merge(second);
+
+    // Then
+    assertAll(
+        () -> assertEquals(2L * ROUNDS, first.getRounds()),
+        () -> assertEquals(totalReward, first.getTotalReward()),
+        () -> assertTrue(first.toReport().contains("Return to player"), "Report should contain the RTP")
+    );
+  }
+
+  @Test
+  @DisplayName("Should reproduce a parallel run for the same seed and number of workers")
+  void givenSameSeedAndWorkers_whenSimulatingInParallel_thenResultsAreIdentical() {
+    // Given
+    final ScratchGameConfiguration config = new ConfigParser(CONFIG_PATH).load();
+    final SimulationRunner runner = new SimulationRunner(config, BET_AMOUNT);
+
+    // When
+    final SimulationStatistics first = runner.run(ROUNDS * 10, 4, SEED);
+    final SimulationStatistics second = runner.run(ROUNDS * 10, 4, SEED);
+
+    // Then
+    assertAll(
+        () -> assertEquals(ROUNDS * 10, first.getRounds(), "Should play every round across workers"),
+        () -> assertEquals(first.getTotalReward(), second.getTotalReward(), "Total reward should be reproduced"),
+        () -> assertEquals(first.getWinningRounds(), second.getWinningRounds(), "Winning rounds should be reproduced"),
+        () -> assertEquals(first.getCombinationTriggers("same_symbol_3_times"),
+            second.getCombinationTriggers("same_symbol_3_times"), "Combination triggers should be reproduced")
+    );
+  }
+
+  @Test
+  @DisplayName("Should reject a non-positive number of rounds")
+  void givenZeroRounds_whenSimulating_thenIllegalArgumentExceptionIsThrown() {
+    // Given
+    final ScratchGameConfiguration config = new ConfigParser(CONFIG_PATH).load();
+    final SimulationRunner runner = new SimulationRunner(config, BET_AMOUNT);
+
+    // When & Then
+    assertThrows(IllegalArgumentException.class, () -> runner.run(0));
+  }
+}
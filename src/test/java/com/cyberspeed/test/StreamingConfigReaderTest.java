@@ -0,0 +1,154 @@
+package com.cyberspeed.test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.cyberspeed.config.StreamingConfigReader;
+import com.cyberspeed.model.ScratchGameConfiguration;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonMappingException.Reference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StreamingConfigReaderTest {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+  private static final ObjectWriter NON_NULL_WRITER = new ObjectMapper()
+      .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+      .writer();
+  private static final Path CONFIG_DIRECTORY = Path.of("src", "test", "resources", "json");
+
+  @Test
+  @DisplayName("Should read every test configuration like the ObjectMapper binding, or fail like it")
+  void givenEveryConfigFile_whenReadByBothLoaders_thenOutcomesMatch() throws IOException {
+    // Given
+    final List<Path> configs;
+    try (Stream<Path> paths = Files.walk(CONFIG_DIRECTORY)) {
+      configs = paths.filter(path -> path.toString().endsWith(".json")).sorted().toList();
+    }
+    assertFalse(configs.isEmpty(), "Test configurations should be found under " + CONFIG_DIRECTORY);
+
+    for (Path config : configs) {
+      // When
+      final String bound = outcome(() -> OBJECT_MAPPER.readValue(config.toFile(), ScratchGameConfiguration.class));
+      final String streamed = outcome(() -> StreamingConfigReader.read(config.toFile()));
+
+      // Then
+      assertEquals(bound, streamed, config.toString());
+    }
+  }
+
+  @Test
+  @DisplayName("Should read every property the ObjectMapper binding writes")
+  void givenConfigurationWrittenByBinding_whenReadByStreaming_thenConfigurationIsTheSame() throws IOException {
+    // Given
+    final ScratchGameConfiguration config;
+    try (InputStream inputStream = resource("json/valid/config.json")) {
+      config = OBJECT_MAPPER.readValue(inputStream, ScratchGameConfiguration.class);
+    }
+    // Every bean property set is written, so a property added to the model but not to the reader fails
+    // here; unset ones are left out, since the setters reject nulls the binding would write
+    final String json = NON_NULL_WRITER.writeValueAsString(config);
+
+    // When
+    final ScratchGameConfiguration streamed = StreamingConfigReader.read(stream(json));
+
+    // Then
+    assertAll(
+        () -> assertEquals(config.toString(), streamed.toString()),
+        () -> assertEquals(json, NON_NULL_WRITER.writeValueAsString(streamed))
+    );
+  }
+
+  @Test
+  @DisplayName("Should coerce scalar values the way the ObjectMapper binding does")
+  void givenScalarsOfOtherTypes_whenReadByStreaming_thenValuesAreCoerced() throws IOException {
+    // Given
+    final String json = "{\"columns\": \"3\", \"rows\": 3.0, \"symbols\": "
+        + "{\"A\": {\"reward_multiplier\": \"5\", \"type\": \"standard\", \"extra\": null}}}";
+
+    // When
+    final ScratchGameConfiguration streamed = StreamingConfigReader.read(stream(json));
+
+    // Then
+    final ScratchGameConfiguration bound = OBJECT_MAPPER.readValue(json, ScratchGameConfiguration.class);
+    assertAll(
+        () -> assertEquals(3, streamed.getColumns()),
+        () -> assertEquals(3, streamed.getRows()),
+        () -> assertEquals(5.0, streamed.getSymbols().get("A").getRewardMultiplier()),
+        () -> assertEquals(bound.toString(), streamed.toString())
+    );
+  }
+
+  @Test
+  @DisplayName("Should report invalid values with the path of the field")
+  void givenInvalidValues_whenReadByStreaming_thenErrorsCarryTheirPath() {
+    // Given
+    final String unknownField = "{\"columns\": 3, \"probabilities\": {\"bonus_symbol\": {}}}";
+    final String rejectedValue = "{\"symbols\": {\"A\": {\"type\": \" \"}}}";
+    final String wrongShape = "{\"win_combinations\": {\"x\": {\"count\": [3]}}}";
+
+    // When & Then
+    final JsonMappingException unknown =
+        assertThrows(JsonMappingException.class, () -> StreamingConfigReader.read(stream(unknownField)));
+    final JsonMappingException rejected =
+        assertThrows(JsonMappingException.class, () -> StreamingConfigReader.read(stream(rejectedValue)));
+    final JsonMappingException shape =
+        assertThrows(JsonMappingException.class, () -> StreamingConfigReader.read(stream(wrongShape)));
+    assertAll(
+        () -> assertEquals("probabilities.bonus_symbol", path(unknown)),
+        () -> assertTrue(unknown.getOriginalMessage().startsWith("Unrecognized field \"bonus_symbol\"")),
+        () -> assertEquals("symbols.A.type", path(rejected)),
+        () -> assertEquals("Type cannot be null or empty.", rejected.getOriginalMessage()),
+        () -> assertEquals("win_combinations.x.count", path(shape)),
+        () -> assertThrows(JsonParseException.class, () -> StreamingConfigReader.read(stream("{\"columns\": 3,")))
+    );
+  }
+
+  /**
+   * Describes the result of a load: the configuration with its nested values, or the kind and path of
+   * the failure, since both loaders word their messages differently.
+   */
+  private static String outcome(Callable<ScratchGameConfiguration> load) {
+    try {
+      final ScratchGameConfiguration config = load.call();
+      return config + " " + Objects.hash(config.getSymbols(), config.getProbabilities(), config.getWinCombinations());
+    } catch (JsonParseException e) {
+      return "malformed JSON";
+    } catch (JsonMappingException e) {
+      return "mapping error at '" + path(e) + "'";
+    } catch (Exception e) {
+      return "failure " + e.getClass().getName();
+    }
+  }
+
+  private static InputStream resource(String path) {
+    return StreamingConfigReaderTest.class.getClassLoader().getResourceAsStream(path);
+  }
+
+  private static InputStream stream(String json) {
+    return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static String path(JsonMappingException e) {
+    return e.getPath().stream().map(Reference::getFieldName).collect(Collectors.joining("."));
+  }
+}
@@ -0,0 +1,216 @@
+package com.cyberspeed.test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.cyberspeed.config.ConfigParser;
+import com.cyberspeed.engine.RoundBatch;
+import com.cyberspeed.engine.ScratchGameEngine;
+import com.cyberspeed.exception.TicketPoolException;
+import com.cyberspeed.model.PlayResult;
+import com.cyberspeed.model.ScratchGameConfiguration;
+import com.cyberspeed.model.WinCombination;
+import com.cyberspeed.pool.TicketDealer;
+import com.cyberspeed.pool.TicketPool;
+import com.cyberspeed.pool.TicketPoolWriter;
+import com.cyberspeed.simulation.SimulationStatistics;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TicketPoolTest {
+
+  private static final String CONFIG_PATH = "json/valid/config.json";
+  private static final int BET_AMOUNT = 100;
+  private static final int TICKETS = 5_000;
+  private static final long SEED = 42L;
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  @DisplayName("Should read back every ticket exactly as it was played")
+  void givenWrittenPool_whenReading_thenTicketsMatchPlayedRounds() {
+    // Given
+    final ScratchGameConfiguration config = new ConfigParser(CONFIG_PATH).load();
+    final ScratchGameEngine engine = new ScratchGameEngine(config, BET_AMOUNT);
+    final Path path = tempDir.resolve("pool.bin");
+    final long totalReward = new TicketPoolWriter(engine).write(path, TICKETS, BET_AMOUNT, new SplittableRandom(SEED));
+    final RoundBatch batch = engine.newBatch(TICKETS, true);
+    engine.playBatch(new SplittableRandom(SEED), BET_AMOUNT, batch, TICKETS);
+
+    // When & Then
+    try (TicketPool pool = TicketPool.open(path)) {
+      long readReward = 0;
+      for (int ticket = 0; ticket < TICKETS; ticket++) {
+        assertEquals(batch.getRewards()[ticket], pool.getReward(ticket));
+        assertEquals(batch.getBonusSymbols()[ticket], pool.getBonusSymbol(ticket));
+        for (int cell = 0; cell < batch.getCells(); cell++) {
+          assertEquals(batch.getSymbol(ticket, cell), pool.getSymbol(ticket, cell));
+        }
+        for (int combination = 0; combination < batch.getCombinationNames().size(); combination++) {
+          assertEquals(batch.hasCombination(ticket, combination), pool.hasCombination(ticket, combination));
+        }
+        readReward += pool.getReward(ticket);
+      }
+      final long expectedReward = readReward;
+      assertAll(
+          () -> assertEquals(TICKETS, pool.size()),
+          () -> assertEquals(BET_AMOUNT, pool.getBettingAmount()),
+          () -> assertEquals(3, pool.getRows()),
+          () -> assertEquals(3, pool.getColumns()),
+          () -> assertEquals(batch.getCombinationNames(), pool.getCombinationNames()),
+          () -> assertEquals(expectedReward, totalReward, "Writer should report the total reward of the pool"),
+          () -> assertEquals(batch.getSymbolName(pool.getSymbol(0, 4)), pool.getMatrix(0)[1][1])
+      );
+    }
+  }
+
+  @Test
+  @DisplayName("Should deal every ticket once, in order or shuffled")
+  void givenPool_whenDealingAllTickets_thenEveryTicketIsDealtOnce() {
+    // Given
+    final Path path = writePool(TICKETS);
+
+    try (TicketPool pool = TicketPool.open(path)) {
+      final TicketDealer sequential = TicketDealer.sequential(pool);
+      final TicketDealer shuffled = TicketDealer.shuffled(pool, SEED);
+      final BitSet dealt = new BitSet(TICKETS);
+      final long[] order = new long[TICKETS];
+
+      // When
+      for (int i = 0; i < TICKETS; i++) {
+        assertEquals(i, sequential.next(), "Sequential dealer should follow the pool order");
+        order[i] = shuffled.next();
+        dealt.set((int) order[i]);
+      }
+      final TicketDealer resumed = TicketDealer.shuffled(pool, SEED, TICKETS / 2);
+
+      // Then
+      assertAll(
+          () -> assertEquals(TICKETS, dealt.cardinality(), "Shuffled dealer should be a permutation"),
+          () -> assertEquals(0, shuffled.remaining()),
+          () -> assertEquals(order[TICKETS / 2], resumed.next(), "Same seed should deal the same order"),
+          () -> assertNotEquals(order[TICKETS / 2], TicketDealer.shuffled(pool, SEED + 1, TICKETS / 2).next()),
+          () -> assertThrows(TicketPoolException.class, sequential::next),
+          () -> assertThrows(TicketPoolException.class, shuffled::next)
+      );
+    }
+  }
+
+  @Test
+  @DisplayName("Should read the same tickets and statistics whatever the segment size")
+  void givenSmallSegments_whenReading_thenTicketsAndStatisticsMatch() {
+    // Given
+    final Path path = writePool(TICKETS);
+
+    try (TicketPool pool = TicketPool.open(path); TicketPool segmented = TicketPool.open(path, 1_000)) {
+      // When
+      final SimulationStatistics statistics = pool.statistics();
+      final SimulationStatistics firstHalf = segmented.statistics(0, TICKETS / 2 + 7);
+      firstHalf.merge(segmented.statistics(TICKETS / 2 + 7, TICKETS));
+      final long[] scannedReward = new long[1];
+      segmented.scan(0, TICKETS, (ticket, reward, bonusSymbol) -> {
+        assertEquals(pool.getReward(ticket), reward);
+        assertEquals(pool.getBonusSymbol(ticket), bonusSymbol);
+        scannedReward[0] += reward;
+      });
+
+      // Then
+      for (long ticket = 0; ticket < TICKETS; ticket++) {
+        assertArrayEquals(pool.getMatrix(ticket), segmented.getMatrix(ticket));
+      }
+      assertAll(
+          () -> assertEquals(TICKETS, statistics.getRounds()),
+          () -> assertEquals(statistics.getTotalReward(), scannedReward[0]),
+          () -> assertEquals(statistics.getTotalReward(), firstHalf.getTotalReward()),
+          () -> assertEquals(statistics.getWinningRounds(), firstHalf.getWinningRounds()),
+          () -> assertEquals(statistics.getCombinationTriggers("same_symbol_3_times"),
+              firstHalf.getCombinationTriggers("same_symbol_3_times")),
+          () -> assertEquals(statistics.getBonusOccurrences("10x"), firstHalf.getBonusOccurrences("10x")),
+          () -> assertTrue(statistics.getBonusOccurrences("10x") > 0, "Bonus symbols should be tracked")
+      );
+    }
+  }
+
+  @Test
+  @DisplayName("Should rebuild the full result of a ticket from its stored board")
+  void givenPool_whenRebuildingPlayResults_thenTheyMatchPlayedRounds() {
+    // Given
+    final ScratchGameConfiguration config = new ConfigParser(CONFIG_PATH).load();
+    final ScratchGameEngine engine = new ScratchGameEngine(config, BET_AMOUNT);
+    final Path path = writePool(TICKETS);
+    final SplittableRandom rand = new SplittableRandom(SEED);
+
+    // When & Then
+    try (TicketPool pool = TicketPool.open(path)) {
+      for (long ticket = 0; ticket < TICKETS; ticket++) {
+        final PlayResult result = pool.getPlayResult(ticket, engine);
+        assertEquals(engine.play(rand, BET_AMOUNT), result);
+        assertEquals(pool.getReward(ticket), result.getReward());
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("Should refuse to rebuild tickets with an engine of another configuration")
+  void givenEngineOfOtherConfiguration_whenRebuildingPlayResult_thenTicketPoolExceptionIsThrown() {
+    // Given
+    final Path path = writePool(10);
+    final ScratchGameConfiguration renamed = new ConfigParser(CONFIG_PATH).load();
+    final Map<String, WinCombination> combinations = new LinkedHashMap<>();
+    renamed.getWinCombinations().forEach((name, combination) ->
+        combinations.put(name.equals("same_symbol_3_times") ? "same_symbol_three_times" : name, combination));
+    renamed.setWinCombinations(combinations);
+    final ScratchGameEngine engine = new ScratchGameEngine(renamed, BET_AMOUNT);
+
+    // When & Then
+    try (TicketPool pool = TicketPool.open(path)) {
+      final TicketPoolException exception =
+          assertThrows(TicketPoolException.class, () -> pool.getPlayResult(0, engine));
+      assertTrue(exception.getMessage().contains("same_symbol_three_times"), exception.getMessage());
+    }
+  }
+
+  @Test
+  @DisplayName("Should reject a file that is not a ticket pool")
+  void givenInvalidFile_whenOpening_thenTicketPoolExceptionIsThrown() throws IOException {
+    // Given
+    final Path path = tempDir.resolve("invalid.bin");
+    Files.write(path, new byte[64]);
+    final Path truncated = writePool(10);
+    final byte[] bytes = Files.readAllBytes(truncated);
+    Files.write(truncated, Arrays.copyOf(bytes, bytes.length - 1));
+    // With 24-byte records, 2^61 more tickets wrap the computed file size around to the real one
+    final Path overflowing = tempDir.resolve("overflowing.bin");
+    Files.write(overflowing, ByteBuffer.wrap(bytes.clone()).putLong(16, 10 + (1L << 61)).array());
+
+    // When & Then
+    assertAll(
+        () -> assertThrows(TicketPoolException.class, () -> TicketPool.open(path)),
+        () -> assertThrows(TicketPoolException.class, () -> TicketPool.open(truncated)),
+        () -> assertThrows(TicketPoolException.class, () -> TicketPool.open(overflowing))
+    );
+  }
+
+  private Path writePool(int tickets) {
+    final ScratchGameConfiguration config = new ConfigParser(CONFIG_PATH).load();
+    final Path path = tempDir.resolve("pool-" + tickets + ".bin");
+    new TicketPoolWriter(new ScratchGameEngine(config, BET_AMOUNT)).write(path, tickets, BET_AMOUNT,
+        new SplittableRandom(SEED));
+    return path;
+  }
+}
@@ -0,0 +1,111 @@
+package com.cyberspeed.test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.cyberspeed.engine.SymbolTable;
+import com.cyberspeed.engine.WeightedSymbolSampler;
+import com.cyberspeed.exception.InvalidGameConfigurationException;
+import com.cyberspeed.model.BonusSymbolProbability;
+import com.cyberspeed.model.Probabilities;
+import com.cyberspeed.model.StandardSymbolProbability;
+import com.cyberspeed.model.SymbolDefinition;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class WeightedSymbolSamplerTest {
+
+  private static final int DRAWS = 200_000;
+  private static final long SEED = 42L;
+
+  @Test
+  @DisplayName("Should draw symbols with frequencies matching their weights")
+  void givenWeightedSymbols_whenSampling_thenFrequenciesMatchWeights() {
+    // Given
+    final Map<String, Integer> weights = new LinkedHashMap<>();
+    weights.put("A", 1);
+    weights.put("B", 2);
+    weights.put("C", 3);
+    weights.put("D", 4);
+    final SymbolTable symbolTable = symbolTableOf(weights);
+    final WeightedSymbolSampler sampler = WeightedSymbolSampler.of(weights, symbolTable);
+    final SplittableRandom random = new SplittableRandom(SEED);
+
+    // When
+    final Map<String, Integer> counts = new HashMap<>();
+    for (int i = 0; i < DRAWS; i++) {
+      counts.merge(symbolTable.nameOf(sampler.sample(random)), 1, Integer::sum);
+    }
+
+    // Then
+    assertAll(
+        () -> assertEquals(10, sampler.getTotalWeight(), "Total weight should be the sum of weights"),
+        () -> assertEquals(0.1, counts.get("A") / (double) DRAWS, 0.01, "A should be drawn 10% of the time"),
+        () -> assertEquals(0.2, counts.get("B") / (double) DRAWS, 0.01, "B should be drawn 20% of the time"),
+        () -> assertEquals(0.3, counts.get("C") / (double) DRAWS, 0.01, "C should be drawn 30% of the time"),
+        () -> assertEquals(0.4, counts.get("D") / (double) DRAWS, 0.01, "D should be drawn 40% of the time")
+    );
+  }
+
+  @Test
+  @DisplayName("Should never draw a symbol with zero weight")
+  void givenZeroWeightSymbol_whenSampling_thenSymbolIsNeverDrawn() {
+    // Given
+    final Map<String, Integer> weights = Map.of("A", 0, "B", 7);
+    final SymbolTable symbolTable = symbolTableOf(weights);
+    final WeightedSymbolSampler sampler = WeightedSymbolSampler.of(weights, symbolTable);
+    final SplittableRandom random = new SplittableRandom(SEED);
+
+    // When & Then
+    for (int i = 0; i < DRAWS; i++) {
+      assertFalse("A".equals(symbolTable.nameOf(sampler.sample(random))), "Zero weight symbol should never be drawn");
+    }
+  }
+
+  @Test
+  @DisplayName("Should fall back to MISS when all weights are zero")
+  void givenOnlyZeroWeights_whenSampling_thenMissIsReturned() {
+    // Given
+    final Map<String, Integer> weights = Map.of("A", 0, "B", 0);
+    final SymbolTable symbolTable = symbolTableOf(weights);
+    final WeightedSymbolSampler sampler = WeightedSymbolSampler.of(weights, symbolTable);
+
+    // When & Then
+    assertEquals("MISS", symbolTable.nameOf(sampler.sample(new SplittableRandom(SEED))));
+  }
+
+  @Test
+  @DisplayName("Should throw InvalidGameConfigurationException for negative weights")
+  void givenNegativeWeight_whenCompiling_thenInvalidGameConfigurationExceptionIsThrown() {
+    // Given
+    final Map<String, Integer> weights = Map.of("A", -1);
+    final SymbolTable symbolTable = symbolTableOf(weights);
+
+    // When & Then
+    assertThrows(InvalidGameConfigurationException.class, () -> WeightedSymbolSampler.of(weights, symbolTable));
+  }
+
+  private static SymbolTable symbolTableOf(Map<String, Integer> weights) {
+    final Map<String, SymbolDefinition> definitions = new LinkedHashMap<>();
+    for (String symbol : weights.keySet()) {
+      final SymbolDefinition definition = new SymbolDefinition();
+      definition.setType("standard");
+      definitions.put(symbol, definition);
+    }
+
+    final StandardSymbolProbability standardProbability = new StandardSymbolProbability();
+    standardProbability.setSymbols(weights);
+    final Probabilities probabilities = new Probabilities();
+    probabilities.setStandardSymbols(List.of(standardProbability));
+    probabilities.setBonusSymbols(new BonusSymbolProbability(Map.of("MISS", 1)));
+
+    return SymbolTable.compile(definitions, probabilities);
+  }
+}